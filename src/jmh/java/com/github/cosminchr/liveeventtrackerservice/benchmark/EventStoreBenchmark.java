@@ -0,0 +1,71 @@
+package com.github.cosminchr.liveeventtrackerservice.benchmark;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ColumnarEventServiceImpl;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the in-memory event stores under contention: status updates racing with lookups,
+ * as when the ingest API and the poller work on the same events, and status updates alone.
+ * Every operation picks a random event of the store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventStoreBenchmark {
+
+    @Param({"map", "columnar"})
+    private String store;
+
+    @Param({"10000"})
+    private int events;
+
+    private EventService eventService;
+    private EventStatusUpdateRequest[] updates;
+
+    @Setup
+    public void setUp() {
+        eventService = "columnar".equals(store) ? new ColumnarEventServiceImpl() : new EventServiceImpl();
+        updates = new EventStatusUpdateRequest[events];
+        for (int i = 0; i < events; i++) {
+            updates[i] = new EventStatusUpdateRequest("event-" + i, true);
+            eventService.updateEventStatus(updates[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Event readWriteUpdate() {
+        return eventService.updateEventStatus(updates[ThreadLocalRandom.current().nextInt(events)]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Event readWriteGet() {
+        return eventService.getEvent(updates[ThreadLocalRandom.current().nextInt(events)].getEventId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Event update() {
+        return eventService.updateEventStatus(updates[ThreadLocalRandom.current().nextInt(events)]);
+    }
+}
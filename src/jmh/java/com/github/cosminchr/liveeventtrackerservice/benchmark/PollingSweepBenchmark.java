@@ -0,0 +1,153 @@
+package com.github.cosminchr.liveeventtrackerservice.benchmark;
+
+import com.github.cosminchr.liveeventtrackerservice.config.JournalProperties;
+import com.github.cosminchr.liveeventtrackerservice.config.SchedulerProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
+import com.github.cosminchr.liveeventtrackerservice.service.ExternalApiService;
+import com.github.cosminchr.liveeventtrackerservice.service.MessagePublisherService;
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks a full {@link EventPollingScheduler#pollLiveEvents()} sweep over 1k, 10k and 100k live events.
+ * The upstream answers at once with a score that changes on every sweep, so every poll goes through
+ * change detection and publishing; the publishers only count what they receive. What remains is the
+ * scheduler's own cost: batching, bulkhead permits, virtual-thread hand-off and store updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PollingSweepBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int events;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private final AtomicLong sweep = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private ExecutorService pollingExecutor;
+    private EventJournal eventJournal;
+    private EventPollingScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        EventServiceImpl eventService = new EventServiceImpl();
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setBatchSize(batchSize);
+        properties.setPublishOnlyChanges(true);
+        pollingExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-poller-", 0).factory());
+        eventJournal = new EventJournal(new JournalProperties());
+        eventJournal.start();
+        scheduler = new EventPollingScheduler(eventService, new StubExternalApiService(),
+                new CountingPublisher(), new NoopScoreStream(), pollingExecutor, properties, eventJournal);
+
+        for (int i = 0; i < events; i++) {
+            String eventId = "event-" + i;
+            eventService.updateEventStatus(new EventStatusUpdateRequest(eventId, true));
+            scheduler.scheduleEventPolling(eventId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pollingExecutor.shutdownNow();
+        eventJournal.stop();
+    }
+
+    @Benchmark
+    public long sweep() {
+        sweep.incrementAndGet();
+        scheduler.pollLiveEvents();
+        return published.sum();
+    }
+
+    private long currentScore() {
+        long goals = sweep.get();
+        return Score.of((int) (goals % 100), 0);
+    }
+
+    private final class StubExternalApiService implements ExternalApiService {
+
+        @Override
+        public EventApiResponse fetchEventData(String eventId) {
+            return new EventApiResponse(eventId, currentScore());
+        }
+
+        @Override
+        public List<EventApiResponse> fetchEventData(Collection<String> eventIds) {
+            long score = currentScore();
+            List<EventApiResponse> responses = new ArrayList<>(eventIds.size());
+            for (String eventId : eventIds) {
+                responses.add(new EventApiResponse(eventId, score));
+            }
+            return responses;
+        }
+
+        @Override
+        public CompletableFuture<EventApiResponse> fetchEventDataAsync(String eventId) {
+            return CompletableFuture.completedFuture(fetchEventData(eventId));
+        }
+    }
+
+    private final class CountingPublisher implements MessagePublisherService {
+
+        @Override
+        public void publishEventUpdate(EventUpdateMessage message) {
+            published.increment();
+        }
+
+        @Override
+        public void publishEventUpdates(List<EventUpdateMessage> messages) {
+            published.add(messages.size());
+        }
+    }
+
+    private static final class NoopScoreStream implements ScoreStreamService {
+
+        @Override
+        public void publish(EventUpdateMessage message) {
+        }
+
+        @Override
+        public SseEmitter subscribe(Collection<String> eventIds, Long lastEventId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getSubscriberCount() {
+            return 0;
+        }
+
+        @Override
+        public long getMaxLag() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.cosminchr.liveeventtrackerservice.benchmark;
+
+import com.github.cosminchr.liveeventtrackerservice.config.EventUpdateBinarySerializer;
+import com.github.cosminchr.liveeventtrackerservice.config.JournalProperties;
+import com.github.cosminchr.liveeventtrackerservice.config.SimpleJsonSerializer;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.SimpleKafkaMessagePublisherServiceImpl;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of event updates: the JSON and binary Kafka serializers, and the
+ * ObjectMapper path of {@link SimpleKafkaMessagePublisherServiceImpl}, which serializes to a String
+ * and hands it to a producer. The publisher sends to a {@link MockProducer} that acknowledges at once,
+ * so the benchmark covers everything up to the network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializerBenchmark {
+
+    private static final String TOPIC = "event-updates";
+
+    private EventUpdateMessage message;
+    private SimpleJsonSerializer<EventUpdateMessage> jsonSerializer;
+    private EventUpdateBinarySerializer binarySerializer;
+    private MockProducer<String, String> producer;
+    private SimpleKafkaMessagePublisherServiceImpl publisher;
+    private EventJournal eventJournal;
+
+    @Setup
+    public void setUp() {
+        message = EventUpdateMessage.builder()
+                .eventId("event-12345")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.of(2025, 6, 1, 20, 45, 12))
+                .build();
+        jsonSerializer = new SimpleJsonSerializer<>();
+        binarySerializer = new EventUpdateBinarySerializer();
+
+        // KafkaTemplate closes the producer after every send, as the producer factory normally hands out a shared one
+        producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer()) {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+        ProducerFactory<String, String> producerFactory = new ProducerFactory<>() {
+            @Override
+            public Producer<String, String> createProducer() {
+                return producer;
+            }
+        };
+        eventJournal = new EventJournal(new JournalProperties());
+        eventJournal.start();
+        publisher = new SimpleKafkaMessagePublisherServiceImpl(new KafkaTemplate<>(producerFactory), null, eventJournal);
+        ReflectionTestUtils.setField(publisher, "eventUpdatesTopic", TOPIC);
+        ReflectionTestUtils.setField(publisher, "wireFormat", "json");
+    }
+
+    /**
+     * The mock producer keeps every record it was sent; drop them so the heap does not grow across iterations.
+     */
+    @TearDown(Level.Iteration)
+    public void clearProducer() {
+        producer.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventJournal.stop();
+    }
+
+    @Benchmark
+    public byte[] jsonSerializer() {
+        return jsonSerializer.serialize(TOPIC, message);
+    }
+
+    @Benchmark
+    public byte[] binarySerializer() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public long publisherJson() {
+        publisher.publishEventUpdate(message);
+        return publisher.getAcknowledgedCount();
+    }
+}
@@ -0,0 +1,288 @@
+package com.github.cosminchr.liveeventtrackerservice.load;
+
+import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end load and soak test of the service against its own mock upstream.
+ * <p>
+ * The service is started on a real port, publishing to an embedded Kafka broker, with the mock external API
+ * configured for latency and errors. The test first sends one status update per event, open loop: every
+ * request has an intended start time, and its latency is measured from that time rather than from when it
+ * was actually sent, so a stalled service is charged for the requests it held back (coordinated omission).
+ * With several rates in {@code load.postRates} the events are split into steps of increasing rate, and the
+ * highest rate the service keeps up with inside {@code load.sloMs} is reported as its maximum sustained rate.
+ * It then lets the service poll all events for the soak period, sampling how many polls run at once, and
+ * records, at the mock, how closely every event keeps its polling interval. The results are written to
+ * {@code load.report}.
+ * <p>
+ * Settings are read from system properties; see {@link #EVENTS} and the fields after it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@EmbeddedKafka(partitions = 3, topics = "event-updates")
+class EventTrackerLoadTest {
+
+    static final int EVENTS = Integer.getInteger("load.events", 20_000);
+    static final int POST_RATE = Integer.getInteger("load.postRate", 2_000);
+    static final int[] POST_RATES = Arrays.stream(System.getProperty("load.postRates", String.valueOf(POST_RATE)).split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    static final long SLO_MS = Long.getLong("load.sloMs", 100);
+    static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("load.virtualThreads", "true"));
+    static final long POLLING_INTERVAL_MS = Long.getLong("load.pollingIntervalMs", 10_000);
+    static final int SOAK_SECONDS = Integer.getInteger("load.soakSeconds", 60);
+    static final int BATCH_SIZE = Integer.getInteger("load.batchSize", 50);
+    static final int MAX_CONCURRENT_EVENTS = Integer.getInteger("load.maxConcurrentEvents", 500);
+    static final String MOCK_LATENCY = System.getProperty("load.mockLatency", "lognormal");
+    static final long MOCK_LATENCY_MEAN_MS = Long.getLong("load.mockLatencyMeanMs", 20);
+    static final String MOCK_ERROR_RATE = System.getProperty("load.mockErrorRate", "0.01");
+    static final String REPORT = System.getProperty("load.report", "build/reports/load-test/report.md");
+
+    private static final int PORT = freePort();
+    private static final long SAMPLE_INTERVAL_MS = 50;
+
+    @Autowired
+    private PollRecorder pollRecorder;
+
+    @Autowired
+    private EventPollingScheduler eventPollingScheduler;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> PORT);
+        registry.add("spring.kafka.bootstrap-servers", () -> System.getProperty("spring.embedded.kafka.brokers"));
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        registry.add("event-tracker.external-api.base-url", () -> "http://localhost:" + PORT + "/api/mock");
+        registry.add("event-tracker.scheduler.polling-interval-ms", () -> POLLING_INTERVAL_MS);
+        registry.add("event-tracker.scheduler.adaptive-polling", () -> false);
+        registry.add("event-tracker.scheduler.batch-size", () -> BATCH_SIZE);
+        registry.add("event-tracker.scheduler.max-concurrent-events", () -> MAX_CONCURRENT_EVENTS);
+        registry.add("event-tracker.external-api.max-connections", () -> MAX_CONCURRENT_EVENTS);
+        registry.add("event-tracker.external-api.max-connections-per-route", () -> MAX_CONCURRENT_EVENTS);
+        registry.add("event-tracker.mock-api.latency-distribution", () -> MOCK_LATENCY);
+        registry.add("event-tracker.mock-api.latency-mean-ms", () -> MOCK_LATENCY_MEAN_MS);
+        registry.add("event-tracker.mock-api.error-rate", () -> MOCK_ERROR_RATE);
+        // Per-update logging would measure the console rather than the service
+        registry.add("logging.level.com.github.cosminchr.liveeventtrackerservice", () -> "WARN");
+        registry.add("logging.level.org.springframework.scheduling", () -> "WARN");
+    }
+
+    /**
+     * The outcome of sending status updates at one rate.
+     */
+    private record Step(int targetRate, int requests, double achievedRate, long failures,
+                        Histogram correctedLatencyUs, Histogram serviceTimeUs) {
+
+        boolean isSustained() {
+            return failures == 0
+                    && achievedRate >= targetRate * 0.95
+                    && correctedLatencyUs.getValueAtPercentile(99) <= TimeUnit.MILLISECONDS.toMicros(SLO_MS);
+        }
+    }
+
+    @Test
+    void loadAndSoak() throws Exception {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        // Load: one status update per event, open loop, in steps of increasing rate
+        List<Step> steps = new ArrayList<>(POST_RATES.length);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            URI uri = URI.create("http://localhost:" + PORT + "/api/events/status");
+            int firstEvent = 0;
+            for (int i = 0; i < POST_RATES.length; i++) {
+                int requests = (EVENTS - firstEvent) / (POST_RATES.length - i);
+                steps.add(sendStatusUpdates(client, uri, firstEvent, requests, POST_RATES[i]));
+                firstEvent += requests;
+            }
+        }
+
+        // Soak: let the service poll every event for SOAK_SECONDS, sampling the polls in flight
+        Histogram inFlightPolls = new ConcurrentHistogram(3);
+        Histogram liveThreads = new ConcurrentHistogram(3);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        pollRecorder.startRecording();
+        long soakStart = System.nanoTime();
+        sampler.scheduleAtFixedRate(() -> {
+            inFlightPolls.recordValue(eventPollingScheduler.getInFlightPolls());
+            liveThreads.recordValue(threadBean.getThreadCount());
+        }, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Thread.sleep(TimeUnit.SECONDS.toMillis(SOAK_SECONDS));
+        sampler.shutdownNow();
+        pollRecorder.stopRecording();
+        long soakEnd = System.nanoTime();
+
+        LoadReport report = new LoadReport();
+        report.section("Settings")
+                .row("Threads", VIRTUAL_THREADS ? "virtual" : "platform")
+                .row("Events", EVENTS)
+                .row("Status update rates (target)", Arrays.toString(POST_RATES) + "/s")
+                .row("Latency objective", "p99 " + SLO_MS + " ms")
+                .row("Polling interval", POLLING_INTERVAL_MS + " ms")
+                .row("Batch size", BATCH_SIZE)
+                .row("Max concurrent events", MAX_CONCURRENT_EVENTS)
+                .row("Mock latency", MOCK_LATENCY + ", mean " + MOCK_LATENCY_MEAN_MS + " ms")
+                .row("Mock error rate", MOCK_ERROR_RATE)
+                .row("Soak", SOAK_SECONDS + " s");
+
+        Histogram correctedLatencyUs = new Histogram(3);
+        Histogram serviceTimeUs = new Histogram(3);
+        long failedPosts = 0;
+        int maxSustainedRate = 0;
+        for (Step step : steps) {
+            correctedLatencyUs.add(step.correctedLatencyUs());
+            serviceTimeUs.add(step.serviceTimeUs());
+            failedPosts += step.failures();
+            if (step.isSustained()) {
+                maxSustainedRate = Math.max(maxSustainedRate, step.targetRate());
+            }
+        }
+        report.section("Status updates")
+                .row("Sent", EVENTS)
+                .row("Failed", failedPosts)
+                .row("Max sustained rate", maxSustainedRate > 0 ? maxSustainedRate + "/s" : "none of the steps")
+                .latency("Latency, corrected for coordinated omission", correctedLatencyUs)
+                .latency("Service time, uncorrected", serviceTimeUs);
+        for (Step step : steps) {
+            report.section("Status updates at " + step.targetRate() + "/s")
+                    .row("Sent", step.requests())
+                    .row("Failed", step.failures())
+                    .row("Throughput", String.format("%.0f/s", step.achievedRate()))
+                    .row("Sustained", step.isSustained() ? "yes" : "no")
+                    .latency("Latency, corrected for coordinated omission", step.correctedLatencyUs());
+        }
+
+        double soakSeconds = (soakEnd - soakStart) / 1e9;
+        double expectedPollRate = EVENTS * 1000.0 / POLLING_INTERVAL_MS;
+        report.section("Polling")
+                .row("Active events", eventPollingScheduler.getActivePollingEventCount())
+                .row("Events polled during soak", pollRecorder.getPolledEvents())
+                .row("Poll throughput", String.format("%.0f/s (expected %.0f/s)",
+                        pollRecorder.getPolls() / soakSeconds, expectedPollRate))
+                .row("Upstream requests", String.format("%.0f/s", pollRecorder.getRequests() / soakSeconds))
+                .row("Failed polls", eventPollingScheduler.getFailedPolls())
+                .row("Retried polls", eventPollingScheduler.getRetriedPolls())
+                .row("Published updates", eventPollingScheduler.getPublishedUpdates())
+                .row("Suppressed updates", eventPollingScheduler.getSuppressedUpdates())
+                .row("Peak platform threads", threadBean.getPeakThreadCount())
+                .distribution("Polls in flight, sampled every " + SAMPLE_INTERVAL_MS + " ms", inFlightPolls)
+                .distribution("Platform threads, sampled every " + SAMPLE_INTERVAL_MS + " ms", liveThreads)
+                .distribution("Gap between polls of an event (ms)", pollRecorder.getGapsMs())
+                .distribution("Poll later than the interval by (ms)", pollRecorder.getLateByMs());
+
+        Path reportPath = Path.of(REPORT);
+        report.write(reportPath);
+        System.out.println(Files.readString(reportPath));
+
+        assertEquals(0, failedPosts, "Every status update should be accepted");
+        assertEquals(EVENTS, eventPollingScheduler.getActivePollingEventCount());
+    }
+
+    /**
+     * Sends status updates for a range of events at a fixed rate and waits for all responses.
+     *
+     * @param client     The HTTP client
+     * @param uri        The status update endpoint
+     * @param firstEvent The number of the first event
+     * @param requests   The number of updates to send
+     * @param rate       The target rate, in updates per second
+     * @return The outcome of the step
+     */
+    private static Step sendStatusUpdates(HttpClient client, URI uri, int firstEvent, int requests, int rate)
+            throws InterruptedException {
+        Histogram correctedLatencyUs = new ConcurrentHistogram(3);
+        Histogram serviceTimeUs = new ConcurrentHistogram(3);
+        LongAdder failures = new LongAdder();
+        CountDownLatch completed = new CountDownLatch(requests);
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long intendedStart = start + i * periodNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"eventId\":\"load-" + (firstEvent + i) + "\",\"live\":true}"))
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long now = System.nanoTime();
+                correctedLatencyUs.recordValue(TimeUnit.NANOSECONDS.toMicros(now - intendedStart));
+                serviceTimeUs.recordValue(TimeUnit.NANOSECONDS.toMicros(now - sent));
+                if (error != null || response.statusCode() != 200) {
+                    failures.increment();
+                }
+                completed.countDown();
+            });
+        }
+        completed.await(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Step(rate, requests, requests / seconds, failures.sum(), correctedLatencyUs, serviceTimeUs);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("No free port for the load test", e);
+        }
+    }
+
+    @TestConfiguration
+    static class PollRecorderConfig {
+
+        @Bean
+        PollRecorder pollRecorder() {
+            return new PollRecorder(POLLING_INTERVAL_MS);
+        }
+
+        @Bean
+        FilterRegistrationBean<PollRecorder> pollRecorderRegistration(PollRecorder pollRecorder) {
+            FilterRegistrationBean<PollRecorder> registration = new FilterRegistrationBean<>(pollRecorder);
+            registration.addUrlPatterns("/api/mock/*");
+            return registration;
+        }
+    }
+}
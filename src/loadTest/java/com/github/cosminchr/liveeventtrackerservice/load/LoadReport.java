@@ -0,0 +1,83 @@
+package com.github.cosminchr.liveeventtrackerservice.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Markdown report of a load or startup test run: sections of name/value rows and percentile tables.
+ */
+class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99, 100};
+
+    private final StringBuilder markdown;
+    private boolean inTable;
+
+    LoadReport() {
+        this("Load test report");
+    }
+
+    LoadReport(String title) {
+        markdown = new StringBuilder("# ").append(title).append('\n');
+    }
+
+    LoadReport section(String title) {
+        markdown.append("\n## ").append(title).append("\n\n");
+        inTable = false;
+        return this;
+    }
+
+    LoadReport row(String name, Object value) {
+        if (!inTable) {
+            markdown.append("| | |\n|---|---|\n");
+            inTable = true;
+        }
+        markdown.append("| ").append(name).append(" | ").append(value).append(" |\n");
+        return this;
+    }
+
+    /**
+     * Adds the percentiles of a histogram recorded in microseconds, reported in milliseconds.
+     */
+    LoadReport latency(String title, Histogram histogramUs) {
+        return percentiles(title, histogramUs, 1000.0);
+    }
+
+    /**
+     * Adds the percentiles of a histogram recorded in milliseconds.
+     */
+    LoadReport distribution(String title, Histogram histogramMs) {
+        return percentiles(title, histogramMs, 1.0);
+    }
+
+    private LoadReport percentiles(String title, Histogram histogram, double unitsPerMs) {
+        markdown.append("\n**").append(title).append("** (").append(histogram.getTotalCount()).append(" samples)\n\n");
+        markdown.append("| mean |");
+        for (double percentile : PERCENTILES) {
+            markdown.append(percentile == 100 ? " max" : " p" + format(percentile)).append(" |");
+        }
+        markdown.append("\n|---|");
+        markdown.append("---|".repeat(PERCENTILES.length));
+        markdown.append("\n| ").append(format(histogram.getMean() / unitsPerMs)).append(" |");
+        for (double percentile : PERCENTILES) {
+            markdown.append(' ').append(format(histogram.getValueAtPercentile(percentile) / unitsPerMs)).append(" |");
+        }
+        markdown.append('\n');
+        inTable = false;
+        return this;
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, markdown);
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.cosminchr.liveeventtrackerservice.load;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records when the service polls each event, as seen by the mock upstream.
+ * <p>
+ * Every request to the mock is attributed to the events it asks for. While recording, the gap between
+ * two consecutive polls of an event is compared with the polling interval, which shows how closely the
+ * scheduler keeps its cadence under load.
+ */
+class PollRecorder extends OncePerRequestFilter {
+
+    private static final String EVENT_PATH = "/api/mock/events/";
+
+    private final long intervalMs;
+    private final Map<String, Long> lastPollNanos = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> polledEvents = new ConcurrentHashMap<>();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final Histogram gapsMs = new ConcurrentHistogram(3);
+    private final Histogram lateByMs = new ConcurrentHistogram(3);
+    private volatile boolean recording;
+
+    PollRecorder(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/mock/events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        String uri = request.getRequestURI();
+        if (uri.startsWith(EVENT_PATH)) {
+            recordPoll(uri.substring(EVENT_PATH.length()), now);
+        } else {
+            String ids = request.getParameter("ids");
+            if (ids != null) {
+                for (String eventId : ids.split(",")) {
+                    recordPoll(eventId, now);
+                }
+            }
+        }
+        if (recording) {
+            requests.increment();
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void recordPoll(String eventId, long now) {
+        Long previous = lastPollNanos.put(eventId, now);
+        if (!recording) {
+            return;
+        }
+        polls.increment();
+        polledEvents.put(eventId, Boolean.TRUE);
+        if (previous != null) {
+            long gapMs = TimeUnit.NANOSECONDS.toMillis(now - previous);
+            gapsMs.recordValue(gapMs);
+            lateByMs.recordValue(Math.max(0, gapMs - intervalMs));
+        }
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    long getPolls() {
+        return polls.sum();
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    int getPolledEvents() {
+        return polledEvents.size();
+    }
+
+    Histogram getGapsMs() {
+        return gapsMs;
+    }
+
+    Histogram getLateByMs() {
+        return lateByMs;
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.cosminchr.liveeventtrackerservice.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the time to first poll of the packaged service with and without the startup optimizations.
+ * <p>
+ * Every configuration starts the extracted boot jar in {@code startup.directory} as a separate JVM, against an
+ * embedded Kafka broker and the service's own mock upstream. As soon as the port accepts requests, a status update
+ * for one event with a short polling interval is sent, and the {@code event.tracker.startup.first.poll} gauge is
+ * read once the upstream has answered the first poll. The directory must hold the CDS archive, so the test runs
+ * after {@code cdsArchive}; use {@code ./gradlew startupComparison}. The results, with the hardware they were
+ * measured on, are written to {@code startup.report}.
+ */
+@Tag("startup")
+@EmbeddedKafka(partitions = 3, topics = "event-updates")
+class StartupTimeTest {
+
+    static final int RUNS = Integer.getInteger("startup.runs", 5);
+    static final Path DIRECTORY = Path.of(System.getProperty("startup.directory", "build/cds"));
+    static final String JAR = System.getProperty("startup.jar", "live-event-tracker-service-0.0.1-SNAPSHOT.jar");
+    static final String JAVA = System.getProperty("startup.java",
+            ProcessHandle.current().info().command().orElse("java"));
+    static final String REPORT = System.getProperty("startup.report", "build/reports/startup/report.md");
+
+    private static final long POLLING_INTERVAL_MS = 100;
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(60);
+    private static final String PROFILE = "--spring.profiles.active=fast-startup";
+    private static final String AOT = "-Dspring.aot.enabled=true";
+    private static final String CDS = "-XX:SharedArchiveFile=application.jsa";
+
+    private static final List<Configuration> CONFIGURATIONS = List.of(
+            new Configuration("Default", List.of(), List.of()),
+            new Configuration("fast-startup profile", List.of(), List.of(PROFILE)),
+            new Configuration("fast-startup profile, AOT", List.of(AOT), List.of(PROFILE)),
+            new Configuration("fast-startup profile, AOT, CDS archive", List.of(CDS, AOT), List.of(PROFILE)));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * How the service is started: JVM options and application arguments.
+     */
+    private record Configuration(String name, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    @Test
+    void timeToFirstPoll() throws Exception {
+        assertTrue(Files.exists(DIRECTORY.resolve(JAR)), "Run ./gradlew cdsArchive first: no " + JAR + " in " + DIRECTORY);
+        String brokers = System.getProperty("spring.embedded.kafka.brokers");
+
+        LoadReport report = new LoadReport("Startup report");
+        report.section("Hardware")
+                .row("CPU", cpuModel())
+                .row("Available processors", Runtime.getRuntime().availableProcessors())
+                .row("Operating system", System.getProperty("os.name") + " " + System.getProperty("os.version")
+                        + " (" + System.getProperty("os.arch") + ")")
+                .row("JVM", JAVA + " (" + javaVersion() + ")");
+
+        report.section("Time to first poll (ms), " + RUNS + " runs each");
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            for (Configuration configuration : CONFIGURATIONS) {
+                long[] firstPollMs = new long[RUNS];
+                for (int run = 0; run < RUNS; run++) {
+                    firstPollMs[run] = measure(client, configuration, brokers, run);
+                }
+                Arrays.sort(firstPollMs);
+                report.row(configuration.name(), String.format("median %d, min %d, max %d",
+                        firstPollMs[RUNS / 2], firstPollMs[0], firstPollMs[RUNS - 1]));
+            }
+        }
+
+        Path reportPath = Path.of(REPORT);
+        report.write(reportPath);
+        System.out.println(Files.readString(reportPath));
+    }
+
+    /**
+     * Starts the service once and reads its time to first poll.
+     *
+     * @return The {@code event.tracker.startup.first.poll} gauge, in milliseconds
+     */
+    private long measure(HttpClient client, Configuration configuration, String brokers, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(JAVA);
+        command.addAll(configuration.jvmArgs());
+        command.add("-jar");
+        command.add(JAR);
+        command.addAll(configuration.appArgs());
+        command.add("--server.port=" + port);
+        command.add("--spring.kafka.bootstrap-servers=" + brokers);
+        command.add("--event-tracker.external-api.base-url=http://localhost:" + port + "/api/mock");
+
+        Path log = Path.of(REPORT).resolveSibling(
+                configuration.name().toLowerCase().replaceAll("[^a-z0-9]+", "-") + "-" + run + ".log");
+        Files.createDirectories(log.getParent());
+        Process process = new ProcessBuilder(command)
+                .directory(DIRECTORY.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+            URI statusUri = URI.create("http://localhost:" + port + "/api/events/status");
+            HttpRequest statusUpdate = HttpRequest.newBuilder(statusUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"eventId\":\"startup-1\",\"live\":true,\"pollingIntervalMs\":"
+                            + POLLING_INTERVAL_MS + "}"))
+                    .build();
+            while (!isOk(client, statusUpdate)) {
+                waitUntil(deadline, process, log);
+            }
+
+            HttpRequest gauge = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/actuator/metrics/event.tracker.startup.first.poll")).build();
+            double firstPollMs;
+            while (Double.isNaN(firstPollMs = readGaugeMs(client, gauge))) {
+                waitUntil(deadline, process, log);
+            }
+            return Math.round(firstPollMs);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean isOk(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // Not listening yet
+            return false;
+        }
+    }
+
+    /**
+     * Reads the time to first poll from the metrics endpoint, converted to milliseconds.
+     *
+     * @return The gauge value, or NaN if the first poll has not been answered yet
+     */
+    private double readGaugeMs(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            JsonNode metric = objectMapper.readTree(response.body());
+            double value = metric.path("measurements").path(0).path("value").asDouble(Double.NaN);
+            // The base unit depends on the registries on the classpath
+            return "seconds".equals(metric.path("baseUnit").asText()) ? value * 1000 : value;
+        } catch (IOException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static void waitUntil(long deadline, Process process, Path log) throws InterruptedException {
+        if (!process.isAlive() || System.nanoTime() > deadline) {
+            throw new IllegalStateException("Service did not answer a poll in time; see " + log.toAbsolutePath());
+        }
+        Thread.sleep(10);
+    }
+
+    private static String cpuModel() {
+        try (var lines = Files.lines(Path.of("/proc/cpuinfo"))) {
+            return lines.filter(line -> line.startsWith("model name"))
+                    .map(line -> line.substring(line.indexOf(':') + 1).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException | RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    private static String javaVersion() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(JAVA, "-version").redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        process.waitFor();
+        return output.lines().findFirst().orElse("unknown");
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("No free port for the startup test", e);
+        }
+    }
+}
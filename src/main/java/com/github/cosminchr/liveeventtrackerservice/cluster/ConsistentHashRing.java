@@ -0,0 +1,101 @@
+package com.github.cosminchr.liveeventtrackerservice.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring that assigns keys to nodes.
+ * <p>
+ * Every node is placed on the ring at {@code virtualNodes} points, and a key belongs to the node
+ * of the first point at or after the hash of the key. Virtual nodes spread the keys evenly over
+ * the nodes, and adding or removing a node only moves the keys of the ring segments it gains or
+ * loses, about 1/n of all keys, while every other key keeps its owner.
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    /**
+     * Creates a ring.
+     *
+     * @param nodes        The node IDs; duplicates are ignored
+     * @param virtualNodes The number of points per node on the ring
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(new TreeSet<>(nodes));
+        int pointsPerNode = Math.max(1, virtualNodes);
+
+        Point[] ring = new Point[this.nodes.size() * pointsPerNode];
+        int i = 0;
+        for (String node : this.nodes) {
+            for (int v = 0; v < pointsPerNode; v++) {
+                ring[i++] = new Point(hash(node + "#" + v), node);
+            }
+        }
+        // Ties between points, however unlikely, are broken by node ID so every instance builds the same ring
+        Arrays.sort(ring, (a, b) -> a.hash != b.hash ? Long.compare(a.hash, b.hash) : a.node.compareTo(b.node));
+
+        this.points = new long[ring.length];
+        this.owners = new String[ring.length];
+        for (int p = 0; p < ring.length; p++) {
+            points[p] = ring[p].hash;
+            owners[p] = ring[p].node;
+        }
+    }
+
+    /**
+     * Gets the node that owns a key.
+     *
+     * @param key The key
+     * @return The owning node, or null if the ring has no nodes
+     */
+    public String ownerOf(String key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int position = Arrays.binarySearch(points, hash(key));
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return owners[position == points.length ? 0 : position];
+    }
+
+    /**
+     * Gets the nodes of the ring.
+     *
+     * @return The node IDs, sorted
+     */
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Hashes a string to a position on the ring.
+     * FNV-1a over the UTF-8 bytes, followed by the Murmur3 finaliser so that similar keys
+     * such as "event1" and "event2" land far apart.
+     *
+     * @param value The string
+     * @return The hash
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Point(long hash, String node) {
+    }
+}
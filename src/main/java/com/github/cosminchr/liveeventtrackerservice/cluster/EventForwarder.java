@@ -0,0 +1,80 @@
+package com.github.cosminchr.liveeventtrackerservice.cluster;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Forwards event status updates to the instance that owns the events.
+ * Updates are sent to the internal endpoints of the owner, which apply them without forwarding them again.
+ */
+@Component
+@ConditionalOnProperty(name = "event-tracker.cluster.enabled", havingValue = "true")
+@Slf4j
+public class EventForwarder {
+
+    static final String STATUS_PATH = "/internal/events/status";
+    static final String HANDOVER_PATH = "/internal/events/status?lastUpdated={lastUpdated}";
+    static final String BATCH_PATH = "/internal/events/status/batch?async={async}";
+
+    private final RestTemplate restTemplate;
+
+    public EventForwarder(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Forwards a single status update to its owner and waits for it to be applied.
+     *
+     * @param node    The owning instance
+     * @param request The status update request
+     * @return The updated event
+     * @throws RestClientException if the owner cannot be reached or fails
+     */
+    public Event forward(String node, EventStatusUpdateRequest request) {
+        log.debug("Forwarding event status update: eventId={}, owner={}", request.getEventId(), node);
+        return restTemplate.postForObject(node + STATUS_PATH, request, Event.class);
+    }
+
+    /**
+     * Hands a status update over to the new owner of the event, which ignores it if it has updated the event since.
+     *
+     * @param node        The owning instance
+     * @param request     The status update request
+     * @param lastUpdated When this instance last updated the event, or null to have the owner apply it anyway
+     * @return The event at the owner after the handover
+     * @throws RestClientException if the owner cannot be reached or fails
+     */
+    public Event handOver(String node, EventStatusUpdateRequest request, LocalDateTime lastUpdated) {
+        if (lastUpdated == null) {
+            return forward(node, request);
+        }
+        log.debug("Handing over event: eventId={}, owner={}, lastUpdated={}", request.getEventId(), node, lastUpdated);
+        return restTemplate.postForObject(node + HANDOVER_PATH, request, Event.class, lastUpdated);
+    }
+
+    /**
+     * Forwards a batch of status updates to their owner.
+     *
+     * @param node     The owning instance
+     * @param requests The status update requests, all owned by the node
+     * @param async    Whether the owner should queue the updates instead of applying them before responding
+     * @return One result per update, with indexes relative to the forwarded batch
+     * @throws RestClientException if the owner cannot be reached or fails
+     */
+    public List<EventStatusUpdateResult> forward(String node, List<EventStatusUpdateRequest> requests, boolean async) {
+        log.debug("Forwarding batch of event status updates: updates={}, owner={}, async={}", requests.size(), node, async);
+        EventStatusUpdateResult[] results = restTemplate.postForObject(
+                node + BATCH_PATH, requests, EventStatusUpdateResult[].class, async);
+        return results == null ? List.of() : Arrays.asList(results);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the non-blocking HTTP client used to call the external API.
+ * The client keeps a pool of keep-alive connections, negotiates HTTP/2 where the
+ * upstream supports it and runs all I/O on a small, fixed set of reactor threads.
+ */
+@Configuration
+public class AsyncHttpClientConfig {
+
+    @Value("${event-tracker.external-api.connection-timeout:5000}")
+    private long connectionTimeoutMs;
+
+    @Value("${event-tracker.external-api.read-timeout:5000}")
+    private long readTimeoutMs;
+
+    @Value("${event-tracker.external-api.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${event-tracker.external-api.max-connections-per-route:200}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${event-tracker.external-api.http-version-policy:NEGOTIATE}")
+    private HttpVersionPolicy httpVersionPolicy;
+
+    /**
+     * Creates and starts the async HTTP client.
+     *
+     * @return The CloseableHttpAsyncClient bean
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient asyncHttpClient() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build();
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .setDefaultTlsConfig(TlsConfig.custom()
+                                .setVersionPolicy(httpVersionPolicy)
+                                .build())
+                        .build())
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(Runtime.getRuntime().availableProcessors())
+                        .setSoKeepAlive(true)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        client.start();
+        return client;
+    }
+}
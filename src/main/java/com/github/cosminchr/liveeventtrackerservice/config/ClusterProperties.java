@@ -0,0 +1,46 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for sharding live events across service instances.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.cluster")
+public class ClusterProperties {
+
+    /**
+     * Whether events are sharded across instances. When disabled, every instance polls the events it receives.
+     */
+    private boolean enabled = false;
+
+    /**
+     * ID of this instance: the base URL at which the other instances reach it, for example http://10.0.0.1:8080.
+     */
+    private String nodeId;
+
+    /**
+     * IDs of all instances, including this one. Ignored when a members file is configured.
+     */
+    private List<String> members = new ArrayList<>();
+
+    /**
+     * File shared by all instances that lists the IDs of all instances, one per line.
+     * Blank lines and lines starting with # are ignored. The file is re-read every refresh interval.
+     */
+    private String membersFile;
+
+    /**
+     * Number of points per instance on the consistent-hash ring.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Interval at which the membership is refreshed and events owned by other instances are handed over, in milliseconds.
+     */
+    private long refreshIntervalMs = 5000;
+}
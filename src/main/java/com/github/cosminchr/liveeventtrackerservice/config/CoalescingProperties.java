@@ -0,0 +1,23 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for coalescing requests to the external API.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.external-api.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * How long a fetched event is reused for further requests of the same event, in milliseconds.
+     * 0 disables the cache, so only requests that overlap in time are coalesced.
+     */
+    private long cacheTtlMs = 0;
+
+    /**
+     * Interval at which expired results are removed from the cache, in milliseconds.
+     */
+    private long evictIntervalMs = 60000;
+}
@@ -0,0 +1,33 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.persistence.FsyncPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the durable event store.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.store.durable")
+public class DurableStoreProperties {
+
+    /**
+     * Directory holding the write-ahead log segments and the snapshot.
+     */
+    private String directory = "data/event-store";
+
+    /**
+     * When appended mutations are forced to disk: always, interval or never.
+     */
+    private FsyncPolicy fsync = FsyncPolicy.INTERVAL;
+
+    /**
+     * Interval between two flushes of the write-ahead log, in milliseconds.
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * Size of the current write-ahead log segment above which the store is compacted into a new snapshot, in bytes.
+     */
+    private long compactThresholdBytes = 64L * 1024 * 1024;
+}
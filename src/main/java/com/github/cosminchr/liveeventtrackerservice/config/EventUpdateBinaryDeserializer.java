@@ -0,0 +1,70 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Deserializer for event updates written by {@link EventUpdateBinarySerializer}.
+ * <p>
+ * Records without the {@link EventUpdateBinaryFormat#FORMAT_HEADER} header are recognised by
+ * their first byte, and JSON records are decoded as JSON. Consumers can therefore switch to
+ * this deserializer before the producer switches to the binary format.
+ */
+public class EventUpdateBinaryDeserializer implements Deserializer<EventUpdateMessage> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        // Nothing to configure
+    }
+
+    @Override
+    public EventUpdateMessage deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == '{') {
+            return readJson(data);
+        }
+        return EventUpdateBinaryFormat.decode(data);
+    }
+
+    @Override
+    public EventUpdateMessage deserialize(String topic, Headers headers, byte[] data) {
+        Header format = headers == null ? null : headers.lastHeader(EventUpdateBinaryFormat.FORMAT_HEADER);
+        if (data == null || format == null) {
+            return deserialize(topic, data);
+        }
+
+        String formatName = new String(format.value(), StandardCharsets.UTF_8);
+        if (!EventUpdateBinaryFormat.FORMAT_BINARY_V1.equals(formatName)) {
+            throw new SerializationException("Unsupported event update format: " + formatName);
+        }
+        return EventUpdateBinaryFormat.decode(data);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+
+    private EventUpdateMessage readJson(byte[] data) {
+        try {
+            return objectMapper.readValue(data, EventUpdateMessage.class);
+        } catch (Exception e) {
+            throw new SerializationException("Error deserializing JSON event update", e);
+        }
+    }
+}
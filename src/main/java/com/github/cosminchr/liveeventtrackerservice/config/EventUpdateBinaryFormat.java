@@ -0,0 +1,162 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of {@link EventUpdateMessage}.
+ * <p>
+ * Layout of version 1, with all integers encoded as unsigned LEB128 varints:
+ * <pre>
+ *   version      1 byte, always {@link #VERSION}
+ *   eventId      varint length + UTF-8 bytes
+ *   flags        1 byte, see FLAG_* constants
+ *   score        varint home + varint away             (if FLAG_SCORE)
+ *   period       varint period                         (if FLAG_PERIOD)
+ *   timestamp    varint epoch milliseconds             (if FLAG_TIMESTAMP)
+ * </pre>
+ * Timestamps are converted between {@link LocalDateTime} and epoch milliseconds as if they were UTC, so they
+ * keep millisecond precision and decode to the same local date-time as in JSON, whatever the time zones of the
+ * producer and the consumer.
+ * A typical update takes 15-20 bytes, against around 80 bytes as JSON.
+ */
+public final class EventUpdateBinaryFormat {
+
+    /**
+     * Kafka header that tells consumers which format a record value is in.
+     */
+    public static final String FORMAT_HEADER = "event-update-format";
+
+    /**
+     * Value of {@link #FORMAT_HEADER} for records in this format.
+     */
+    public static final String FORMAT_BINARY_V1 = "binary-v1";
+
+    /**
+     * Schema version, written as the first byte of every record.
+     */
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_SCORE = 1;
+    private static final int FLAG_PERIOD = 1 << 1;
+    private static final int FLAG_TIMESTAMP = 1 << 2;
+
+    private EventUpdateBinaryFormat() {
+    }
+
+    /**
+     * Encodes a message.
+     *
+     * @param message The message
+     * @return The encoded bytes
+     */
+    public static byte[] encode(EventUpdateMessage message) {
+        byte[] eventId = message.getEventId() == null
+                ? new byte[0]
+                : message.getEventId().getBytes(StandardCharsets.UTF_8);
+        long score = message.getCurrentScore();
+        int flags = 0;
+
+        if (Score.isPresent(score)) {
+            flags |= FLAG_SCORE;
+            if (Score.period(score) != 0) {
+                flags |= FLAG_PERIOD;
+            }
+        }
+        if (message.getTimestamp() != null) {
+            flags |= FLAG_TIMESTAMP;
+        }
+
+        // Upper bound: version, flags, the event ID and its length, four varints of at most 10 bytes
+        byte[] buffer = new byte[2 + 5 + eventId.length + 40];
+        int position = 0;
+        buffer[position++] = VERSION;
+        position = writeVarint(buffer, position, eventId.length);
+        System.arraycopy(eventId, 0, buffer, position, eventId.length);
+        position += eventId.length;
+        buffer[position++] = (byte) flags;
+
+        if ((flags & FLAG_SCORE) != 0) {
+            position = writeVarint(buffer, position, Score.home(score));
+            position = writeVarint(buffer, position, Score.away(score));
+        }
+        if ((flags & FLAG_PERIOD) != 0) {
+            position = writeVarint(buffer, position, Score.period(score));
+        }
+        if ((flags & FLAG_TIMESTAMP) != 0) {
+            long epochMillis = message.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli();
+            position = writeVarint(buffer, position, epochMillis);
+        }
+
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Decodes a message.
+     *
+     * @param data The encoded bytes
+     * @return The message
+     * @throws SerializationException if the data is not a valid version 1 record
+     */
+    public static EventUpdateMessage decode(byte[] data) {
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new SerializationException("Unsupported event update format version: "
+                    + (data.length == 0 ? "empty" : data[0]));
+        }
+
+        try {
+            int[] position = {1};
+            int eventIdLength = (int) readVarint(data, position);
+            String eventId = new String(data, position[0], eventIdLength, StandardCharsets.UTF_8);
+            position[0] += eventIdLength;
+            int flags = data[position[0]++];
+
+            long score = Score.NONE;
+            if ((flags & FLAG_SCORE) != 0) {
+                int home = (int) readVarint(data, position);
+                int away = (int) readVarint(data, position);
+                int period = (flags & FLAG_PERIOD) != 0 ? (int) readVarint(data, position) : 0;
+                score = Score.of(home, away, period);
+            }
+
+            LocalDateTime timestamp = null;
+            if ((flags & FLAG_TIMESTAMP) != 0) {
+                timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(readVarint(data, position)), ZoneOffset.UTC);
+            }
+
+            return new EventUpdateMessage(eventId, score, timestamp);
+        } catch (IndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated event update record", e);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Invalid score in event update record", e);
+        }
+    }
+
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in event update record");
+    }
+}
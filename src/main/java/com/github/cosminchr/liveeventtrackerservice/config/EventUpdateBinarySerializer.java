@@ -0,0 +1,62 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializer that writes event updates in the compact {@link EventUpdateBinaryFormat}.
+ * Every record is tagged with the {@link EventUpdateBinaryFormat#FORMAT_HEADER} header,
+ * which requires brokers from Kafka 0.11 onwards.
+ * <p>
+ * The serializer is not a Spring bean, as it is handed to the producer factory directly, so it records its
+ * serialization time in the global meter registry, to which Spring Boot adds its own registries.
+ */
+public class EventUpdateBinarySerializer implements Serializer<EventUpdateMessage> {
+
+    private static final byte[] FORMAT_HEADER_VALUE =
+            EventUpdateBinaryFormat.FORMAT_BINARY_V1.getBytes(StandardCharsets.UTF_8);
+
+    private static final Timer SERIALIZATION_TIMER = Timer.builder("event.tracker.publish.serialization")
+            .description("Time to serialize an event update")
+            .tag("format", "binary")
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        // Nothing to configure
+    }
+
+    @Override
+    public byte[] serialize(String topic, EventUpdateMessage data) {
+        if (data == null) {
+            return null;
+        }
+        return EventUpdateBinaryFormat.encode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, EventUpdateMessage data) {
+        if (data == null) {
+            return null;
+        }
+        headers.remove(EventUpdateBinaryFormat.FORMAT_HEADER);
+        headers.add(EventUpdateBinaryFormat.FORMAT_HEADER, FORMAT_HEADER_VALUE);
+        long startNanos = System.nanoTime();
+        byte[] encoded = EventUpdateBinaryFormat.encode(data);
+        SERIALIZATION_TIMER.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return encoded;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+}
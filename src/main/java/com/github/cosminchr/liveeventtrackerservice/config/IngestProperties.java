@@ -0,0 +1,28 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk ingestion of event status updates.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.ingest")
+public class IngestProperties {
+
+    /**
+     * Maximum number of updates accepted in a single JSON array request.
+     */
+    private int maxBatchSize = 1000;
+
+    /**
+     * Number of updates read from an NDJSON stream before they are applied together.
+     */
+    private int streamChunkSize = 500;
+
+    /**
+     * Maximum number of accepted updates waiting to be applied in asynchronous mode.
+     * Updates that do not fit are rejected.
+     */
+    private int queueCapacity = 10000;
+}
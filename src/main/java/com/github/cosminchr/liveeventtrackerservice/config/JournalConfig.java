@@ -0,0 +1,25 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the journal of poll and publish outcomes.
+ */
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfig {
+
+    /**
+     * Creates the journal; its writer thread runs for the lifetime of the application context.
+     *
+     * @param properties The journal settings at startup
+     * @return The EventJournal bean
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EventJournal eventJournal(JournalProperties properties) {
+        return new EventJournal(properties);
+    }
+}
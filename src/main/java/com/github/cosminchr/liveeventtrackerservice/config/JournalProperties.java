@@ -0,0 +1,71 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.journal.JournalCategory;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the journal of poll and publish outcomes.
+ * These are the settings at startup; they can be changed at runtime through the journal actuator endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.journal")
+public class JournalProperties {
+
+    /**
+     * Whether entries are recorded at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of entries buffered for the writer, rounded up to a power of two.
+     * Entries recorded while the buffer is full are dropped.
+     */
+    private int bufferSize = 16384;
+
+    /**
+     * Time the writer waits before checking the buffer again once it has written every entry, in milliseconds.
+     */
+    private long idleWaitMs = 10;
+
+    /**
+     * Sampling and rate limit of each category; categories that are not listed record every entry.
+     */
+    private Map<JournalCategory, Category> categories = new EnumMap<>(JournalCategory.class);
+
+    /**
+     * Gets the settings of a category.
+     *
+     * @param category The category
+     * @return The configured settings, or the defaults if the category is not configured
+     */
+    public Category getCategory(JournalCategory category) {
+        Category settings = categories.get(category);
+        return settings != null ? settings : new Category();
+    }
+
+    /**
+     * Sampling and rate limit of one category.
+     */
+    @Data
+    public static class Category {
+
+        /**
+         * Whether entries of the category are recorded.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Records one entry out of this many.
+         */
+        private int sampleEvery = 1;
+
+        /**
+         * Maximum number of sampled entries recorded per second; 0 disables the limit.
+         */
+        private double maxPerSecond = 0;
+    }
+}
@@ -1,12 +1,16 @@
 package com.github.cosminchr.liveeventtrackerservice.config;
 
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -14,15 +18,22 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Configuration for Kafka.
  * Only active when the logging publisher is not in use.
+ * <p>
+ * Nothing here connects to the broker while the context starts unless topics are created at startup:
+ * the producer is created on the first send, and with event-tracker.kafka.topic-creation set to
+ * "background" or "none" the admin client does not block the startup either.
  */
 @Configuration
+@Slf4j
 @ConditionalOnProperty(name = "event-tracker.kafka.use-logging-publisher", havingValue = "false", matchIfMissing = false)
 public class KafkaConfig {
 
@@ -32,8 +43,31 @@ public class KafkaConfig {
     @Value("${event-tracker.kafka.event-updates-topic:event-updates}")
     private String eventUpdatesTopic;
 
+    @Value("${event-tracker.kafka.wire-format:json}")
+    private String wireFormat;
+
+    @Value("${event-tracker.kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${event-tracker.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${event-tracker.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${event-tracker.kafka.producer.idempotence:true}")
+    private boolean idempotence;
+
+    @Value("${event-tracker.kafka.producer.delivery-timeout-ms:120000}")
+    private int deliveryTimeoutMs;
+
+    @Value("${event-tracker.kafka.topic-creation:startup}")
+    private String topicCreation;
+
     /**
      * Creates a KafkaAdmin bean for managing Kafka topics.
+     * Topics are only created while the context starts if event-tracker.kafka.topic-creation is "startup";
+     * otherwise the admin client is not used until {@link #backgroundTopicCreation} or someone else needs it.
      *
      * @return The KafkaAdmin bean
      */
@@ -41,7 +75,27 @@ public class KafkaConfig {
     public KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
         configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        return new KafkaAdmin(configs);
+        KafkaAdmin kafkaAdmin = new KafkaAdmin(configs);
+        kafkaAdmin.setAutoCreate("startup".equalsIgnoreCase(topicCreation));
+        return kafkaAdmin;
+    }
+
+    /**
+     * Creates the topics once the application is ready, on a thread of its own,
+     * so a slow or unreachable broker never delays the startup.
+     *
+     * @param kafkaAdmin The KafkaAdmin bean
+     * @return The listener that creates the topics
+     */
+    @Bean
+    @ConditionalOnProperty(name = "event-tracker.kafka.topic-creation", havingValue = "background")
+    public ApplicationListener<ApplicationReadyEvent> backgroundTopicCreation(KafkaAdmin kafkaAdmin) {
+        return event -> Thread.ofVirtual().name("kafka-topic-creation").start(() -> {
+            // Failures are logged by the admin, as it is not fatal if the broker is unavailable
+            if (kafkaAdmin.initialize()) {
+                log.info("Created or verified Kafka topics in the background");
+            }
+        });
     }
 
     /**
@@ -58,22 +112,25 @@ public class KafkaConfig {
     }
 
     /**
-     * Creates a producer factory for EventUpdateMessage.
+     * Creates the single producer factory behind both templates, so the application runs one producer
+     * (and one set of broker connections) whichever wire format is in use. The value serializer is picked
+     * by type: Strings, which the JSON publisher serializes itself, are written as they are, and
+     * EventUpdateMessages are written by the serializer chosen by event-tracker.kafka.wire-format:
+     * "binary" selects {@link EventUpdateBinarySerializer}, anything else keeps {@link SimpleJsonSerializer}.
+     * The producer itself is created on the first send.
      *
      * @return The ProducerFactory bean
      */
     @Bean
-    public ProducerFactory<String, EventUpdateMessage> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, SimpleJsonSerializer.class);
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        // Explicitly disable idempotence to work with older Kafka versions
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+    public ProducerFactory<String, Object> producerFactory() {
+        Serializer<EventUpdateMessage> eventUpdateSerializer = "binary".equalsIgnoreCase(wireFormat)
+                ? new EventUpdateBinarySerializer() : new SimpleJsonSerializer<>();
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(String.class, new StringSerializer());
+        valueSerializers.put(EventUpdateMessage.class, eventUpdateSerializer);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return new DefaultKafkaProducerFactory<>(producerConfigs(), new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers));
     }
 
     /**
@@ -83,35 +140,48 @@ public class KafkaConfig {
      */
     @Bean
     public KafkaTemplate<String, EventUpdateMessage> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        return new KafkaTemplate<>(typed(producerFactory()));
     }
 
     /**
-     * Creates a producer factory for String messages.
+     * Creates a KafkaTemplate for String messages.
      *
-     * @return The ProducerFactory bean
+     * @return The KafkaTemplate bean
      */
     @Bean
-    public ProducerFactory<String, String> stringProducerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        // Explicitly disable idempotence to work with older Kafka versions
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+    public KafkaTemplate<String, String> stringKafkaTemplate() {
+        return new KafkaTemplate<>(typed(producerFactory()));
+    }
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+    /**
+     * Narrows the shared producer factory to the value type of a template.
+     * This is safe because the value serializer accepts every type the templates send.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> ProducerFactory<String, V> typed(ProducerFactory<String, ?> producerFactory) {
+        return (ProducerFactory<String, V>) producerFactory;
     }
 
     /**
-     * Creates a KafkaTemplate for String messages.
+     * Builds the producer settings of the producer factory.
+     * Records are held for up to linger.ms so that a sweep's updates leave in a few large,
+     * compressed produce requests. With idempotence enabled the producer retries transient
+     * failures on its own without duplicating or reordering records; it requires brokers
+     * from Kafka 0.11 onwards, so it can be switched off for older clusters.
      *
-     * @return The KafkaTemplate bean
+     * @return A mutable map of producer settings without serializers
      */
-    @Bean
-    public KafkaTemplate<String, String> stringKafkaTemplate() {
-        return new KafkaTemplate<>(stringProducerFactory());
+    private Map<String, Object> producerConfigs() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        configProps.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, idempotence ? 5 : 1);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return configProps;
     }
 }
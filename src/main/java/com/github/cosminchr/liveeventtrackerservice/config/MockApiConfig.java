@@ -0,0 +1,12 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the mock external API.
+ */
+@Configuration
+@EnableConfigurationProperties(MockApiProperties.class)
+public class MockApiConfig {
+}
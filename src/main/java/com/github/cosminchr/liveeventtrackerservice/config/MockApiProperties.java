@@ -0,0 +1,43 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.mock.LatencyDistribution;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the mock external API.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.mock-api")
+public class MockApiProperties {
+
+    /**
+     * Distribution of the added response latency.
+     */
+    private LatencyDistribution latencyDistribution = LatencyDistribution.NONE;
+
+    /**
+     * Mean of the added response latency, in milliseconds.
+     */
+    private long latencyMeanMs = 20;
+
+    /**
+     * Shape of the lognormal latency distribution; larger values give a longer tail.
+     */
+    private double latencySigma = 1.0;
+
+    /**
+     * Upper bound of the added response latency, in milliseconds.
+     */
+    private long latencyMaxMs = 10000;
+
+    /**
+     * Fraction of requests answered with 503 Service Unavailable, between 0 and 1.
+     */
+    private double errorRate = 0.0;
+
+    /**
+     * Probability that an event's score changes between two requests, between 0 and 1.
+     */
+    private double scoreChangeProbability = 0.1;
+}
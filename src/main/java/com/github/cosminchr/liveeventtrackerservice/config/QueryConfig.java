@@ -0,0 +1,12 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the event read API.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryProperties.class)
+public class QueryConfig {
+}
@@ -0,0 +1,27 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the event read API.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.query")
+public class QueryProperties {
+
+    /**
+     * Interval between two refreshes of the snapshot the read API is served from, in milliseconds.
+     */
+    private long refreshIntervalMs = 1000;
+
+    /**
+     * Number of events returned per page when the request does not set a limit.
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * Maximum number of events returned per page.
+     */
+    private int maxPageSize = 1000;
+}
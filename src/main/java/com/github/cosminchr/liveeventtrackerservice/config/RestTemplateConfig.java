@@ -1,16 +1,39 @@
 package com.github.cosminchr.liveeventtrackerservice.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration for RestTemplate.
+ * The RestTemplate is backed by a pooled keep-alive HTTP client that applies
+ * the configured connection and read timeouts to every upstream call.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${event-tracker.external-api.connection-timeout:5000}")
+    private long connectionTimeoutMs;
+
+    @Value("${event-tracker.external-api.read-timeout:5000}")
+    private long readTimeoutMs;
+
+    @Value("${event-tracker.external-api.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${event-tracker.external-api.max-connections-per-route:200}")
+    private int maxConnectionsPerRoute;
+
     /**
      * Creates a RestTemplateBuilder bean.
      *
@@ -21,14 +44,42 @@ public class RestTemplateConfig {
         return new RestTemplateBuilder();
     }
 
+    /**
+     * Creates the pooled HTTP client used by the RestTemplate.
+     *
+     * @return The CloseableHttpClient bean
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     /**
      * Creates a RestTemplate bean.
      *
-     * @param builder The RestTemplateBuilder
+     * @param builder          The RestTemplateBuilder
+     * @param pooledHttpClient The pooled HTTP client
      * @return The RestTemplate bean
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient pooledHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient))
+                .build();
     }
 }
@@ -1,22 +1,35 @@
 package com.github.cosminchr.liveeventtrackerservice.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
- * Configuration for the task scheduler.
+ * Configuration for the task scheduler and the polling executor.
+ * <p>
+ * Both follow {@code spring.threads.virtual.enabled}, the switch that also moves Tomcat's request
+ * handling onto virtual threads: with virtual threads every scheduled run and every poll gets its own
+ * virtual thread, with platform threads they share fixed pools.
  */
 @Configuration
+@EnableConfigurationProperties(SchedulerProperties.class)
 public class SchedulerConfig {
 
     /**
-     * Creates a TaskScheduler bean.
+     * Creates a TaskScheduler bean backed by a pool of platform threads.
      *
      * @return The TaskScheduler bean
      */
     @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(5);
@@ -24,4 +37,48 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * Creates a TaskScheduler bean that runs every scheduled task on a new virtual thread.
+     *
+     * @return The TaskScheduler bean
+     */
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskScheduler virtualThreadTaskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("task-scheduler-");
+        return scheduler;
+    }
+
+    /**
+     * Creates the executor that runs the per-event fetch and publish work.
+     * Each poll gets its own virtual thread, so blocking on the upstream API
+     * does not tie up the scheduler threads. Concurrency is bounded by the
+     * scheduler itself.
+     *
+     * @return The polling ExecutorService bean
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService pollingExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-poller-", 0).factory());
+    }
+
+    /**
+     * Creates the executor that runs the per-event fetch and publish work on platform threads.
+     * The pool has one thread for every poll and retry the scheduler lets run at the same time,
+     * so a blocked upstream call never delays another poll.
+     *
+     * @param schedulerProperties The scheduler properties
+     * @return The polling ExecutorService bean
+     */
+    @Bean(name = "pollingExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService platformPollingExecutor(SchedulerProperties schedulerProperties) {
+        int threads = Math.max(1, schedulerProperties.getMaxConcurrentEvents()
+                + Math.max(0, schedulerProperties.getMaxConcurrentRetries()));
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("event-poller-", 0).factory());
+    }
 }
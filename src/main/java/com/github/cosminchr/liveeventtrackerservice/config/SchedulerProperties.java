@@ -0,0 +1,104 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the event polling scheduler.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.scheduler")
+public class SchedulerProperties {
+
+    /**
+     * Default interval between two polls of the same event, in milliseconds.
+     */
+    private long pollingIntervalMs = 10000;
+
+    /**
+     * Resolution of the polling timing wheel, in milliseconds.
+     */
+    private long tickMs = 100;
+
+    /**
+     * Number of buckets in the polling timing wheel.
+     */
+    private int wheelSize = 512;
+
+    /**
+     * Maximum number of events that are fetched and published concurrently.
+     */
+    private int maxConcurrentEvents = 100;
+
+    /**
+     * Maximum number of due events fetched from the external API in a single request.
+     * A value of 1 fetches every event with its own request.
+     */
+    private int batchSize = 1;
+
+    /**
+     * Whether to publish an update only when the polled score differs from the last published one.
+     */
+    private boolean publishOnlyChanges = false;
+
+    /**
+     * Number of unchanged polls after which the current score is published anyway as a heartbeat.
+     * Only used when publishing only changes; 0 disables heartbeats.
+     */
+    private int heartbeatEveryPolls = 0;
+
+    /**
+     * Whether to adapt the polling interval of every event to how often its score changes.
+     * The interval drops to {@code minPollingIntervalMs} after a change and grows by
+     * {@code backoffMultiplier} with every unchanged poll, up to {@code maxPollingIntervalMs}.
+     * Events scheduled with an explicit polling interval are always polled at that interval.
+     */
+    private boolean adaptivePolling = false;
+
+    /**
+     * Polling interval of an event right after its score changed, in milliseconds.
+     */
+    private long minPollingIntervalMs = 2000;
+
+    /**
+     * Longest polling interval of an event whose score does not change, in milliseconds.
+     */
+    private long maxPollingIntervalMs = 60000;
+
+    /**
+     * Factor by which the polling interval grows after every poll with an unchanged score.
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Number of times a poll that failed because of the external API is retried before waiting for the next regular poll.
+     */
+    private int maxRetries = 2;
+
+    /**
+     * Delay before the first retry of a failed poll, in milliseconds.
+     */
+    private long retryDelayMs = 1000;
+
+    /**
+     * Factor by which the retry delay grows with every further retry.
+     */
+    private double retryBackoffMultiplier = 2.0;
+
+    /**
+     * Maximum number of retries that are fetched concurrently, in addition to the regular polls.
+     * Retries beyond this are dropped, so a failing upstream cannot crowd out regular polls.
+     */
+    private int maxConcurrentRetries = 10;
+
+    /**
+     * Maximum sustained number of requests per second sent to the external API by the scheduler, batches counting as one.
+     * 0 disables the limit.
+     */
+    private double maxRequestsPerSecond = 0;
+
+    /**
+     * Number of requests that may be sent at once after a quiet period, on top of the sustained rate.
+     */
+    private int requestBurst = 10;
+}
@@ -0,0 +1,84 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for consuming event status changes from Kafka.
+ * Only active when event-tracker.kafka.status-consumer.enabled is true.
+ */
+@Configuration
+@EnableKafka
+@EnableConfigurationProperties(StatusConsumerProperties.class)
+@ConditionalOnProperty(name = "event-tracker.kafka.status-consumer.enabled", havingValue = "true")
+public class StatusConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    private final StatusConsumerProperties properties;
+
+    public StatusConsumerConfig(StatusConsumerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Creates a consumer factory for status changes.
+     * Values are read as JSON without type headers; a record that cannot be read is handed to the
+     * listener with a null value, so it is rejected like an invalid update instead of blocking its partition.
+     * Offsets are never committed automatically.
+     *
+     * @return The ConsumerFactory bean
+     */
+    @Bean
+    public ConsumerFactory<String, EventStatusUpdateRequest> statusConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, properties.getGroupId());
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, properties.getAutoOffsetReset());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords());
+
+        return new DefaultKafkaConsumerFactory<>(configProps,
+                StringDeserializer::new,
+                () -> new ErrorHandlingDeserializer<>(new JsonDeserializer<>(EventStatusUpdateRequest.class, false)));
+    }
+
+    /**
+     * Creates the listener container factory for status changes.
+     * Listeners receive whole batches and acknowledge them once they have been applied. A batch whose
+     * listener fails is not committed and is redelivered up to max-retries times.
+     *
+     * @return The ConcurrentKafkaListenerContainerFactory bean
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EventStatusUpdateRequest> statusListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EventStatusUpdateRequest> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(statusConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(Math.max(1, properties.getConcurrency()));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.getRetryDelayMs(), Math.max(0, properties.getMaxRetries()))));
+        return factory;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for consuming event status changes from Kafka.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.kafka.status-consumer")
+public class StatusConsumerProperties {
+
+    /**
+     * Whether status changes are consumed from Kafka in addition to the REST API.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Topic of the status changes. Records are keyed by event ID and hold an event status update as JSON.
+     */
+    private String topic = "event-status-changes";
+
+    /**
+     * Consumer group of the status consumers.
+     */
+    private String groupId = "event-tracker-status";
+
+    /**
+     * Number of consumers per instance. Every consumer gets its own share of the partitions.
+     */
+    private int concurrency = 3;
+
+    /**
+     * Maximum number of records handed to the listener in one batch.
+     */
+    private int maxPollRecords = 500;
+
+    /**
+     * Where a new consumer group starts reading: earliest or latest.
+     */
+    private String autoOffsetReset = "earliest";
+
+    /**
+     * Number of times a batch that failed to be applied is redelivered before it is skipped.
+     */
+    private int maxRetries = 2;
+
+    /**
+     * Delay before a failed batch is redelivered, in milliseconds.
+     */
+    private long retryDelayMs = 1000;
+}
@@ -0,0 +1,12 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the Server-Sent Events stream of score updates.
+ */
+@Configuration
+@EnableConfigurationProperties(StreamProperties.class)
+public class StreamConfig {
+}
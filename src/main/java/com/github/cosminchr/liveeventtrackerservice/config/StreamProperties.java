@@ -0,0 +1,57 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the Server-Sent Events stream of score updates.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-tracker.stream")
+public class StreamProperties {
+
+    /**
+     * What happens to a subscriber that falls so far behind that updates it has not received yet are overwritten.
+     */
+    public enum SlowSubscriberPolicy {
+        /**
+         * Skip to the oldest retained update and keep streaming.
+         */
+        CONFLATE,
+        /**
+         * Disconnect the subscriber; it can reconnect and read the current state from the read API.
+         */
+        DROP
+    }
+
+    /**
+     * Number of updates kept in the ring buffer, rounded up to a power of two.
+     */
+    private int bufferSize = 65536;
+
+    /**
+     * Interval between two deliveries to each subscriber, in milliseconds.
+     * Several updates of the same event within one interval are conflated into the latest.
+     */
+    private long dispatchIntervalMs = 100;
+
+    /**
+     * Interval after which an idle subscriber is sent a heartbeat comment, in milliseconds.
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * Maximum number of connected subscribers.
+     */
+    private int maxSubscribers = 10000;
+
+    /**
+     * Time after which a subscription is closed, in milliseconds; 0 for no timeout.
+     */
+    private long timeoutMs = 0;
+
+    /**
+     * What happens to subscribers that fall behind by more than the buffer size.
+     */
+    private SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.CONFLATE;
+}
@@ -0,0 +1,94 @@
+package com.github.cosminchr.liveeventtrackerservice.controller;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import com.github.cosminchr.liveeventtrackerservice.service.ShardingService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for the endpoints used between service instances.
+ * Status updates received here were forwarded by another instance and are applied locally,
+ * never forwarded again, even if the membership views of the two instances briefly disagree.
+ */
+@RestController
+@RequestMapping("/internal/events")
+@ConditionalOnProperty(name = "event-tracker.cluster.enabled", havingValue = "true")
+@Slf4j
+public class ClusterController {
+
+    private final EventIngestionService localIngestionService;
+    private final ShardingService shardingService;
+
+    public ClusterController(@Qualifier("eventIngestionServiceImpl") EventIngestionService localIngestionService,
+                             ShardingService shardingService) {
+        this.localIngestionService = localIngestionService;
+        this.shardingService = shardingService;
+    }
+
+    /**
+     * Endpoint for applying a forwarded status update, or one handed over by the previous owner of the event.
+     *
+     * @param request     The status update request
+     * @param lastUpdated For a handover, when the previous owner last updated the event; the handover is ignored
+     *                    if the event has been updated here since
+     * @return The updated event
+     */
+    @PostMapping("/status")
+    public ResponseEntity<Event> updateEventStatus(
+            @Valid @RequestBody EventStatusUpdateRequest request,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastUpdated) {
+        log.debug("Received forwarded event status update: request={}, lastUpdated={}", request, lastUpdated);
+        return ResponseEntity.ok(lastUpdated != null
+                ? localIngestionService.handOver(request, lastUpdated)
+                : localIngestionService.apply(request));
+    }
+
+    /**
+     * Endpoint for applying or queueing a forwarded batch of status updates.
+     *
+     * @param requests The status update requests
+     * @param async    Whether to queue the updates and return before they are applied
+     * @return One result per update
+     */
+    @PostMapping("/status/batch")
+    public ResponseEntity<List<EventStatusUpdateResult>> updateEventStatuses(
+            @RequestBody List<EventStatusUpdateRequest> requests,
+            @RequestParam(defaultValue = "false") boolean async) {
+        log.debug("Received forwarded batch of event status updates: updates={}, async={}", requests.size(), async);
+        return ResponseEntity.ok(async
+                ? localIngestionService.enqueue(requests, 0)
+                : localIngestionService.ingest(requests, 0));
+    }
+
+    /**
+     * Endpoint for looking up the owner of an event.
+     *
+     * @param eventId The event ID
+     * @return The owning instance and the current members
+     */
+    @GetMapping("/{eventId}/owner")
+    public ResponseEntity<Map<String, Object>> getOwner(@PathVariable String eventId) {
+        return ResponseEntity.ok(Map.of(
+                "eventId", eventId,
+                "owner", shardingService.ownerOf(eventId),
+                "members", shardingService.getMembers()));
+    }
+}
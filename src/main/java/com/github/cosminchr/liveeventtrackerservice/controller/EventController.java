@@ -1,19 +1,36 @@
 package com.github.cosminchr.liveeventtrackerservice.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cosminchr.liveeventtrackerservice.config.IngestProperties;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
-import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
-import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
-import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * REST controller for event-related endpoints.
  */
@@ -22,10 +39,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 @RequiredArgsConstructor
 public class EventController {
-    
-    private final EventService eventService;
-    private final EventPollingScheduler eventPollingScheduler;
-    
+
+    private final EventIngestionService eventIngestionService;
+    private final IngestProperties ingestProperties;
+    private final ObjectMapper objectMapper;
+
     /**
      * Endpoint for updating the status of an event.
      *
@@ -35,17 +53,114 @@ public class EventController {
     @PostMapping("/status")
     public ResponseEntity<Event> updateEventStatus(@Valid @RequestBody EventStatusUpdateRequest request) {
         log.info("Received event status update request: {}", request);
-        
-        Event updatedEvent = eventService.updateEventStatus(request);
-        
-        // If the event is now live, schedule it for polling
-        if (updatedEvent.getStatus() == EventStatus.LIVE) {
-            eventPollingScheduler.scheduleEventPolling(updatedEvent.getEventId());
-        } else {
-            // If the event is no longer live, unschedule it from polling
-            eventPollingScheduler.unscheduleEventPolling(updatedEvent.getEventId());
-        }
-        
+
+        Event updatedEvent = eventIngestionService.apply(request);
+
         return ResponseEntity.ok(updatedEvent);
     }
+
+    /**
+     * Endpoint for updating the status of many events at once.
+     * Every update is validated on its own and gets its own result.
+     *
+     * @param requests The status update requests, as a JSON array
+     * @param async    Whether to queue the updates and return before they are applied
+     * @return One result per update, with status 200, or 202 when queued
+     */
+    @PostMapping("/status/batch")
+    public ResponseEntity<List<EventStatusUpdateResult>> updateEventStatuses(
+            @RequestBody List<EventStatusUpdateRequest> requests,
+            @RequestParam(defaultValue = "false") boolean async) {
+        log.info("Received batch of event status updates: updates={}, async={}", requests.size(), async);
+
+        if (requests.size() > ingestProperties.getMaxBatchSize()) {
+            log.warn("Rejecting batch of event status updates: updates={}, maxBatchSize={}",
+                    requests.size(), ingestProperties.getMaxBatchSize());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        if (async) {
+            return ResponseEntity.accepted().body(eventIngestionService.enqueue(requests, 0));
+        }
+        return ResponseEntity.ok(eventIngestionService.ingest(requests, 0));
+    }
+
+    /**
+     * Endpoint for streaming status updates as newline-delimited JSON, one update per line.
+     * Updates are applied in chunks while the request is read, and the result of every update
+     * is written back as a line of newline-delimited JSON in the same order.
+     * A line that is not valid JSON is rejected without affecting the others.
+     *
+     * @param async    Whether to queue the updates and return before they are applied
+     * @param body     The request body
+     * @param response The response, with status 200, or 202 when queued
+     * @throws IOException if the request cannot be read or the response cannot be written
+     */
+    @PostMapping(value = "/status/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamEventStatuses(@RequestParam(defaultValue = "false") boolean async,
+                                    InputStream body,
+                                    HttpServletResponse response) throws IOException {
+        response.setStatus(async ? HttpStatus.ACCEPTED.value() : HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        int chunkSize = Math.max(1, ingestProperties.getStreamChunkSize());
+        List<EventStatusUpdateRequest> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        int chunkStart = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            EventStatusUpdateRequest request;
+            try {
+                request = objectMapper.readValue(line, EventStatusUpdateRequest.class);
+            } catch (JsonProcessingException e) {
+                // Keep the results in request order
+                writeResults(writer, ingestChunk(chunk, chunkStart, async));
+                writeResult(writer, EventStatusUpdateResult.rejected(index, null, "Malformed JSON: " + e.getOriginalMessage()));
+                chunkStart = ++index;
+                continue;
+            }
+
+            chunk.add(request);
+            index++;
+            if (chunk.size() == chunkSize) {
+                writeResults(writer, ingestChunk(chunk, chunkStart, async));
+                writer.flush();
+                chunkStart = index;
+            }
+        }
+        writeResults(writer, ingestChunk(chunk, chunkStart, async));
+        writer.flush();
+
+        log.info("Finished stream of event status updates: updates={}, async={}", index, async);
+    }
+
+    private List<EventStatusUpdateResult> ingestChunk(List<EventStatusUpdateRequest> chunk, int firstIndex, boolean async) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<EventStatusUpdateResult> results = async
+                ? eventIngestionService.enqueue(chunk, firstIndex)
+                : eventIngestionService.ingest(chunk, firstIndex);
+        chunk.clear();
+        return results;
+    }
+
+    private void writeResults(Writer writer, List<EventStatusUpdateResult> results) throws IOException {
+        for (EventStatusUpdateResult result : results) {
+            writeResult(writer, result);
+        }
+    }
+
+    private void writeResult(Writer writer, EventStatusUpdateResult result) throws IOException {
+        writer.write(objectMapper.writeValueAsString(result));
+        writer.write('\n');
+    }
 }
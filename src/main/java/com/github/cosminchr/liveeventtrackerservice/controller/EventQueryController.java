@@ -0,0 +1,109 @@
+package com.github.cosminchr.liveeventtrackerservice.controller;
+
+import com.github.cosminchr.liveeventtrackerservice.config.QueryProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventPageResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventSnapshot;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.service.EventQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * REST controller for reading events.
+ * <p>
+ * Reads are served from the snapshot kept by {@link EventQueryService}, never from the store itself.
+ * Responses carry the snapshot version (or, for a single event, the version in which the event last
+ * changed) as their ETag, and a request whose {@code If-None-Match} matches gets an empty 304 response.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventQueryController {
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    private final EventQueryService eventQueryService;
+    private final QueryProperties queryProperties;
+
+    /**
+     * Endpoint for reading a single event.
+     *
+     * @param eventId    The event ID
+     * @param webRequest The request, for conditional GET handling
+     * @return The event, 304 if it has not changed, or 404 if it does not exist
+     */
+    @GetMapping("/{eventId}")
+    public ResponseEntity<Event> getEvent(@PathVariable String eventId, WebRequest webRequest) {
+        EventSnapshot.VersionedEvent versionedEvent = eventQueryService.getSnapshot().getEvent(eventId);
+        if (versionedEvent == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String eTag = eTag(versionedEvent.version());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(versionedEvent.event());
+    }
+
+    /**
+     * Endpoint for listing events, in event ID order, one page at a time.
+     *
+     * @param status     Only list events with this status; all events if absent
+     * @param cursor     The cursor returned with the previous page; the first page if absent
+     * @param limit      The maximum number of events to return
+     * @param webRequest The request, for conditional GET handling
+     * @return The page, 304 if the snapshot has not changed, or 400 if the cursor or limit is invalid
+     */
+    @GetMapping
+    public ResponseEntity<EventPageResponse> getEvents(@RequestParam(required = false) EventStatus status,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       WebRequest webRequest) {
+        int pageSize = limit != null ? limit : queryProperties.getDefaultPageSize();
+        if (pageSize <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        pageSize = Math.min(pageSize, queryProperties.getMaxPageSize());
+
+        String afterEventId;
+        try {
+            afterEventId = cursor != null ? new String(CURSOR_DECODER.decode(cursor), StandardCharsets.UTF_8) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // The page only depends on the snapshot and the query parameters, which are part of the URL
+        EventSnapshot snapshot = eventQueryService.getSnapshot();
+        String eTag = eTag(snapshot.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        EventSnapshot.Page page = snapshot.getPage(status, afterEventId, pageSize);
+        String nextCursor = page.lastEventId() != null
+                ? CURSOR_ENCODER.encodeToString(page.lastEventId().getBytes(StandardCharsets.UTF_8))
+                : null;
+
+        return ResponseEntity.ok().eTag(eTag).body(EventPageResponse.builder()
+                .events(page.events())
+                .nextCursor(nextCursor)
+                .version(snapshot.getVersion())
+                .build());
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+}
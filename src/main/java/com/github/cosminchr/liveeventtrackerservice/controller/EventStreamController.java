@@ -0,0 +1,46 @@
+package com.github.cosminchr.liveeventtrackerservice.controller;
+
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST controller for streaming score updates as Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final ScoreStreamService scoreStreamService;
+
+    /**
+     * Endpoint for subscribing to score updates.
+     * Every update is sent as a "score" event whose data is the update message and whose ID can be sent back
+     * in the Last-Event-ID header to resume after a reconnect.
+     *
+     * @param eventIds    Only stream updates of these events; all events if absent
+     * @param lastEventId The ID of the last update received before reconnecting
+     * @return The stream, or 503 if the maximum number of subscribers is reached
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamScoreUpdates(
+            @RequestParam(name = "eventId", required = false) List<String> eventIds,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = scoreStreamService.subscribe(eventIds, lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,16 +1,30 @@
 package com.github.cosminchr.liveeventtrackerservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.model.ScoreJson;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * DTO for the response from the external API.
+ * The score is parsed into its packed form (see {@link Score}) while the JSON is read.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventApiResponse {
     private String eventId;
-    private String currentScore;
+    @JsonSerialize(using = ScoreJson.Serializer.class)
+    @JsonDeserialize(using = ScoreJson.Deserializer.class)
+    @ToString.Exclude
+    private long currentScore;
+
+    @ToString.Include(name = "currentScore")
+    private String formattedScore() {
+        return Score.format(currentScore);
+    }
 }
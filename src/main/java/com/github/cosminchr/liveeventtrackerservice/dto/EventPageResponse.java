@@ -0,0 +1,24 @@
+package com.github.cosminchr.liveeventtrackerservice.dto;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageResponse {
+    private List<Event> events;
+    // Cursor for the next page, or null if this is the last page
+    private String nextCursor;
+    // Version of the snapshot the page was read from
+    private long version;
+}
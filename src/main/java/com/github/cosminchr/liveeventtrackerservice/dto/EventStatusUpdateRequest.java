@@ -2,6 +2,7 @@ package com.github.cosminchr.liveeventtrackerservice.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,4 +20,15 @@ public class EventStatusUpdateRequest {
     
     @NotNull(message = "Status is required")
     private Boolean live;
+    
+    /**
+     * Optional polling interval for this event in milliseconds.
+     * When absent, the default polling interval is used.
+     */
+    @Positive(message = "Polling interval must be positive")
+    private Long pollingIntervalMs;
+    
+    public EventStatusUpdateRequest(String eventId, Boolean live) {
+        this(eventId, live, null);
+    }
 }
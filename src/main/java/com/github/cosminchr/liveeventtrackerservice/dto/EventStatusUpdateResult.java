@@ -0,0 +1,53 @@
+package com.github.cosminchr.liveeventtrackerservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a single event status update within a bulk request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventStatusUpdateResult {
+
+    /**
+     * What happened to an update.
+     */
+    public enum Outcome {
+        /** The update was applied. */
+        APPLIED,
+        /** The update was queued and will be applied asynchronously. */
+        ACCEPTED,
+        /** The update was invalid or could not be applied or queued. */
+        REJECTED
+    }
+
+    // Position of the update in the request, starting at 0
+    private int index;
+    private String eventId;
+    private Outcome outcome;
+    // Status of the event after an applied update
+    private EventStatus status;
+    // Reason a rejected update was rejected
+    private String error;
+
+    public static EventStatusUpdateResult applied(int index, Event event) {
+        return new EventStatusUpdateResult(index, event.getEventId(), Outcome.APPLIED, event.getStatus(), null);
+    }
+
+    public static EventStatusUpdateResult accepted(int index, String eventId) {
+        return new EventStatusUpdateResult(index, eventId, Outcome.ACCEPTED, null, null);
+    }
+
+    public static EventStatusUpdateResult rejected(int index, String eventId, String error) {
+        return new EventStatusUpdateResult(index, eventId, Outcome.REJECTED, null, error);
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.cosminchr.liveeventtrackerservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.model.ScoreJson;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +21,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class EventUpdateMessage {
     private String eventId;
-    private String currentScore;
+    @JsonSerialize(using = ScoreJson.Serializer.class)
+    @JsonDeserialize(using = ScoreJson.Deserializer.class)
+    @ToString.Exclude
+    private long currentScore;
     private LocalDateTime timestamp;
+
+    @ToString.Include(name = "currentScore")
+    private String formattedScore() {
+        return Score.format(currentScore);
+    }
 }
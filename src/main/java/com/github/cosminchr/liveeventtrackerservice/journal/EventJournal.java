@@ -0,0 +1,343 @@
+package com.github.cosminchr.liveeventtrackerservice.journal;
+
+import com.github.cosminchr.liveeventtrackerservice.config.JournalProperties;
+import com.github.cosminchr.liveeventtrackerservice.resilience.TokenBucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured journal of poll and publish outcomes, written asynchronously to the {@code event-journal} logger.
+ * <p>
+ * Recording an entry never blocks, takes no lock and allocates nothing on the recording thread: the caller
+ * samples it, takes a permit from the category's {@link TokenBucket}, claims a slot of a pre-allocated ring
+ * with a single compare-and-set and fills in the slot's fields. A single writer thread formats the entries in
+ * order and hands them to the logger, so formatting and I/O stay off the polling threads; the writer does
+ * allocate per entry (the formatted line, its timestamp and the logging event). Entries recorded while the
+ * ring is full are dropped and counted rather than waited for.
+ * <p>
+ * Sampling and rate limits are set per {@link JournalCategory}, and the whole journal or a single category
+ * can be switched on and off at runtime through {@link #setEnabled(boolean)} and {@link #configure}.
+ */
+public class EventJournal implements MeterBinder {
+
+    private static final Logger journalLog = LoggerFactory.getLogger("event-journal");
+
+    private final Entry[] entries;
+    // Sequence + 1 of the entry each slot holds, set once the entry is complete
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final CategoryState[] categories;
+    private final long idleWaitNanos;
+
+    private volatile boolean enabled;
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    /**
+     * A slot of the ring; its fields are written by the producer that claimed it and read by the writer.
+     */
+    private static final class Entry {
+        private long timestampMs;
+        private JournalCategory category;
+        private String eventId;
+        private String outcome;
+        private long value;
+        private long duration;
+    }
+
+    /**
+     * The settings of a category, replaced as a whole so a recording thread sees a consistent set.
+     */
+    private record CategorySettings(boolean enabled, int sampleEvery, double maxPerSecond, TokenBucket limiter) {
+
+        private CategorySettings(boolean enabled, int sampleEvery, double maxPerSecond) {
+            this(enabled, Math.max(1, sampleEvery), Math.max(0, maxPerSecond),
+                    new TokenBucket(maxPerSecond, (int) Math.max(1, Math.ceil(maxPerSecond))));
+        }
+    }
+
+    private static final class CategoryState {
+        private volatile CategorySettings settings;
+        private final LongAdder recorded = new LongAdder();
+        private final LongAdder sampledOut = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+    }
+
+    /**
+     * The settings and counts of a category.
+     *
+     * @param enabled      Whether entries of the category are recorded
+     * @param sampleEvery  One entry out of this many is recorded
+     * @param maxPerSecond The maximum number of entries recorded per second, or 0 for no limit
+     * @param recorded     The number of entries recorded
+     * @param sampledOut   The number of entries skipped by sampling
+     * @param rateLimited  The number of entries skipped by the rate limit
+     */
+    public record CategoryStatus(boolean enabled, int sampleEvery, double maxPerSecond,
+                                 long recorded, long sampledOut, long rateLimited) {
+    }
+
+    /**
+     * Creates a journal; its writer runs once {@link #start()} is called.
+     *
+     * @param properties The journal settings at startup
+     */
+    public EventJournal(JournalProperties properties) {
+        int capacity = properties.getBufferSize();
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid journal buffer size: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+        }
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getIdleWaitMs()));
+        this.enabled = properties.isEnabled();
+
+        this.categories = new CategoryState[JournalCategory.values().length];
+        for (JournalCategory category : JournalCategory.values()) {
+            JournalProperties.Category settings = properties.getCategory(category);
+            CategoryState state = new CategoryState();
+            state.settings = new CategorySettings(settings.isEnabled(), settings.getSampleEvery(), settings.getMaxPerSecond());
+            categories[category.ordinal()] = state;
+        }
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("event-journal-writer").daemon().start(this::writeEntries);
+    }
+
+    /**
+     * Stops the writer thread once it has written the entries recorded so far.
+     */
+    public synchronized void stop() {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Records an entry, unless it is sampled out, rate limited or the journal is full.
+     * The strings are stored by reference, so callers pass values they already hold or constants.
+     *
+     * @param category The category of the entry
+     * @param eventId  The event ID
+     * @param outcome  The outcome, such as "published"
+     * @param value    The value, as named by the category
+     * @param duration The duration, in the unit named by the category
+     */
+    public void record(JournalCategory category, String eventId, String outcome, long value, long duration) {
+        if (!enabled) {
+            return;
+        }
+        CategoryState state = categories[category.ordinal()];
+        CategorySettings settings = state.settings;
+        if (!settings.enabled()) {
+            return;
+        }
+        if (settings.sampleEvery() > 1 && ThreadLocalRandom.current().nextInt(settings.sampleEvery()) != 0) {
+            state.sampledOut.increment();
+            return;
+        }
+        if (!settings.limiter().tryAcquire()) {
+            state.rateLimited.increment();
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - written.get() >= entries.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Entry entry = entries[index];
+        entry.timestampMs = System.currentTimeMillis();
+        entry.category = category;
+        entry.eventId = eventId;
+        entry.outcome = outcome;
+        entry.value = value;
+        entry.duration = duration;
+        published.set(index, sequence + 1);
+        state.recorded.increment();
+    }
+
+    /**
+     * Writes the entries in sequence order until the journal is stopped and every recorded entry is written.
+     */
+    private void writeEntries() {
+        StringBuilder line = new StringBuilder(160);
+        long sequence = written.get();
+        while (true) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence + 1) {
+                // A claimed entry is being filled in, or there is nothing left to write
+                if (!running && claimed.get() == sequence) {
+                    return;
+                }
+                LockSupport.parkNanos(idleWaitNanos);
+                continue;
+            }
+
+            Entry entry = entries[index];
+            line.setLength(0);
+            format(entry, line);
+            entry.eventId = null;
+            entry.outcome = null;
+            written.set(++sequence);
+
+            try {
+                journalLog.info(line.toString());
+            } catch (RuntimeException e) {
+                // A failing appender must not stop the journal
+            }
+        }
+    }
+
+    private static void format(Entry entry, StringBuilder line) {
+        JournalCategory category = entry.category;
+        line.append("category=").append(category.name().toLowerCase())
+                .append(" eventId=").append(entry.eventId)
+                .append(" outcome=").append(entry.outcome)
+                .append(' ').append(category.getValueName()).append('=');
+        category.appendValue(line, entry.value);
+        line.append(' ').append(category.getDurationName()).append('=').append(entry.duration)
+                .append(" at=");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(entry.timestampMs), line);
+    }
+
+    /**
+     * Switches the whole journal on or off.
+     *
+     * @param enabled Whether entries are recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Changes the settings of a category; settings that are null keep their current value.
+     *
+     * @param category     The category
+     * @param enabled      Whether entries of the category are recorded
+     * @param sampleEvery  Records one entry out of this many
+     * @param maxPerSecond The maximum number of entries recorded per second, or 0 for no limit
+     */
+    public void configure(JournalCategory category, Boolean enabled, Integer sampleEvery, Double maxPerSecond) {
+        CategoryState state = categories[category.ordinal()];
+        synchronized (state) {
+            CategorySettings current = state.settings;
+            state.settings = new CategorySettings(
+                    enabled != null ? enabled : current.enabled(),
+                    sampleEvery != null ? sampleEvery : current.sampleEvery(),
+                    maxPerSecond != null ? maxPerSecond : current.maxPerSecond());
+        }
+    }
+
+    /**
+     * Gets the settings and counts of a category.
+     *
+     * @param category The category
+     * @return The status of the category
+     */
+    public CategoryStatus getStatus(JournalCategory category) {
+        CategoryState state = categories[category.ordinal()];
+        CategorySettings settings = state.settings;
+        return new CategoryStatus(settings.enabled(), settings.sampleEvery(), settings.maxPerSecond(),
+                state.recorded.sum(), state.sampledOut.sum(), state.rateLimited.sum());
+    }
+
+    /**
+     * Gets the number of entries the ring can hold.
+     *
+     * @return The buffer size
+     */
+    public int getBufferSize() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the number of recorded entries that have not been written yet.
+     *
+     * @return The backlog of the writer
+     */
+    public long getBacklog() {
+        return Math.max(0, claimed.get() - written.get());
+    }
+
+    /**
+     * Gets the number of entries dropped because the ring was full.
+     *
+     * @return The number of dropped entries
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (JournalCategory category : JournalCategory.values()) {
+            CategoryState state = categories[category.ordinal()];
+            String tag = category.name().toLowerCase();
+            entryCounter(registry, tag, "recorded", state.recorded);
+            entryCounter(registry, tag, "sampled_out", state.sampledOut);
+            entryCounter(registry, tag, "rate_limited", state.rateLimited);
+        }
+        FunctionCounter.builder("event.tracker.journal.dropped", dropped, LongAdder::sum)
+                .description("Journal entries dropped because the writer fell behind")
+                .register(registry);
+        Gauge.builder("event.tracker.journal.backlog", this, EventJournal::getBacklog)
+                .description("Journal entries recorded but not yet written")
+                .register(registry);
+    }
+
+    private static void entryCounter(MeterRegistry registry, String category, String result, LongAdder count) {
+        FunctionCounter.builder("event.tracker.journal.entries", count, LongAdder::sum)
+                .description("Journal entries by category and whether they were recorded")
+                .tag("category", category)
+                .tag("result", result)
+                .register(registry);
+    }
+}
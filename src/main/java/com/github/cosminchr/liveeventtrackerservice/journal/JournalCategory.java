@@ -0,0 +1,50 @@
+package com.github.cosminchr.liveeventtrackerservice.journal;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+
+/**
+ * Category of an {@link EventJournal} entry.
+ * Each category is sampled and rate limited on its own, and names the value and duration of its entries.
+ */
+public enum JournalCategory {
+
+    /**
+     * A poll of an event; the value is the polled score, the duration the upstream fetch in microseconds.
+     */
+    POLL("score", "fetchUs") {
+        @Override
+        void appendValue(StringBuilder line, long value) {
+            line.append(Score.format(value));
+        }
+    },
+
+    /**
+     * A published event update; the value is the offset, the duration the broker acknowledgement in microseconds.
+     */
+    PUBLISH("offset", "ackUs"),
+
+    /**
+     * A retry of a failed poll; the value is the attempt, the duration the retry delay in milliseconds.
+     */
+    RETRY("attempt", "delayMs");
+
+    private final String valueName;
+    private final String durationName;
+
+    JournalCategory(String valueName, String durationName) {
+        this.valueName = valueName;
+        this.durationName = durationName;
+    }
+
+    String getValueName() {
+        return valueName;
+    }
+
+    String getDurationName() {
+        return durationName;
+    }
+
+    void appendValue(StringBuilder line, long value) {
+        line.append(value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.cosminchr.liveeventtrackerservice.journal;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for inspecting and switching the {@link EventJournal} at runtime, on {@code /actuator/journal}.
+ * <p>
+ * A POST without a category switches the whole journal; with a category it changes that category's
+ * settings, leaving those that are not given as they are.
+ */
+@Component
+@Endpoint(id = "journal")
+public class JournalEndpoint {
+
+    private final EventJournal eventJournal;
+
+    public JournalEndpoint(EventJournal eventJournal) {
+        this.eventJournal = eventJournal;
+    }
+
+    /**
+     * Gets the settings and counts of the journal and of each category.
+     *
+     * @return The journal status
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> categories = new LinkedHashMap<>();
+        for (JournalCategory category : JournalCategory.values()) {
+            categories.put(category.name().toLowerCase(), eventJournal.getStatus(category));
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", eventJournal.isEnabled());
+        status.put("bufferSize", eventJournal.getBufferSize());
+        status.put("backlog", eventJournal.getBacklog());
+        status.put("dropped", eventJournal.getDroppedCount());
+        status.put("categories", categories);
+        return status;
+    }
+
+    /**
+     * Switches the journal or changes the settings of a category.
+     *
+     * @param category     The category to change, or null to switch the whole journal
+     * @param enabled      Whether entries are recorded
+     * @param sampleEvery  Records one entry out of this many
+     * @param maxPerSecond The maximum number of entries recorded per second, or 0 for no limit
+     * @return The journal status after the change
+     * @throws InvalidEndpointRequestException if the category does not exist
+     */
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable String category, @Nullable Boolean enabled,
+                                         @Nullable Integer sampleEvery, @Nullable Double maxPerSecond) {
+        if (category == null) {
+            if (enabled != null) {
+                eventJournal.setEnabled(enabled);
+            }
+        } else {
+            JournalCategory journalCategory;
+            try {
+                journalCategory = JournalCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidEndpointRequestException("Unknown journal category: " + category, "Unknown journal category");
+            }
+            eventJournal.configure(journalCategory, enabled, sampleEvery, maxPerSecond);
+        }
+        return status();
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.cosminchr.liveeventtrackerservice.listener;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Applies event status changes consumed from Kafka.
+ * <p>
+ * Records arrive in batches and are validated and applied one by one through the EventIngestionService.
+ * The records of a batch are grouped by partition and the partitions are applied in parallel, each on its
+ * own virtual thread and in offset order; since records are keyed by event ID, the changes of an event are
+ * applied in the order they were produced. The batch is acknowledged, and its offsets committed, only once
+ * every partition has been applied, so a crash never loses a change. Invalid records are logged and skipped;
+ * a record that fails to apply fails the batch, which is then redelivered rather than acknowledged.
+ */
+@Component
+@ConditionalOnProperty(name = "event-tracker.kafka.status-consumer.enabled", havingValue = "true")
+@Slf4j
+public class EventStatusChangeListener {
+
+    private final EventIngestionService eventIngestionService;
+    private final ExecutorService partitionExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("status-consumer-", 0).factory());
+
+    public EventStatusChangeListener(EventIngestionService eventIngestionService) {
+        this.eventIngestionService = eventIngestionService;
+    }
+
+    @PreDestroy
+    public void stop() {
+        partitionExecutor.shutdown();
+    }
+
+    /**
+     * Applies a batch of status changes and acknowledges it.
+     *
+     * @param records        The status change records
+     * @param acknowledgment The acknowledgment of the batch
+     * @throws Exception if a partition could not be applied, so that the batch is redelivered
+     */
+    @KafkaListener(id = "event-status-changes",
+            idIsGroup = false,
+            topics = "${event-tracker.kafka.status-consumer.topic:event-status-changes}",
+            containerFactory = "statusListenerContainerFactory")
+    public void onStatusChanges(List<ConsumerRecord<String, EventStatusUpdateRequest>> records,
+                                Acknowledgment acknowledgment) throws Exception {
+        Map<TopicPartition, List<ConsumerRecord<String, EventStatusUpdateRequest>>> recordsByPartition = new LinkedHashMap<>();
+        for (ConsumerRecord<String, EventStatusUpdateRequest> record : records) {
+            recordsByPartition.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                    partition -> new ArrayList<>()).add(record);
+        }
+
+        int rejected;
+        if (recordsByPartition.size() == 1) {
+            rejected = applyPartition(records);
+        } else {
+            List<Future<Integer>> futures = new ArrayList<>(recordsByPartition.size());
+            for (List<ConsumerRecord<String, EventStatusUpdateRequest>> partitionRecords : recordsByPartition.values()) {
+                futures.add(partitionExecutor.submit(() -> applyPartition(partitionRecords)));
+            }
+            rejected = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    rejected += future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        }
+
+        acknowledgment.acknowledge();
+        log.debug("Applied batch of event status changes: records={}, partitions={}, rejected={}",
+                records.size(), recordsByPartition.size(), rejected);
+    }
+
+    /**
+     * Applies the records of one partition in offset order.
+     *
+     * @param records The records of the partition
+     * @return The number of rejected records
+     * @throws RuntimeException if a valid record could not be applied
+     */
+    private int applyPartition(List<ConsumerRecord<String, EventStatusUpdateRequest>> records) {
+        int rejected = 0;
+        for (ConsumerRecord<String, EventStatusUpdateRequest> record : records) {
+            String error = eventIngestionService.validate(record.value());
+            if (error != null) {
+                log.warn("Skipping invalid event status change: partition={}, offset={}, key={}, error={}",
+                        record.partition(), record.offset(), record.key(), error);
+                rejected++;
+                continue;
+            }
+            // Not caught: a change that failed to apply must be redelivered, not skipped
+            eventIngestionService.apply(record.value());
+        }
+        return rejected;
+    }
+}
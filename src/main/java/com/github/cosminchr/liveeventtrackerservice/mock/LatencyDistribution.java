@@ -0,0 +1,67 @@
+package com.github.cosminchr.liveeventtrackerservice.mock;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Distributions of the response latency of the mock external API.
+ */
+public enum LatencyDistribution {
+
+    /** No added latency. */
+    NONE {
+        @Override
+        public long sample(long meanMs, double sigma, RandomGenerator random) {
+            return 0;
+        }
+    },
+
+    /** Always the mean. */
+    FIXED {
+        @Override
+        public long sample(long meanMs, double sigma, RandomGenerator random) {
+            return meanMs;
+        }
+    },
+
+    /** Uniform between 0 and twice the mean. */
+    UNIFORM {
+        @Override
+        public long sample(long meanMs, double sigma, RandomGenerator random) {
+            return meanMs <= 0 ? 0 : random.nextLong(2 * meanMs + 1);
+        }
+    },
+
+    /** Exponential with the given mean, as for independent arrivals. */
+    EXPONENTIAL {
+        @Override
+        public long sample(long meanMs, double sigma, RandomGenerator random) {
+            return Math.round(meanMs * random.nextExponential());
+        }
+    },
+
+    /**
+     * Lognormal with the given mean and shape sigma: most responses are fast, with a long tail of slow ones,
+     * like a real HTTP service. A sigma of 1 puts the 99th percentile at about 6 times the mean.
+     */
+    LOGNORMAL {
+        @Override
+        public long sample(long meanMs, double sigma, RandomGenerator random) {
+            if (meanMs <= 0) {
+                return 0;
+            }
+            // mu is chosen so that the mean of the distribution, exp(mu + sigma^2 / 2), is meanMs
+            double mu = Math.log(meanMs) - sigma * sigma / 2;
+            return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        }
+    };
+
+    /**
+     * Draws a latency.
+     *
+     * @param meanMs The mean latency in milliseconds
+     * @param sigma  The shape of the lognormal distribution; ignored by the others
+     * @param random The source of randomness
+     * @return The latency in milliseconds, never negative
+     */
+    public abstract long sample(long meanMs, double sigma, RandomGenerator random);
+}
@@ -1,28 +1,46 @@
 package com.github.cosminchr.liveeventtrackerservice.mock;
 
+import com.github.cosminchr.liveeventtrackerservice.config.MockApiProperties;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Mock controller for simulating the external API.
  * This is for testing purposes only.
+ * <p>
+ * Responses can be delayed according to {@code event-tracker.mock-api.latency-distribution} and
+ * fail with {@code 503} at {@code error-rate}, to load-test the service against a realistic upstream.
+ * Delayed responses complete asynchronously, so a slow mock does not hold a request thread, and
+ * every request thread draws from its own random generator.
  */
 @RestController
 @RequestMapping("/api/mock")
 @Slf4j
 public class MockExternalApiController {
-    
-    private final Map<String, String> eventScores = new ConcurrentHashMap<>();
-    private final Random random = new Random();
-    
+
+    private final MockApiProperties properties;
+    private final Map<String, Long> eventScores = new ConcurrentHashMap<>();
+
+    public MockExternalApiController(MockApiProperties properties) {
+        this.properties = properties;
+    }
+
     /**
      * Endpoint for getting event data.
      *
@@ -30,30 +48,80 @@ public class MockExternalApiController {
      * @return The event data
      */
     @GetMapping("/events/{eventId}")
-    public EventApiResponse getEventData(@PathVariable String eventId) {
+    public CompletableFuture<EventApiResponse> getEventData(@PathVariable String eventId) {
         log.debug("Mock API received request for event: {}", eventId);
-        
-        // Generate a random score if one doesn't exist for this event
-        String score = eventScores.computeIfAbsent(eventId, id -> "0:0");
-        
-        // Randomly update the score (10% chance)
-        if (random.nextInt(10) == 0) {
-            int homeScore = Integer.parseInt(score.split(":")[0]);
-            int awayScore = Integer.parseInt(score.split(":")[1]);
-            
+
+        return respond(() -> nextEventData(eventId));
+    }
+
+    /**
+     * Endpoint for getting the data of several events in one request.
+     *
+     * @param ids The event IDs, comma separated
+     * @return The event data for each requested event
+     */
+    @GetMapping("/events")
+    public CompletableFuture<List<EventApiResponse>> getEventsData(@RequestParam List<String> ids) {
+        log.debug("Mock API received batch request for {} events", ids.size());
+
+        return respond(() -> ids.stream()
+                .map(this::nextEventData)
+                .toList());
+    }
+
+    /**
+     * Builds a response after a random latency, or fails it at the configured error rate.
+     *
+     * @param body Supplies the response body
+     * @return A future that completes with the body once the latency has passed
+     */
+    private <T> CompletableFuture<T> respond(Supplier<T> body) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean fail = properties.getErrorRate() > 0 && random.nextDouble() < properties.getErrorRate();
+        long latencyMs = Math.min(properties.getLatencyMaxMs(), properties.getLatencyDistribution()
+                .sample(properties.getLatencyMeanMs(), properties.getLatencySigma(), random));
+
+        Supplier<T> response = fail
+                ? () -> {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Simulated upstream error");
+                }
+                : body;
+        if (latencyMs <= 0) {
+            try {
+                return CompletableFuture.completedFuture(response.get());
+            } catch (ResponseStatusException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(response, CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Gets the current data for an event, randomly advancing its score.
+     *
+     * @param eventId The event ID
+     * @return The event data
+     */
+    private EventApiResponse nextEventData(String eventId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Start every event at 0:0
+        long score = eventScores.computeIfAbsent(eventId, id -> Score.of(0, 0));
+
+        // Randomly update the score
+        if (random.nextDouble() < properties.getScoreChangeProbability()) {
             // 50% chance to increment home score, 50% chance to increment away score
             if (random.nextBoolean()) {
-                homeScore++;
+                score = Score.of(Score.home(score) + 1, Score.away(score));
             } else {
-                awayScore++;
+                score = Score.of(Score.home(score), Score.away(score) + 1);
             }
-            
-            score = homeScore + ":" + awayScore;
+
             eventScores.put(eventId, score);
-            
-            log.debug("Updated score for event {}: {}", eventId, score);
+
+            log.debug("Updated score for event {}: {}", eventId, Score.format(score));
         }
-        
+
         return new EventApiResponse(eventId, score);
     }
 }
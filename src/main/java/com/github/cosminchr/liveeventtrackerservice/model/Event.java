@@ -1,23 +1,37 @@
 package com.github.cosminchr.liveeventtrackerservice.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 /**
  * Represents a sports event that can be tracked.
+ * The current score is packed into a long (see {@link Score}) and appears as "home:away" in JSON.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
     private String eventId;
     private EventStatus status;
-    private String currentScore;
+    @JsonSerialize(using = ScoreJson.Serializer.class)
+    @JsonDeserialize(using = ScoreJson.Deserializer.class)
+    @ToString.Exclude
+    private long currentScore;
     private LocalDateTime lastUpdated;
     private LocalDateTime lastPolled;
+    // Polling interval requested when the event went live, or null for the default interval
+    private Long pollingIntervalMs;
+
+    @ToString.Include(name = "currentScore")
+    private String formattedScore() {
+        return Score.format(currentScore);
+    }
 }
@@ -0,0 +1,177 @@
+package com.github.cosminchr.liveeventtrackerservice.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, versioned view of all events, sorted by event ID.
+ * <p>
+ * The snapshot version increases whenever the content of the store changes, and every event carries
+ * the version of the snapshot in which it last changed, so both can be used as ETags.
+ * Only the status, score, last update and polling interval count as a change: the poll time changes on
+ * every poll, so an event that was only polled keeps its previous copy, poll time included, and its version.
+ * The events in a snapshot are copies and must not be modified.
+ */
+public final class EventSnapshot {
+
+    /**
+     * The snapshot before the store has been read.
+     */
+    public static final EventSnapshot EMPTY = new EventSnapshot(0, new Event[0], Map.of());
+
+    /**
+     * An event together with the version in which it last changed.
+     *
+     * @param event   The event
+     * @param version The snapshot version in which the event last changed
+     */
+    public record VersionedEvent(Event event, long version) {
+    }
+
+    /**
+     * A page of events.
+     *
+     * @param events      The events of the page, sorted by event ID
+     * @param lastEventId The ID of the last event of the page if more events follow, otherwise null
+     */
+    public record Page(List<Event> events, String lastEventId) {
+    }
+
+    private final long version;
+    private final Event[] events;
+    private final String[] eventIds;
+    private final Event[] liveEvents;
+    private final String[] liveEventIds;
+    private final Event[] notLiveEvents;
+    private final String[] notLiveEventIds;
+    private final Map<String, VersionedEvent> eventsById;
+
+    private EventSnapshot(long version, Event[] events, Map<String, VersionedEvent> eventsById) {
+        this.version = version;
+        this.events = events;
+        this.eventIds = idsOf(events);
+        this.liveEvents = withStatus(events, EventStatus.LIVE);
+        this.liveEventIds = idsOf(liveEvents);
+        this.notLiveEvents = withStatus(events, EventStatus.NOT_LIVE);
+        this.notLiveEventIds = idsOf(notLiveEvents);
+        this.eventsById = eventsById;
+    }
+
+    /**
+     * Builds the snapshot that follows a previous one.
+     * Events whose status, score, last update and polling interval are unchanged keep their previous copy and version.
+     *
+     * @param previous The previous snapshot
+     * @param current  Copies of the current events
+     * @return The previous snapshot if nothing changed, otherwise a new snapshot with the next version
+     */
+    public static EventSnapshot next(EventSnapshot previous, Collection<Event> current) {
+        long nextVersion = previous.version + 1;
+        Map<String, VersionedEvent> eventsById = new HashMap<>(current.size() * 2);
+        boolean changed = current.size() != previous.eventsById.size();
+        for (Event event : current) {
+            VersionedEvent before = previous.eventsById.get(event.getEventId());
+            if (before != null && sameState(before.event(), event)) {
+                eventsById.put(event.getEventId(), before);
+            } else {
+                eventsById.put(event.getEventId(), new VersionedEvent(event, nextVersion));
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return previous;
+        }
+
+        Event[] events = current.toArray(Event[]::new);
+        Arrays.sort(events, Comparator.comparing(Event::getEventId));
+        return new EventSnapshot(nextVersion, events, eventsById);
+    }
+
+    /**
+     * Gets the version of the snapshot.
+     *
+     * @return The version, 0 for the empty snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the number of events in the snapshot.
+     *
+     * @return The number of events
+     */
+    public int size() {
+        return events.length;
+    }
+
+    /**
+     * Gets an event by its ID.
+     *
+     * @param eventId The event ID
+     * @return The event and its version, or null if not found
+     */
+    public VersionedEvent getEvent(String eventId) {
+        return eventsById.get(eventId);
+    }
+
+    /**
+     * Gets a page of events, in event ID order.
+     *
+     * @param status       Only return events with this status, or null for all events
+     * @param afterEventId Only return events after this ID, or null to start at the first event
+     * @param limit        The maximum number of events to return
+     * @return The page
+     */
+    public Page getPage(EventStatus status, String afterEventId, int limit) {
+        Event[] source;
+        String[] ids;
+        if (status == null) {
+            source = events;
+            ids = eventIds;
+        } else if (status == EventStatus.LIVE) {
+            source = liveEvents;
+            ids = liveEventIds;
+        } else {
+            source = notLiveEvents;
+            ids = notLiveEventIds;
+        }
+
+        int start = 0;
+        if (afterEventId != null) {
+            int position = Arrays.binarySearch(ids, afterEventId);
+            start = position >= 0 ? position + 1 : -position - 1;
+        }
+        int end = (int) Math.min(source.length, (long) start + limit);
+
+        List<Event> page = List.of(Arrays.copyOfRange(source, start, end));
+        return new Page(page, end < source.length && !page.isEmpty() ? ids[end - 1] : null);
+    }
+
+    /**
+     * Compares the state of two copies of an event, leaving out the poll time.
+     */
+    private static boolean sameState(Event before, Event after) {
+        return before.getCurrentScore() == after.getCurrentScore()
+                && before.getStatus() == after.getStatus()
+                && Objects.equals(before.getLastUpdated(), after.getLastUpdated())
+                && Objects.equals(before.getPollingIntervalMs(), after.getPollingIntervalMs());
+    }
+
+    private static Event[] withStatus(Event[] events, EventStatus status) {
+        return Arrays.stream(events).filter(event -> event.getStatus() == status).toArray(Event[]::new);
+    }
+
+    private static String[] idsOf(Event[] events) {
+        String[] ids = new String[events.length];
+        for (int i = 0; i < events.length; i++) {
+            ids[i] = events[i].getEventId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.cosminchr.liveeventtrackerservice.model;
+
+/**
+ * Scores packed into a single {@code long}.
+ * <p>
+ * Layout, from the most significant bit:
+ * <pre>
+ *   bits 63-57   unused, always 0
+ *   bit  56      presence bit, so that {@link #NONE} (0) is distinct from "0:0"
+ *   bits 55-32   home score (24 bits)
+ *   bits 31-8    away score (24 bits)
+ *   bits 7-0     period, 0 if the score has none
+ * </pre>
+ * Two packed scores are equal exactly when their home score, away score and period are equal,
+ * so packed values can be compared with {@code ==}. The textual form is "home:away" or
+ * "home:away:period", which is what the upstream API and the JSON API use.
+ */
+public final class Score {
+
+    /**
+     * No score.
+     */
+    public static final long NONE = 0L;
+
+    /**
+     * Largest home or away score that can be packed.
+     */
+    public static final int MAX_POINTS = (1 << 24) - 1;
+
+    /**
+     * Largest period that can be packed.
+     */
+    public static final int MAX_PERIOD = (1 << 8) - 1;
+
+    private static final long PRESENT = 1L << 56;
+    private static final int HOME_SHIFT = 32;
+    private static final int AWAY_SHIFT = 8;
+
+    private Score() {
+    }
+
+    /**
+     * Packs a score without a period.
+     *
+     * @param home The home score
+     * @param away The away score
+     * @return The packed score
+     */
+    public static long of(int home, int away) {
+        return of(home, away, 0);
+    }
+
+    /**
+     * Packs a score.
+     *
+     * @param home   The home score
+     * @param away   The away score
+     * @param period The period, or 0 if the score has none
+     * @return The packed score
+     * @throws IllegalArgumentException if a component is negative or too large
+     */
+    public static long of(int home, int away, int period) {
+        if (home < 0 || home > MAX_POINTS || away < 0 || away > MAX_POINTS || period < 0 || period > MAX_PERIOD) {
+            throw new IllegalArgumentException("Score out of range: " + home + ":" + away + ":" + period);
+        }
+        return PRESENT | (long) home << HOME_SHIFT | (long) away << AWAY_SHIFT | period;
+    }
+
+    /**
+     * Checks whether a packed value holds a score.
+     *
+     * @param score The packed score
+     * @return true unless the value is {@link #NONE}
+     */
+    public static boolean isPresent(long score) {
+        return (score & PRESENT) != 0;
+    }
+
+    /**
+     * Gets the home score.
+     *
+     * @param score The packed score
+     * @return The home score
+     */
+    public static int home(long score) {
+        return (int) (score >>> HOME_SHIFT) & MAX_POINTS;
+    }
+
+    /**
+     * Gets the away score.
+     *
+     * @param score The packed score
+     * @return The away score
+     */
+    public static int away(long score) {
+        return (int) (score >>> AWAY_SHIFT) & MAX_POINTS;
+    }
+
+    /**
+     * Gets the period.
+     *
+     * @param score The packed score
+     * @return The period, or 0 if the score has none
+     */
+    public static int period(long score) {
+        return (int) score & MAX_PERIOD;
+    }
+
+    /**
+     * Parses a score in "home:away" or "home:away:period" form.
+     *
+     * @param text The text, or null
+     * @return The packed score, or {@link #NONE} if the text is null
+     * @throws IllegalArgumentException if the text is not a valid score
+     */
+    public static long parse(CharSequence text) {
+        if (text == null) {
+            return NONE;
+        }
+        int part = 0;
+        int first = 0;
+        int second = 0;
+        int value = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > MAX_POINTS) {
+                    throw invalid(text);
+                }
+            } else if (c == ':' && value >= 0 && part < 2) {
+                if (part++ == 0) {
+                    first = value;
+                } else {
+                    second = value;
+                }
+                value = -1;
+            } else {
+                throw invalid(text);
+            }
+        }
+        long score = pack(part, first, second, value);
+        if (score == NONE) {
+            throw invalid(text);
+        }
+        return score;
+    }
+
+    /**
+     * Parses a score from a character buffer, such as the one a JSON parser exposes,
+     * without allocating.
+     *
+     * @param buffer The buffer
+     * @param offset The index of the first character
+     * @param length The number of characters
+     * @return The packed score
+     * @throws IllegalArgumentException if the text is not a valid score
+     */
+    public static long parse(char[] buffer, int offset, int length) {
+        int part = 0;
+        int first = 0;
+        int second = 0;
+        int value = -1;
+        for (int i = offset; i < offset + length; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > MAX_POINTS) {
+                    throw invalid(new String(buffer, offset, length));
+                }
+            } else if (c == ':' && value >= 0 && part < 2) {
+                if (part++ == 0) {
+                    first = value;
+                } else {
+                    second = value;
+                }
+                value = -1;
+            } else {
+                throw invalid(new String(buffer, offset, length));
+            }
+        }
+        long score = pack(part, first, second, value);
+        if (score == NONE) {
+            throw invalid(new String(buffer, offset, length));
+        }
+        return score;
+    }
+
+    /**
+     * Formats a packed score as "home:away" or "home:away:period".
+     *
+     * @param score The packed score
+     * @return The text, or null for {@link #NONE}
+     */
+    public static String format(long score) {
+        if (!isPresent(score)) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder(12)
+                .append(home(score))
+                .append(':')
+                .append(away(score));
+        if (period(score) != 0) {
+            text.append(':').append(period(score));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Packs the components collected by a parser.
+     *
+     * @return The packed score, or {@link #NONE} if the text had no separator or ended with one
+     */
+    private static long pack(int separators, int first, int second, int last) {
+        if (separators == 0 || last < 0) {
+            return NONE;
+        }
+        return separators == 1 ? of(first, last) : of(first, second, last);
+    }
+
+    private static IllegalArgumentException invalid(CharSequence text) {
+        return new IllegalArgumentException("Invalid score: " + text);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.cosminchr.liveeventtrackerservice.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson support for packed {@link Score} fields.
+ * A packed score is written as its "home:away" text, and {@link Score#NONE} as null,
+ * so the JSON representation is the same as when scores were plain strings.
+ */
+public final class ScoreJson {
+
+    private ScoreJson() {
+    }
+
+    /**
+     * Writes a packed score as text.
+     */
+    public static class Serializer extends StdSerializer<Long> {
+
+        public Serializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(Long value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value == null || !Score.isPresent(value)) {
+                gen.writeNull();
+            } else {
+                gen.writeString(Score.format(value));
+            }
+        }
+    }
+
+    /**
+     * Reads a packed score straight from the parser's character buffer, without creating a String.
+     */
+    public static class Deserializer extends StdDeserializer<Long> {
+
+        public Deserializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+            }
+            try {
+                return Score.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            } catch (IllegalArgumentException e) {
+                return (Long) ctxt.handleWeirdStringValue(Long.class, p.getText(), e.getMessage());
+            }
+        }
+
+        @Override
+        public Long getNullValue(DeserializationContext ctxt) {
+            return Score.NONE;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.cosminchr.liveeventtrackerservice.persistence;
+
+/**
+ * A change to an event, as recorded in the write-ahead log.
+ * Every mutation assigns absolute values, so replaying a mutation that is already
+ * reflected in a snapshot leaves the event unchanged.
+ */
+public sealed interface EventMutation {
+
+    /**
+     * Gets the ID of the changed event.
+     *
+     * @return The event ID
+     */
+    String eventId();
+
+    /**
+     * The status of an event was set.
+     *
+     * @param eventId           The event ID
+     * @param live              Whether the event is live
+     * @param lastUpdatedMillis The time of the update, in epoch milliseconds
+     * @param pollingIntervalMs The requested polling interval, or 0 for the default interval
+     */
+    record StatusChanged(String eventId, boolean live, long lastUpdatedMillis, long pollingIntervalMs)
+            implements EventMutation {
+    }
+
+    /**
+     * The score of an event changed.
+     *
+     * @param eventId The event ID
+     * @param score   The new score, packed as a {@link com.github.cosminchr.liveeventtrackerservice.model.Score}
+     */
+    record ScoreChanged(String eventId, long score) implements EventMutation {
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.cosminchr.liveeventtrackerservice.persistence;
+
+/**
+ * When mutations appended to the write-ahead log are forced to disk.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Every mutation is written and forced to disk before the call that made it returns.
+     * Nothing is lost on a crash, at the cost of one fsync per mutation.
+     */
+    ALWAYS,
+
+    /**
+     * Mutations are buffered, then written and forced to disk every flush interval.
+     * A crash or power loss loses at most one interval of mutations.
+     */
+    INTERVAL,
+
+    /**
+     * Mutations are buffered and written every flush interval, but never forced.
+     * Written mutations survive a process crash, but not a power loss.
+     */
+    NEVER
+}
@@ -0,0 +1,161 @@
+package com.github.cosminchr.liveeventtrackerservice.persistence;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped snapshot of all events.
+ * <p>
+ * Layout: a header (magic number, format version, first write-ahead log segment not covered by the
+ * snapshot, event count), one entry per event, and a CRC32C of everything before it. An entry holds the
+ * event ID (2-byte length + UTF-8), the status, the packed score, the last update and poll times in epoch
+ * milliseconds (0 if unset) and the requested polling interval (0 for the default).
+ * <p>
+ * A snapshot is written to a temporary file, forced to disk and then atomically renamed over the
+ * previous snapshot, so a crash while writing leaves the previous snapshot in place.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x4C455453;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+    private static final int ENTRY_FIXED_BYTES = 2 + 1 + 8 + 8 + 8 + 8;
+    private static final int CHECKSUM_BYTES = 4;
+
+    /**
+     * The content of a snapshot.
+     *
+     * @param firstSegment The first write-ahead log segment to replay on top of the snapshot
+     * @param events       The events
+     */
+    public record Snapshot(long firstSegment, List<Event> events) {
+    }
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot, replacing any previous one.
+     *
+     * @param file         The snapshot file
+     * @param firstSegment The first write-ahead log segment not covered by the snapshot
+     * @param events       The events
+     * @throws IOException if the snapshot could not be written
+     */
+    public static void write(Path file, long firstSegment, List<Event> events) throws IOException {
+        byte[][] eventIds = new byte[events.size()][];
+        long size = HEADER_BYTES + CHECKSUM_BYTES;
+        for (int i = 0; i < events.size(); i++) {
+            eventIds[i] = events.get(i).getEventId().getBytes(StandardCharsets.UTF_8);
+            size += ENTRY_FIXED_BYTES + eventIds[i].length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot too large: " + size + " bytes");
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            data.putInt(MAGIC).putInt(VERSION).putLong(firstSegment).putInt(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                Event event = events.get(i);
+                data.putShort((short) eventIds[i].length).put(eventIds[i]);
+                data.put(event.getStatus() == EventStatus.LIVE ? (byte) 1 : (byte) 0);
+                data.putLong(event.getCurrentScore());
+                data.putLong(toEpochMillis(event.getLastUpdated()));
+                data.putLong(toEpochMillis(event.getLastPolled()));
+                data.putLong(event.getPollingIntervalMs() == null ? 0 : event.getPollingIntervalMs());
+            }
+            data.putInt(checksum(data, (int) size - CHECKSUM_BYTES));
+            data.force();
+        }
+
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file The snapshot file
+     * @return The snapshot, or null if there is none
+     * @throws IOException if the snapshot exists but cannot be read or is corrupt
+     */
+    public static Snapshot read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CHECKSUM_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size: " + size + " bytes");
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt((int) size - CHECKSUM_BYTES) != checksum(data, (int) size - CHECKSUM_BYTES)) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+            if (data.getInt() != MAGIC || data.getInt() != VERSION) {
+                throw new IOException("Unsupported snapshot format: " + file);
+            }
+
+            long firstSegment = data.getLong();
+            int count = data.getInt();
+            List<Event> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] eventId = new byte[Short.toUnsignedInt(data.getShort())];
+                data.get(eventId);
+                long pollingIntervalMs;
+                events.add(Event.builder()
+                        .eventId(new String(eventId, StandardCharsets.UTF_8))
+                        .status(data.get() != 0 ? EventStatus.LIVE : EventStatus.NOT_LIVE)
+                        .currentScore(data.getLong())
+                        .lastUpdated(toDateTime(data.getLong()))
+                        .lastPolled(toDateTime(data.getLong()))
+                        .pollingIntervalMs((pollingIntervalMs = data.getLong()) == 0 ? null : pollingIntervalMs)
+                        .build());
+            }
+            return new Snapshot(firstSegment, events);
+        }
+    }
+
+    private static int checksum(ByteBuffer data, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(data.slice(0, length));
+        return (int) crc.getValue();
+    }
+
+    private static void forceDirectory(Path directory) {
+        // Makes the rename durable; not supported on every platform, where the rename is durable enough
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
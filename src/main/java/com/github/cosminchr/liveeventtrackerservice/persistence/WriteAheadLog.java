@@ -0,0 +1,353 @@
+package com.github.cosminchr.liveeventtrackerservice.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of {@link EventMutation}s, split into numbered segment files.
+ * <p>
+ * Each record is framed as a payload length and a CRC32C of the payload, followed by the payload:
+ * a type byte, the event ID (2-byte length + UTF-8) and the fields of the mutation.
+ * On startup the segments are replayed in order; a torn or corrupt record at the end of the last
+ * segment, left behind by a crash in the middle of a write, is cut off before appending resumes.
+ * <p>
+ * Appends go to an in-memory buffer, which is written to the current segment when it is full and on
+ * {@link #flush(boolean)}. With {@link FsyncPolicy#ALWAYS} every append is written and forced at once.
+ * A {@link ReentrantLock} guards the buffer and channel rather than {@code synchronized}, so that
+ * virtual threads blocked on file I/O do not pin their carrier thread.
+ */
+@Slf4j
+public final class WriteAheadLog implements Closeable {
+
+    private static final byte STATUS_CHANGED = 1;
+    private static final byte SCORE_CHANGED = 2;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("wal-(\\d{10})\\.log");
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private final long replayedRecords;
+
+    private FileChannel channel;
+    private long segment;
+    private long segmentBytes;
+
+    private WriteAheadLog(Path directory, FsyncPolicy fsyncPolicy, long segment, long segmentBytes, long replayedRecords)
+            throws IOException {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.segment = segment;
+        this.segmentBytes = segmentBytes;
+        this.replayedRecords = replayedRecords;
+        this.channel = openSegment(segment);
+    }
+
+    /**
+     * Replays the log from a segment onwards and opens it for appending.
+     *
+     * @param directory    The directory holding the segments
+     * @param firstSegment The first segment to replay; earlier segments are covered by a snapshot
+     * @param fsyncPolicy  When appended mutations are forced to disk
+     * @param replayTarget Receives every replayed mutation, in log order
+     * @return The opened log
+     * @throws IOException if the segments cannot be read or the current segment cannot be opened
+     */
+    public static WriteAheadLog open(Path directory, long firstSegment, FsyncPolicy fsyncPolicy,
+                                     Consumer<EventMutation> replayTarget) throws IOException {
+        Files.createDirectories(directory);
+
+        List<Long> segments = listSegments(directory);
+        long replayed = 0;
+        long lastSegment = -1;
+        long lastSegmentBytes = 0;
+        for (long segment : segments) {
+            if (segment < firstSegment) {
+                // Left behind by a crash between writing a snapshot and deleting the segments it covers
+                Files.deleteIfExists(segmentPath(directory, segment));
+                continue;
+            }
+            Path file = segmentPath(directory, segment);
+            long fileBytes = Files.size(file);
+            long[] validBytes = new long[1];
+            replayed += replaySegment(file, replayTarget, validBytes);
+            if (validBytes[0] < fileBytes) {
+                log.warn("Ignoring torn or corrupt tail of write-ahead log: segment={}, validBytes={}, fileBytes={}",
+                        file.getFileName(), validBytes[0], fileBytes);
+            }
+            lastSegment = segment;
+            lastSegmentBytes = validBytes[0];
+        }
+
+        if (lastSegment < 0) {
+            lastSegment = firstSegment;
+        } else {
+            // Cut off a torn tail so that new records follow the last valid one
+            try (FileChannel channel = FileChannel.open(segmentPath(directory, lastSegment), StandardOpenOption.WRITE)) {
+                channel.truncate(lastSegmentBytes);
+            }
+        }
+
+        return new WriteAheadLog(directory, fsyncPolicy, lastSegment, lastSegmentBytes, replayed);
+    }
+
+    /**
+     * Appends a mutation to the log.
+     *
+     * @param mutation The mutation
+     * @throws IOException if the mutation could not be written
+     */
+    public void append(EventMutation mutation) throws IOException {
+        byte[] eventId = mutation.eventId().getBytes(StandardCharsets.UTF_8);
+        if (eventId.length > 0xFFFF) {
+            throw new IllegalArgumentException("Event ID too long for the write-ahead log: " + eventId.length + " bytes");
+        }
+        int payloadBytes = 1 + 2 + eventId.length + (mutation instanceof EventMutation.StatusChanged ? 1 + 8 + 8 : 8);
+
+        lock.lock();
+        try {
+            if (buffer.remaining() < FRAME_HEADER_BYTES + payloadBytes) {
+                writeBuffer();
+            }
+
+            int frameStart = buffer.position();
+            buffer.putInt(payloadBytes);
+            buffer.putInt(0);
+            int payloadStart = buffer.position();
+            switch (mutation) {
+                case EventMutation.StatusChanged status -> {
+                    buffer.put(STATUS_CHANGED);
+                    buffer.putShort((short) eventId.length).put(eventId);
+                    buffer.put(status.live() ? (byte) 1 : (byte) 0);
+                    buffer.putLong(status.lastUpdatedMillis());
+                    buffer.putLong(status.pollingIntervalMs());
+                }
+                case EventMutation.ScoreChanged score -> {
+                    buffer.put(SCORE_CHANGED);
+                    buffer.putShort((short) eventId.length).put(eventId);
+                    buffer.putLong(score.score());
+                }
+            }
+            crc.reset();
+            crc.update(buffer.slice(payloadStart, payloadBytes));
+            buffer.putInt(frameStart + 4, (int) crc.getValue());
+            segmentBytes += FRAME_HEADER_BYTES + payloadBytes;
+
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                writeBuffer();
+                channel.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes buffered mutations to the current segment.
+     *
+     * @param force Whether to force the segment to disk afterwards
+     * @throws IOException if the mutations could not be written
+     */
+    public void flush(boolean force) throws IOException {
+        lock.lock();
+        try {
+            writeBuffer();
+            if (force) {
+                channel.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes buffered mutations as the fsync policy asks for; called every flush interval.
+     *
+     * @throws IOException if the mutations could not be written
+     */
+    public void flush() throws IOException {
+        flush(fsyncPolicy != FsyncPolicy.NEVER);
+    }
+
+    /**
+     * Closes the current segment and starts a new one. Mutations appended after this call
+     * go to the new segment, so a snapshot taken at the same time covers all older segments.
+     *
+     * @return The number of the new segment
+     * @throws IOException if the current segment could not be closed or the new one created
+     */
+    public long rotate() throws IOException {
+        lock.lock();
+        try {
+            writeBuffer();
+            channel.force(false);
+            channel.close();
+            segment++;
+            segmentBytes = 0;
+            channel = openSegment(segment);
+            return segment;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments before a given one, once a snapshot covers them.
+     *
+     * @param segment The first segment to keep
+     * @throws IOException if the segments could not be listed or deleted
+     */
+    public void deleteSegmentsBefore(long segment) throws IOException {
+        for (long existing : listSegments(directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(segmentPath(directory, existing));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of bytes appended to the current segment, including buffered mutations.
+     *
+     * @return The size of the current segment in bytes
+     */
+    public long getSegmentBytes() {
+        lock.lock();
+        try {
+            return segmentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of mutations that were replayed when the log was opened.
+     *
+     * @return The number of replayed mutations
+     */
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            writeBuffer();
+            channel.force(false);
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            // Keeps only the bytes not written yet, so a write that failed partway resumes where it stopped
+            buffer.compact();
+        }
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(segmentPath(directory, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replays the valid records of a segment.
+     *
+     * @param file         The segment file
+     * @param replayTarget Receives every replayed mutation
+     * @param validBytes   Receives the length of the valid prefix of the segment
+     * @return The number of replayed records
+     */
+    private static long replaySegment(Path file, Consumer<EventMutation> replayTarget, long[] validBytes)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Write-ahead log segment too large to replay: " + file);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32C crc = new CRC32C();
+            long records = 0;
+
+            while (data.remaining() >= FRAME_HEADER_BYTES) {
+                int payloadBytes = data.getInt();
+                int checksum = data.getInt();
+                if (payloadBytes <= 0 || payloadBytes > data.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = data.slice(data.position(), payloadBytes);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                EventMutation mutation = decode(payload);
+                if (mutation == null) {
+                    break;
+                }
+                replayTarget.accept(mutation);
+                data.position(data.position() + payloadBytes);
+                validBytes[0] = data.position();
+                records++;
+            }
+            return records;
+        }
+    }
+
+    private static EventMutation decode(ByteBuffer payload) {
+        byte type = payload.get();
+        byte[] eventId = new byte[Short.toUnsignedInt(payload.getShort())];
+        payload.get(eventId);
+        String id = new String(eventId, StandardCharsets.UTF_8);
+        return switch (type) {
+            case STATUS_CHANGED -> new EventMutation.StatusChanged(id, payload.get() != 0, payload.getLong(), payload.getLong());
+            case SCORE_CHANGED -> new EventMutation.ScoreChanged(id, payload.getLong());
+            default -> null;
+        };
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("wal-%010d.log", segment));
+    }
+}
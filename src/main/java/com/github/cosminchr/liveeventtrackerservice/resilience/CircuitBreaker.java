@@ -0,0 +1,174 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker.
+ * <p>
+ * The breaker opens after {@code failureThreshold} consecutive failed calls and then rejects calls
+ * for {@code openDurationMs}. After that it lets a single trial call through: if the trial succeeds
+ * the breaker closes again, if it fails the breaker stays open for another {@code openDurationMs}.
+ * A success reported while the breaker is open, by a call made before it opened, does not close it.
+ * <p>
+ * Every upstream call passes through the breaker, mostly from virtual threads, so its state is guarded
+ * by a {@link ReentrantLock} rather than {@code synchronized}: a virtual thread waiting for the lock
+ * parks instead of pinning its carrier thread.
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Calls are permitted.
+         */
+        CLOSED,
+        /**
+         * A single trial call is permitted to test whether the callee has recovered.
+         */
+        HALF_OPEN,
+        /**
+         * Calls are rejected.
+         */
+        OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInProgress;
+    private long rejectedCalls;
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param name             The name of the breaker, used in error messages
+     * @param failureThreshold The number of consecutive failures after which the breaker opens
+     * @param openDurationMs   How long the breaker rejects calls before allowing a trial call, in milliseconds
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+    }
+
+    /**
+     * Checks whether a call may be made. Every permitted call must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+     *
+     * @throws CircuitBreakerOpenException if the breaker is open
+     */
+    public void acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                state = State.HALF_OPEN;
+            }
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.HALF_OPEN && !trialInProgress) {
+                trialInProgress = true;
+                return;
+            }
+            rejectedCalls++;
+            throw new CircuitBreakerOpenException(name);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a successful call. Closes a half-open breaker, but leaves an open one open.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                return;
+            }
+            consecutiveFailures = 0;
+            trialInProgress = false;
+            state = State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            trialInProgress = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a permitted call that ended without an outcome from the callee, for example because it
+     * was cancelled or never started. The state is left as it is, but a trial call may be made again.
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            trialInProgress = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the current state. An open breaker whose open duration has elapsed is reported as half-open.
+     *
+     * @return The state
+     */
+    public State getState() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of calls that were rejected because the breaker was open.
+     *
+     * @return The number of rejected calls
+     */
+    public long getRejectedCallCount() {
+        lock.lock();
+        try {
+            return rejectedCalls;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the name of the breaker.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+}
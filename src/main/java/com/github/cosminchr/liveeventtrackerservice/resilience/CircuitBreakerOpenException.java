@@ -0,0 +1,15 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown when a call is rejected because its circuit breaker is open.
+ * It is a {@link RestClientException}, so callers of the external API handle it like any other
+ * unavailability of the upstream, only without having waited for it.
+ */
+public class CircuitBreakerOpenException extends RestClientException {
+
+    public CircuitBreakerOpenException(String name) {
+        super("Circuit breaker is open: " + name);
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into a single load.
+ * <p>
+ * The first caller for a key becomes the leader and runs the load; callers that arrive while it is
+ * running wait for it and receive the same result, or the same exception. Batch loads take part key by
+ * key: they only load the keys nobody else is loading and wait for the others. With a positive cache TTL,
+ * successful results are additionally kept for that long and returned without loading at all.
+ * Failures are never cached.
+ *
+ * @param <K> The key type
+ * @param <V> The result type; null results are allowed
+ */
+public class SingleFlight<K, V> {
+
+    private final long cacheTtlNanos;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, Cached<V>> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    /**
+     * Creates a single-flight group.
+     *
+     * @param cacheTtlMs How long successful results are cached in milliseconds, or 0 to not cache them
+     */
+    public SingleFlight(long cacheTtlMs) {
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, cacheTtlMs));
+    }
+
+    /**
+     * Loads the value for a key on the calling thread, or waits for the load that is already running.
+     *
+     * @param key    The key
+     * @param loader Loads the value; only called by the leader
+     * @return The loaded or cached value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        Cached<V> cached = getCached(key);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            complete(key, flight, value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            fail(key, flight, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts loading the value for a key without blocking, or joins the load that is already running.
+     * Cancelling the returned future does not affect the other callers.
+     *
+     * @param key    The key
+     * @param loader Starts the load; only called by the leader
+     * @return A future that completes with the loaded or cached value
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Cached<V> cached = getCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.value());
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        loads.increment();
+        try {
+            loader.get().whenComplete((value, e) -> {
+                if (e != null) {
+                    fail(key, flight, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                } else {
+                    complete(key, flight, value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            fail(key, flight, e);
+        }
+        return flight.copy();
+    }
+
+    /**
+     * Loads the values for several keys with a single call on the calling thread. Keys that are cached,
+     * or already being loaded by another caller, single or batch, are not loaded again but waited for.
+     * The keys this call loads are completed before it waits for any other load, so concurrent batches
+     * that overlap never wait for each other in a cycle.
+     *
+     * @param keys   The keys
+     * @param loader Loads the values of the keys no other caller is loading; keys missing from its result get null
+     * @return The value of every key
+     */
+    public Map<K, V> executeAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> values = new LinkedHashMap<>(keys.size() * 2);
+        Map<K, CompletableFuture<V>> led = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> awaited = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (values.containsKey(key) || led.containsKey(key) || awaited.containsKey(key)) {
+                continue;
+            }
+            Cached<V> cached = getCached(key);
+            if (cached != null) {
+                values.put(key, cached.value());
+                continue;
+            }
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                coalesced.increment();
+                awaited.put(key, existing);
+            } else {
+                led.put(key, flight);
+            }
+        }
+
+        if (!led.isEmpty()) {
+            loads.add(led.size());
+            Map<K, V> loaded = load(led, loader);
+            for (Map.Entry<K, CompletableFuture<V>> entry : led.entrySet()) {
+                V value = loaded.get(entry.getKey());
+                complete(entry.getKey(), entry.getValue(), value);
+                values.put(entry.getKey(), value);
+            }
+        }
+        for (Map.Entry<K, CompletableFuture<V>> entry : awaited.entrySet()) {
+            values.put(entry.getKey(), join(entry.getValue()));
+        }
+        return values;
+    }
+
+    /**
+     * Removes the cached results that have expired.
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.expiresAtNanos() - now <= 0);
+    }
+
+    /**
+     * Gets the number of loads that were actually run; a batch load counts once for every key it loaded.
+     *
+     * @return The number of loads
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the number of calls that shared the result of a load run by another caller.
+     *
+     * @return The number of coalesced calls
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the number of calls that were answered from the cache.
+     *
+     * @return The number of cache hits
+     */
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    private Cached<V> getCached(K key) {
+        if (cacheTtlNanos == 0) {
+            return null;
+        }
+        Cached<V> cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtNanos() - System.nanoTime() <= 0) {
+            cache.remove(key, cached);
+            return null;
+        }
+        cacheHits.increment();
+        return cached;
+    }
+
+    private void complete(K key, CompletableFuture<V> flight, V value) {
+        // Cache before leaving the flight, so a caller arriving in between does not start another load
+        if (cacheTtlNanos > 0) {
+            cache.put(key, new Cached<>(value, System.nanoTime() + cacheTtlNanos));
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+    }
+
+    private Map<K, V> load(Map<K, CompletableFuture<V>> led, Function<List<K>, Map<K, V>> loader) {
+        try {
+            return loader.apply(List.copyOf(led.keySet()));
+        } catch (RuntimeException | Error e) {
+            led.forEach((key, flight) -> fail(key, flight, e));
+            throw e;
+        }
+    }
+
+    private void fail(K key, CompletableFuture<V> flight, Throwable e) {
+        inFlight.remove(key, flight);
+        flight.completeExceptionally(e);
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow what the leader's load threw
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Cached<V>(V value, long expiresAtNanos) {
+    }
+}
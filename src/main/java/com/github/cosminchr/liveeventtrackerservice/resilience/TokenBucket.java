@@ -0,0 +1,90 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket rate limiter.
+ * <p>
+ * The bucket is implemented as a generic cell rate algorithm: instead of a token count that has to
+ * be refilled, it keeps a single theoretical arrival time, which every permitted call moves forward
+ * by one emission interval. A call is permitted if that does not move it further than the burst
+ * ahead of the current time. Acquiring a permit is a single compare-and-set and never blocks.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    /**
+     * Creates a token bucket that starts full.
+     *
+     * @param permitsPerSecond The sustained rate, or 0 or less for no limit
+     * @param burst            The number of permits that can be acquired at once after a quiet period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.emissionIntervalNanos = permitsPerSecond > 0
+                ? Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond))
+                : 0;
+        this.burstNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Tries to acquire a permit without waiting.
+     *
+     * @return true if the permit was acquired
+     */
+    public boolean tryAcquire() {
+        if (emissionIntervalNanos == 0) {
+            permitted.increment();
+            return true;
+        }
+
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long next = Math.max(arrival - now, 0) + now + emissionIntervalNanos;
+            if (next - now > burstNanos) {
+                denied.increment();
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                permitted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bucket limits the rate at all.
+     *
+     * @return true if a rate is configured
+     */
+    public boolean isLimited() {
+        return emissionIntervalNanos > 0;
+    }
+
+    /**
+     * Gets the number of permits that were acquired.
+     *
+     * @return The number of permitted calls
+     */
+    public long getPermittedCount() {
+        return permitted.sum();
+    }
+
+    /**
+     * Gets the number of attempts to acquire a permit that were denied.
+     *
+     * @return The number of denied attempts
+     */
+    public long getDeniedCount() {
+        return denied.sum();
+    }
+}
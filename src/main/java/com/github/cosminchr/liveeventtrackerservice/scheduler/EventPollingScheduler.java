@@ -1,71 +1,324 @@
 package com.github.cosminchr.liveeventtrackerservice.scheduler;
 
+import com.github.cosminchr.liveeventtrackerservice.config.SchedulerProperties;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.journal.JournalCategory;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
-import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreakerOpenException;
+import com.github.cosminchr.liveeventtrackerservice.resilience.TokenBucket;
 import com.github.cosminchr.liveeventtrackerservice.service.EventService;
 import com.github.cosminchr.liveeventtrackerservice.service.ExternalApiService;
 import com.github.cosminchr.liveeventtrackerservice.service.MessagePublisherService;
-import lombok.RequiredArgsConstructor;
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 
+import java.lang.management.ManagementFactory;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduler for polling live events.
+ * <p>
+ * Every live event has its own polling interval and due time, kept in a {@link TimingWheel}.
+ * The first poll of an event is delayed by a deterministic phase offset derived from its ID,
+ * so polls are spread evenly across the interval instead of arriving at the upstream API in one burst.
+ * Due events are fetched from the upstream API in batches of up to {@code event-tracker.scheduler.batch-size}.
+ * The fetch and publish work runs on the polling executor,
+ * with at most {@code event-tracker.scheduler.max-concurrent-events} events in flight.
+ * <p>
+ * With {@code event-tracker.scheduler.adaptive-polling} enabled, the interval of an event that uses
+ * the default interval follows its score: it drops to the minimum interval after a change and
+ * backs off exponentially up to the maximum interval while the score stays the same.
+ * <p>
+ * A poll that fails because of the external API is retried through the timing wheel after
+ * {@code event-tracker.scheduler.retry-delay-ms}, growing exponentially, so no thread ever waits
+ * for a retry. Retries run in their own bulkhead of {@code max-concurrent-retries} permits, separate
+ * from the regular polls, and are dropped when it is full. Polls rejected by an open circuit breaker
+ * are not retried; the next regular poll probes the upstream again.
+ * <p>
+ * Every request to the external API, a whole batch counting as one, takes a permit from a
+ * {@link TokenBucket} limited to {@code event-tracker.scheduler.max-requests-per-second}.
+ * Polls that find the bucket empty are held back in a single FIFO queue that is served before
+ * any newly due poll, so when demand exceeds the quota every event is delayed by the same amount
+ * instead of some events starving. Retries are not held back but dropped, as the regular poll follows anyway.
+ * <p>
+ * Sweep and fetch durations are recorded as {@code event.tracker.poll.*} timers with percentile histograms.
+ * The outcome of every poll and retry goes to the {@link EventJournal}, sampled and rate limited there,
+ * instead of the log.
+ * <p>
+ * The JVM uptime at the first poll the upstream answers is logged once and exposed as
+ * {@code event.tracker.startup.first.poll}, the time a new replica takes to do useful work.
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
-public class EventPollingScheduler {
+public class EventPollingScheduler implements MeterBinder {
 
     private final EventService eventService;
     private final ExternalApiService externalApiService;
     private final MessagePublisherService messagePublisherService;
+    private final ScoreStreamService scoreStreamService;
+    private final Executor pollingExecutor;
+    private final SchedulerProperties schedulerProperties;
+    private final EventJournal eventJournal;
 
-    // Track events that are currently being polled
-    private final Map<String, Boolean> activePollingEvents = new ConcurrentHashMap<>();
+    // Limits the number of polls running at the same time
+    private final Semaphore pollingPermits;
+
+    // Limits the number of retries running at the same time, separately from the regular polls
+    private final Semaphore retryPermits;
+
+    // Track events that are currently being polled, with their polling state
+    private final Map<String, PollingState> activePollingEvents = new ConcurrentHashMap<>();
+
+    // Due times of the active events
+    private final TimingWheel<String> timingWheel;
+
+    // Last published score of the active events
+    private final ScoreChangeDetector scoreChangeDetector;
+
+    // Limits the rate of requests to the external API
+    private final TokenBucket requestLimiter;
+
+    // Polls held back by the rate limiter, in the order they became due
+    private final Queue<DuePoll> throttledPolls = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger inFlightPolls = new AtomicInteger();
+    private final AtomicInteger pendingRetries = new AtomicInteger();
+    private final AtomicLong droppedRetries = new AtomicLong();
+    private final AtomicLong throttledPollCount = new AtomicLong();
+    private final AtomicLong throttledRetryCount = new AtomicLong();
+    private final AtomicLong failedPolls = new AtomicLong();
+    private final AtomicLong retriedPolls = new AtomicLong();
+    private volatile long lastSweepDurationMs;
+    // JVM uptime when the upstream first answered a poll, or -1 until then
+    private final AtomicLong firstPollUptimeMs = new AtomicLong(-1);
+
+    // Timers of the hot path; until bindTo is called they belong to an empty registry and record nothing
+    private volatile PollTimers timers = new PollTimers(new CompositeMeterRegistry());
+
+    public EventPollingScheduler(EventService eventService,
+                                 ExternalApiService externalApiService,
+                                 MessagePublisherService messagePublisherService,
+                                 ScoreStreamService scoreStreamService,
+                                 @Qualifier("pollingExecutor") Executor pollingExecutor,
+                                 SchedulerProperties schedulerProperties,
+                                 EventJournal eventJournal) {
+        this.eventService = eventService;
+        this.externalApiService = externalApiService;
+        this.messagePublisherService = messagePublisherService;
+        this.scoreStreamService = scoreStreamService;
+        this.pollingExecutor = pollingExecutor;
+        this.schedulerProperties = schedulerProperties;
+        this.eventJournal = eventJournal;
+        this.pollingPermits = new Semaphore(schedulerProperties.getMaxConcurrentEvents());
+        this.retryPermits = new Semaphore(Math.max(0, schedulerProperties.getMaxConcurrentRetries()));
+        this.timingWheel = new TimingWheel<>(
+                schedulerProperties.getWheelSize(), schedulerProperties.getTickMs(), nowMs());
+        this.scoreChangeDetector = new ScoreChangeDetector(
+                schedulerProperties.isPublishOnlyChanges(), schedulerProperties.getHeartbeatEveryPolls());
+        this.requestLimiter = new TokenBucket(
+                schedulerProperties.getMaxRequestsPerSecond(), schedulerProperties.getRequestBurst());
+    }
 
     /**
-     * Scheduled task that runs every 10 seconds to poll for live event updates.
+     * Scheduled task that advances the timing wheel every tick and polls the events that have become due.
+     * Polls are dispatched without waiting for them to complete; each event is rescheduled for its next
+     * poll as soon as it is dispatched, so the polling cadence does not drift with upstream latency.
      */
-    @Scheduled(fixedRate = 10000) // 10 seconds in milliseconds
-    public void pollLiveEvents() {
-        log.info("Starting scheduled polling of live events: activeEvents={}", activePollingEvents.size());
+    @Scheduled(fixedRateString = "${event-tracker.scheduler.tick-ms:100}")
+    public void pollDueEvents() {
+        long startNanos = System.nanoTime();
+        long now = TimeUnit.NANOSECONDS.toMillis(startNanos);
+        List<String> dueEventIds = timingWheel.advance(now);
+        if (dueEventIds.isEmpty() && throttledPolls.isEmpty()) {
+            return;
+        }
 
-        // For each event in the activePollingEvents map, check if it's still live
-        activePollingEvents.forEach((eventId, isPolling) -> {
-            Event event = eventService.getEvent(eventId);
+        log.debug("Polling due events: dueEvents={}, throttled={}, inFlight={}",
+                dueEventIds.size(), throttledPolls.size(), inFlightPolls.get());
+
+        List<DuePoll> duePolls = new ArrayList<>(dueEventIds.size() + throttledPolls.size());
+        List<DuePoll> dueRetries = new ArrayList<>();
+
+        // Polls held back by the rate limiter go first, in the order they were held back
+        DuePoll throttled;
+        while ((throttled = throttledPolls.poll()) != null) {
+            PollingState state = throttled.state();
+            state.queued.set(false);
+            if (!state.throttled.get()) {
+                // Already dispatched by a sweep while it waited
+                continue;
+            }
+            if (activePollingEvents.get(throttled.eventId()) != state || !isLiveOrUnschedule(throttled.eventId(), state)) {
+                state.throttled.set(false);
+                continue;
+            }
+            state.lastDispatchMs = now;
+            duePolls.add(throttled);
+        }
 
-            // If the event is no longer live, remove it from the polling map
-            if (event == null || event.getStatus() != EventStatus.LIVE) {
-                log.info("Event is no longer live, removing from polling: eventId={}", eventId);
-                activePollingEvents.remove(eventId);
-                return;
+        for (String eventId : dueEventIds) {
+            PollingState state = activePollingEvents.get(eventId);
+            if (state == null) {
+                continue;
             }
 
+            if (state.throttled.get()) {
+                // Still waiting for its previous poll, which keeps its place in the queue
+                clearRetry(state);
+                timingWheel.schedule(eventId, state.intervalMs, now);
+                continue;
+            }
+
+            if (!isLiveOrUnschedule(eventId, state)) {
+                continue;
+            }
+
+            if (state.retryPending.compareAndSet(true, false)) {
+                // A retry keeps the regular cadence of the event
+                pendingRetries.decrementAndGet();
+                long nextRegularPoll = state.lastDispatchMs >= 0
+                        ? state.lastDispatchMs + state.intervalMs - now
+                        : state.intervalMs;
+                timingWheel.schedule(eventId, nextRegularPoll, now);
+                dueRetries.add(new DuePoll(eventId, state));
+                continue;
+            }
+
+            state.lastDispatchMs = now;
+            timingWheel.schedule(eventId, state.intervalMs, now);
+            duePolls.add(new DuePoll(eventId, state));
+        }
+
+        submitPolls(duePolls, false);
+        if (!dueRetries.isEmpty()) {
+            submitPolls(dueRetries, true);
+        }
+        timers.tick.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Polls every active event immediately, regardless of its due time.
+     * The sweep fans out the polls of all live events and returns once all of them have completed.
+     */
+    public void pollLiveEvents() {
+        log.debug("Starting polling sweep of live events: activeEvents={}", activePollingEvents.size());
+        long startNanos = System.nanoTime();
+
+        List<DuePoll> duePolls = new ArrayList<>(activePollingEvents.size());
+
+        // For each event in the activePollingEvents map, check if it's still live
+        activePollingEvents.forEach((eventId, state) -> {
             // If the event is live, poll for updates
-            try {
-                pollEvent(event);
-            } catch (Exception e) {
-                log.error("Error polling event: eventId={}, error={}", eventId, e.getMessage());
+            if (isLiveOrUnschedule(eventId, state)) {
+                duePolls.add(new DuePoll(eventId, state));
             }
         });
+
+        List<CompletableFuture<Void>> batches = submitPolls(duePolls, false);
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+
+        long durationNanos = System.nanoTime() - startNanos;
+        timers.sweep.record(durationNanos, TimeUnit.NANOSECONDS);
+        lastSweepDurationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        log.debug("Finished polling sweep: polledEvents={}, batches={}, durationMs={}, inFlight={}, "
+                        + "publishedUpdates={}, suppressedUpdates={}, pendingRetries={}, droppedRetries={}",
+                duePolls.size(), batches.size(), lastSweepDurationMs, inFlightPolls.get(),
+                scoreChangeDetector.getPublishedCount(), scoreChangeDetector.getSuppressedCount(),
+                pendingRetries.get(), droppedRetries.get());
     }
 
     /**
-     * Adds an event to the polling schedule.
+     * Schedules the events that are live in the event store when the application starts.
+     * With a persistent store this resumes polling of the events that were live before a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreActivePolling() {
+        List<String> liveEventIds = eventService.getLiveEventIds();
+        if (liveEventIds.isEmpty()) {
+            return;
+        }
+
+        for (String eventId : liveEventIds) {
+            Event event = eventService.getEvent(eventId);
+            scheduleEventPolling(eventId, event != null ? event.getPollingIntervalMs() : null);
+        }
+        log.info("Restored polling of live events: events={}", liveEventIds.size());
+    }
+
+    /**
+     * Adds an event to the polling schedule, using the default polling interval.
      *
      * @param eventId The event ID
      */
     public void scheduleEventPolling(String eventId) {
-        log.info("Scheduling event for polling: eventId={}", eventId);
-        activePollingEvents.put(eventId, true);
+        scheduleEventPolling(eventId, null);
+    }
+
+    /**
+     * Adds an event to the polling schedule.
+     * Scheduling an event that is already scheduled with the same interval keeps its current due time
+     * and, with adaptive polling, its current adapted interval.
+     * An explicit interval is never adapted, so it can be used to keep high-priority events at a fixed cadence.
+     *
+     * @param eventId    The event ID
+     * @param intervalMs The polling interval for this event in milliseconds, or null for the default interval
+     */
+    public void scheduleEventPolling(String eventId, Long intervalMs) {
+        boolean explicit = intervalMs != null && intervalMs > 0;
+        long interval = explicit ? intervalMs : schedulerProperties.getPollingIntervalMs();
+        boolean adaptive = schedulerProperties.isAdaptivePolling() && !explicit;
+        if (adaptive) {
+            interval = Math.clamp(interval,
+                    schedulerProperties.getMinPollingIntervalMs(), schedulerProperties.getMaxPollingIntervalMs());
+        }
+
+        PollingState current = activePollingEvents.get(eventId);
+        if (current != null && current.baseIntervalMs == interval && current.adaptive == adaptive
+                && timingWheel.contains(eventId)) {
+            log.debug("Event is already scheduled for polling: eventId={}, intervalMs={}", eventId, interval);
+            return;
+        }
+
+        log.debug("Scheduling event for polling: eventId={}, intervalMs={}, adaptive={}", eventId, interval, adaptive);
+        PollingState previous = activePollingEvents.put(eventId, new PollingState(interval, adaptive));
+        if (previous != null) {
+            clearRetry(previous);
+        } else {
+            // An event that starts being polled again publishes its first poll, even if the score has not changed
+            scoreChangeDetector.forget(eventId);
+        }
+        timingWheel.schedule(eventId, phaseOffset(eventId, interval), nowMs());
     }
 
     /**
@@ -74,44 +327,673 @@ public class EventPollingScheduler {
      * @param eventId The event ID
      */
     public void unscheduleEventPolling(String eventId) {
-        log.info("Unscheduling event from polling: eventId={}", eventId);
-        activePollingEvents.remove(eventId);
+        log.debug("Unscheduling event from polling: eventId={}", eventId);
+        PollingState state = activePollingEvents.remove(eventId);
+        if (state != null) {
+            clearRetry(state);
+        }
+        timingWheel.cancel(eventId);
+        scoreChangeDetector.forget(eventId);
     }
 
     /**
-     * Polls a single event for updates.
+     * Gets the number of events currently scheduled for polling.
+     *
+     * @return The number of active polling events
+     */
+    public int getActivePollingEventCount() {
+        return activePollingEvents.size();
+    }
+
+    /**
+     * Gets the current polling interval of an event, which differs from its configured interval
+     * when adaptive polling is enabled.
+     *
+     * @param eventId The event ID
+     * @return The polling interval in milliseconds, or null if the event is not scheduled
+     */
+    public Long getPollingIntervalMs(String eventId) {
+        PollingState state = activePollingEvents.get(eventId);
+        return state != null ? state.intervalMs : null;
+    }
+
+    /**
+     * Gets the number of polls that are currently running.
+     *
+     * @return The number of in-flight polls
+     */
+    public int getInFlightPolls() {
+        return inFlightPolls.get();
+    }
+
+    /**
+     * Gets the number of failed polls that are waiting for their retry.
+     *
+     * @return The number of pending retries
+     */
+    public int getPendingRetries() {
+        return pendingRetries.get();
+    }
+
+    /**
+     * Gets the number of retries that were dropped because the retry bulkhead was full.
+     *
+     * @return The number of dropped retries
+     */
+    public long getDroppedRetries() {
+        return droppedRetries.get();
+    }
+
+    /**
+     * Gets the number of polls that were held back because the request rate limit was reached.
+     *
+     * @return The number of throttled polls
+     */
+    public long getThrottledPolls() {
+        return throttledPollCount.get();
+    }
+
+    /**
+     * Gets the number of retries that were dropped because the request rate limit was reached.
+     *
+     * @return The number of throttled retries
+     */
+    public long getThrottledRetries() {
+        return throttledRetryCount.get();
+    }
+
+    /**
+     * Gets the number of polls that failed, including batch polls, counted per event.
+     *
+     * @return The number of failed polls
+     */
+    public long getFailedPolls() {
+        return failedPolls.get();
+    }
+
+    /**
+     * Gets the number of retries of failed polls that were dispatched.
+     *
+     * @return The number of retried polls
+     */
+    public long getRetriedPolls() {
+        return retriedPolls.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        timers = new PollTimers(registry);
+        Gauge.builder("event.tracker.poll.active", activePollingEvents, Map::size)
+                .description("Events currently scheduled for polling")
+                .register(registry);
+        Gauge.builder("event.tracker.poll.inflight", inFlightPolls, AtomicInteger::get)
+                .description("Polls currently fetching from the external API or publishing")
+                .register(registry);
+        Gauge.builder("event.tracker.poll.retries.pending", pendingRetries, AtomicInteger::get)
+                .description("Failed polls waiting for their retry")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.poll.updates", scoreChangeDetector, ScoreChangeDetector::getPublishedCount)
+                .description("Polled scores that were published")
+                .tag("result", "published")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.poll.updates", scoreChangeDetector, ScoreChangeDetector::getSuppressedCount)
+                .description("Polled scores that were not published because they had not changed")
+                .tag("result", "suppressed")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.poll.failed", failedPolls, AtomicLong::get)
+                .description("Polls that failed")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.poll.retried", retriedPolls, AtomicLong::get)
+                .description("Retries of failed polls that were dispatched")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.poll.retries.dropped", droppedRetries, AtomicLong::get)
+                .description("Retries dropped because the retry bulkhead was full")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.ratelimit.waited", throttledPollCount, AtomicLong::get)
+                .description("Polls held back until a request permit was available")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.ratelimit.denied", throttledRetryCount, AtomicLong::get)
+                .description("Retries dropped because no request permit was available")
+                .register(registry);
+        Gauge.builder("event.tracker.ratelimit.queued", throttledPolls, Queue::size)
+                .description("Polls currently waiting for a request permit")
+                .register(registry);
+        TimeGauge.builder("event.tracker.startup.first.poll", this, TimeUnit.MILLISECONDS, EventPollingScheduler::getFirstPollUptimeMs)
+                .description("Time from the start of the JVM until the upstream answered the first poll")
+                .register(registry);
+    }
+
+    /**
+     * Gets the time from the start of the JVM until the upstream answered the first poll.
+     *
+     * @return The time in milliseconds, or NaN if no poll has been answered yet
+     */
+    public double getFirstPollUptimeMs() {
+        long uptimeMs = firstPollUptimeMs.get();
+        return uptimeMs < 0 ? Double.NaN : uptimeMs;
+    }
+
+    /**
+     * Gets the number of updates that were published, including heartbeats.
+     *
+     * @return The number of published updates
+     */
+    public long getPublishedUpdates() {
+        return scoreChangeDetector.getPublishedCount();
+    }
+
+    /**
+     * Gets the number of updates that were not published because the score had not changed.
+     *
+     * @return The number of suppressed updates
+     */
+    public long getSuppressedUpdates() {
+        return scoreChangeDetector.getSuppressedCount();
+    }
+
+    /**
+     * Gets the wall-clock duration of the last completed full sweep.
      *
-     * @param event The event to poll
+     * @return The last sweep duration in milliseconds
      */
-    private void pollEvent(Event event) {
-        String eventId = event.getEventId();
+    public long getLastSweepDurationMs() {
+        return lastSweepDurationMs;
+    }
+
+    /**
+     * Computes the delay before the first poll of an event.
+     * The offset is derived from the event ID, so it is stable across restarts and instances,
+     * and is spread uniformly over the polling interval.
+     *
+     * @param eventId    The event ID
+     * @param intervalMs The polling interval
+     * @return The phase offset in milliseconds, in the range [0, intervalMs)
+     */
+    static long phaseOffset(String eventId, long intervalMs) {
+        // Murmur3 finaliser, to spread similar IDs such as "event1", "event2" over the interval
+        long h = eventId.hashCode();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return Math.floorMod(h, intervalMs);
+    }
 
-        log.info("Polling event: eventId={}", eventId);
+    /**
+     * Checks whether an event is still live and removes it from the polling schedule if it is not.
+     *
+     * @param eventId The event ID
+     * @param state   The polling state the caller observed for the event
+     * @return true if the event is still live
+     */
+    private boolean isLiveOrUnschedule(String eventId, PollingState state) {
+        // If the event is no longer live, remove it from the polling map
+        if (!eventService.isLive(eventId)) {
+            log.info("Event is no longer live, removing from polling: eventId={}", eventId);
+            if (activePollingEvents.remove(eventId, state)) {
+                clearRetry(state);
+                timingWheel.cancel(eventId);
+                scoreChangeDetector.forget(eventId);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Groups polls into batches of at most {@code batch-size} events and submits each batch to the polling executor.
+     * Events whose previous poll is still running are skipped. Every batch needs a request permit; once the
+     * rate limiter is exhausted, the remaining polls are held back for the next tick.
+     *
+     * @param duePolls The events to poll
+     * @param retry    Whether the polls are retries of failed polls
+     * @return A future per submitted batch that completes when the batch has finished
+     */
+    private List<CompletableFuture<Void>> submitPolls(List<DuePoll> duePolls, boolean retry) {
+        int batchSize = Math.max(1, schedulerProperties.getBatchSize());
+        List<CompletableFuture<Void>> batches = new ArrayList<>((duePolls.size() + batchSize - 1) / batchSize);
+
+        List<DuePoll> batch = new ArrayList<>(Math.min(batchSize, duePolls.size()));
+        boolean limitReached = false;
+        for (DuePoll duePoll : duePolls) {
+            if (limitReached) {
+                throttle(duePoll, retry);
+                continue;
+            }
+            if (!duePoll.state().inFlight.compareAndSet(false, true)) {
+                log.debug("Previous poll still in flight, skipping: eventId={}", duePoll.eventId());
+                duePoll.state().throttled.set(false);
+                continue;
+            }
+            if (batch.isEmpty() && !requestLimiter.tryAcquire()) {
+                duePoll.state().inFlight.set(false);
+                limitReached = true;
+                throttle(duePoll, retry);
+                continue;
+            }
+            duePoll.state().throttled.set(false);
+            batch.add(duePoll);
+            if (batch.size() == batchSize) {
+                batches.add(submitBatch(batch, retry));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(submitBatch(batch, retry));
+        }
+        if (limitReached) {
+            log.debug("Request rate limit reached, holding back polls: throttled={}", throttledPolls.size());
+        }
+        return batches;
+    }
+
+    /**
+     * Holds back a poll that did not get a request permit. Regular polls are queued for the next tick,
+     * retries are dropped.
+     *
+     * @param duePoll The poll
+     * @param retry   Whether the poll is a retry
+     */
+    private void throttle(DuePoll duePoll, boolean retry) {
+        if (retry) {
+            throttledRetryCount.incrementAndGet();
+            return;
+        }
+        // Counted once per poll, however many ticks it waits
+        if (duePoll.state().throttled.compareAndSet(false, true)) {
+            throttledPollCount.incrementAndGet();
+        }
+        // An event waits in the queue at most once, even if a sweep holds it back again
+        if (duePoll.state().queued.compareAndSet(false, true)) {
+            throttledPolls.add(duePoll);
+        }
+    }
+
+    /**
+     * Submits a batch to the polling executor, waiting for enough free permits first.
+     * A batch of retries never waits: it is dropped if the retry bulkhead has no free permits.
+     * Errors are logged and never fail the returned future, so one bad batch
+     * does not affect the others.
+     *
+     * @param batch The events to poll together
+     * @param retry Whether the batch consists of retries
+     * @return A future that completes when the batch has finished
+     */
+    private CompletableFuture<Void> submitBatch(List<DuePoll> batch, boolean retry) {
+        Semaphore permitPool = retry ? retryPermits : pollingPermits;
+        int permits = Math.min(batch.size(),
+                retry ? schedulerProperties.getMaxConcurrentRetries() : schedulerProperties.getMaxConcurrentEvents());
+        if (retry) {
+            if (!retryPermits.tryAcquire(permits)) {
+                for (DuePoll duePoll : batch) {
+                    duePoll.state().inFlight.set(false);
+                }
+                droppedRetries.addAndGet(batch.size());
+                log.warn("Retry bulkhead is full, dropping retries: events={}", batch.size());
+                return CompletableFuture.completedFuture(null);
+            }
+            retriedPolls.addAndGet(batch.size());
+        } else {
+            pollingPermits.acquireUninterruptibly(permits);
+        }
+        inFlightPolls.addAndGet(batch.size());
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    pollBatch(batch);
+                } finally {
+                    releasePollSlots(batch, permitPool, permits);
+                }
+            }, pollingExecutor);
+        } catch (RejectedExecutionException e) {
+            releasePollSlots(batch, permitPool, permits);
+            log.error("Polling executor rejected batch: events={}, error={}", batch.size(), e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void releasePollSlots(List<DuePoll> batch, Semaphore permitPool, int permits) {
+        for (DuePoll duePoll : batch) {
+            duePoll.state().inFlight.set(false);
+        }
+        inFlightPolls.addAndGet(-batch.size());
+        permitPool.release(permits);
+    }
+
+    /**
+     * Polls a batch of events with a single upstream request.
+     * A batch of one event uses the single-event endpoint.
+     *
+     * @param batch The events to poll
+     */
+    private void pollBatch(List<DuePoll> batch) {
+        if (batch.size() == 1) {
+            String eventId = batch.get(0).eventId();
+            try {
+                pollEvent(batch.get(0));
+            } catch (Exception e) {
+                failedPolls.incrementAndGet();
+                log.error("Error polling event: eventId={}, error={}", eventId, e.getMessage());
+                scheduleRetry(batch.get(0), e);
+            }
+            return;
+        }
+
+        List<String> eventIds = new ArrayList<>(batch.size());
+        for (DuePoll duePoll : batch) {
+            eventService.recordPoll(duePoll.eventId());
+            eventIds.add(duePoll.eventId());
+        }
+
+        log.debug("Polling batch of events: events={}", eventIds.size());
+
+        Map<String, EventApiResponse> responses;
+        long fetchStartNanos = System.nanoTime();
+        long fetchNanos;
+        try {
+            List<EventApiResponse> apiResponses = externalApiService.fetchEventData(eventIds);
+            fetchNanos = System.nanoTime() - fetchStartNanos;
+            timers.batchFetch.record(fetchNanos, TimeUnit.NANOSECONDS);
+            responses = new HashMap<>(apiResponses.size() * 2);
+            for (EventApiResponse apiResponse : apiResponses) {
+                responses.put(apiResponse.getEventId(), apiResponse);
+            }
+        } catch (Exception e) {
+            timers.batchFetchFailure.record(System.nanoTime() - fetchStartNanos, TimeUnit.NANOSECONDS);
+            failedPolls.addAndGet(batch.size());
+            log.error("Error polling batch of events: events={}, error={}", eventIds.size(), e.getMessage());
+            for (DuePoll duePoll : batch) {
+                scheduleRetry(duePoll, e);
+            }
+            return;
+        }
+
+        List<EventUpdateMessage> messages = new ArrayList<>(batch.size());
+        for (DuePoll duePoll : batch) {
+            String eventId = duePoll.eventId();
+            try {
+                EventUpdateMessage message = applyResponse(duePoll, responses.get(eventId), fetchNanos);
+                if (message != null) {
+                    messages.add(message);
+                }
+            } catch (Exception e) {
+                failedPolls.incrementAndGet();
+                log.error("Error polling event: eventId={}, error={}", eventId, e.getMessage());
+            }
+        }
+
+        // Hand the whole batch to the publisher at once, so it can share produce requests
+        if (!messages.isEmpty()) {
+            for (EventUpdateMessage message : messages) {
+                scoreStreamService.publish(message);
+            }
+            try {
+                messagePublisherService.publishEventUpdates(messages);
+            } catch (Exception e) {
+                log.error("Error publishing batch of event updates: messages={}, error={}",
+                        messages.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Polls a single event for updates.
+     *
+     * @param duePoll The event to poll
+     */
+    private void pollEvent(DuePoll duePoll) {
+        String eventId = duePoll.eventId();
 
         // Update the last polled timestamp
-        event.setLastPolled(LocalDateTime.now());
+        eventService.recordPoll(eventId);
 
         // Fetch the latest data from the external API
-        EventApiResponse apiResponse = externalApiService.fetchEventData(eventId);
+        EventApiResponse apiResponse;
+        long fetchStartNanos = System.nanoTime();
+        try {
+            apiResponse = externalApiService.fetchEventData(eventId);
+        } catch (RuntimeException e) {
+            timers.fetchFailure.record(System.nanoTime() - fetchStartNanos, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long fetchNanos = System.nanoTime() - fetchStartNanos;
+        timers.fetch.record(fetchNanos, TimeUnit.NANOSECONDS);
+
+        EventUpdateMessage message = applyResponse(duePoll, apiResponse, fetchNanos);
+
+        if (message != null) {
+            scoreStreamService.publish(message);
+            messagePublisherService.publishEventUpdate(message);
+        }
+    }
 
+    /**
+     * Applies an upstream response to an event and builds the update message to publish.
+     *
+     * @param duePoll     The polled event
+     * @param apiResponse The response from the external API, or null if there was none
+     * @param fetchNanos  The time the upstream request took
+     * @return The update message, or null if nothing needs to be published
+     */
+    private EventUpdateMessage applyResponse(DuePoll duePoll, EventApiResponse apiResponse, long fetchNanos) {
+        String eventId = duePoll.eventId();
+        // The upstream answered, so the next failure starts a new series of retries
+        duePoll.state().retryAttempts = 0;
         if (apiResponse == null) {
             log.warn("Received null response from external API: eventId={}", eventId);
-            return;
+            return null;
+        }
+        if (firstPollUptimeMs.get() < 0) {
+            recordFirstPoll(eventId);
         }
 
-        // Update the event with the latest data
-        event.setCurrentScore(apiResponse.getCurrentScore());
+        // Update the event with the latest data; the score stays packed all the way to the message
+        long score = apiResponse.getCurrentScore();
+        eventService.recordScore(eventId, score);
+        adaptInterval(eventId, duePoll.state(), score);
 
-        // Create and publish the event update message
-        EventUpdateMessage message = EventUpdateMessage.builder()
+        long fetchUs = TimeUnit.NANOSECONDS.toMicros(fetchNanos);
+        boolean publish = scoreChangeDetector.shouldPublish(eventId, score);
+        if (activePollingEvents.get(eventId) != duePoll.state()) {
+            // Unscheduled while this poll was in flight; do not keep a score the unschedule already forgot
+            scoreChangeDetector.forget(eventId);
+        }
+        if (!publish) {
+            eventJournal.record(JournalCategory.POLL, eventId, "suppressed", score, fetchUs);
+            return null;
+        }
+        eventJournal.record(JournalCategory.POLL, eventId, "published", score, fetchUs);
+
+        // Create the event update message
+        return EventUpdateMessage.builder()
                 .eventId(apiResponse.getEventId())
-                .currentScore(apiResponse.getCurrentScore())
+                .currentScore(score)
                 .timestamp(LocalDateTime.now())
                 .build();
+    }
+
+    /**
+     * Records the JVM uptime at the first answered poll, once.
+     *
+     * @param eventId The polled event
+     */
+    private void recordFirstPoll(String eventId) {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstPollUptimeMs.compareAndSet(-1, uptimeMs)) {
+            log.info("First poll answered by the external API: eventId={}, timeSinceJvmStartMs={}", eventId, uptimeMs);
+        }
+    }
+
+    /**
+     * Adapts the polling interval of an event to a polled score and, if the interval changed,
+     * moves the next poll to the new interval after the last dispatched poll.
+     *
+     * @param eventId The event ID
+     * @param state   The polling state of the event
+     * @param score   The polled score, packed as a {@link Score}
+     */
+    private void adaptInterval(String eventId, PollingState state, long score) {
+        if (!state.adaptive) {
+            return;
+        }
+
+        // Only the poll in flight writes the state, so these fields need no further synchronisation
+        if (!state.hasScore) {
+            // The first poll has nothing to compare with
+            state.lastScore = score;
+            state.hasScore = true;
+            return;
+        }
+        boolean changed = state.lastScore != score;
+        state.lastScore = score;
+
+        long previous = state.intervalMs;
+        long next;
+        if (changed) {
+            next = schedulerProperties.getMinPollingIntervalMs();
+        } else {
+            next = Math.min(schedulerProperties.getMaxPollingIntervalMs(),
+                    Math.round(previous * Math.max(1.0, schedulerProperties.getBackoffMultiplier())));
+        }
+        if (next == previous) {
+            return;
+        }
+
+        state.intervalMs = next;
+        log.debug("Adapted polling interval: eventId={}, intervalMs={}, scoreChanged={}", eventId, next, changed);
 
-        messagePublisherService.publishEventUpdate(message);
+        // Not rescheduled if the event was unscheduled in the meantime, or was not polled by the wheel
+        if (state.lastDispatchMs >= 0 && activePollingEvents.get(eventId) == state) {
+            long now = nowMs();
+            timingWheel.schedule(eventId, state.lastDispatchMs + next - now, now);
+        }
+    }
 
-        log.debug("Event polled successfully: eventId={}, currentScore={}",
-                eventId, apiResponse.getCurrentScore());
+    /**
+     * Schedules a retry of a failed poll through the timing wheel, if the failure was caused by the
+     * external API and the event has retries left. The retry is skipped if the next regular poll is due first.
+     *
+     * @param duePoll The failed poll
+     * @param error   The error the poll failed with
+     */
+    private void scheduleRetry(DuePoll duePoll, Exception error) {
+        PollingState state = duePoll.state();
+        if (!(error instanceof RestClientException) || error instanceof CircuitBreakerOpenException
+                || schedulerProperties.getMaxConcurrentRetries() <= 0) {
+            return;
+        }
+
+        // Only the poll in flight writes the attempt count
+        int attempt = state.retryAttempts + 1;
+        if (attempt > schedulerProperties.getMaxRetries()) {
+            // Given up until the next regular poll
+            eventJournal.record(JournalCategory.RETRY, duePoll.eventId(), "exhausted", state.retryAttempts, 0);
+            state.retryAttempts = 0;
+            return;
+        }
+
+        long delay = Math.round(schedulerProperties.getRetryDelayMs()
+                * Math.pow(Math.max(1.0, schedulerProperties.getRetryBackoffMultiplier()), attempt - 1));
+        long now = nowMs();
+        if (state.lastDispatchMs >= 0 && now + delay >= state.lastDispatchMs + state.intervalMs) {
+            state.retryAttempts = 0;
+            return;
+        }
+        state.retryAttempts = attempt;
+        if (state.retryPending.compareAndSet(false, true)) {
+            pendingRetries.incrementAndGet();
+        }
+        // Checked after marking the retry, so an unschedule in between always clears it
+        if (activePollingEvents.get(duePoll.eventId()) != state) {
+            clearRetry(state);
+            return;
+        }
+        timingWheel.schedule(duePoll.eventId(), delay, now);
+        eventJournal.record(JournalCategory.RETRY, duePoll.eventId(), "scheduled", attempt, delay);
+    }
+
+    private void clearRetry(PollingState state) {
+        if (state.retryPending.compareAndSet(true, false)) {
+            pendingRetries.decrementAndGet();
+        }
+    }
+
+    private static long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Timers of the polling hot path, registered together so the hot path reads a single field.
+     */
+    private static final class PollTimers {
+        private final Timer tick;
+        private final Timer sweep;
+        private final Timer fetch;
+        private final Timer fetchFailure;
+        private final Timer batchFetch;
+        private final Timer batchFetchFailure;
+
+        private PollTimers(MeterRegistry registry) {
+            this.tick = sweepTimer(registry, "tick");
+            this.sweep = sweepTimer(registry, "full");
+            this.fetch = fetchTimer(registry, "single", "success");
+            this.fetchFailure = fetchTimer(registry, "single", "failure");
+            this.batchFetch = fetchTimer(registry, "batch", "success");
+            this.batchFetchFailure = fetchTimer(registry, "batch", "failure");
+        }
+
+        private static Timer sweepTimer(MeterRegistry registry, String type) {
+            return Timer.builder("event.tracker.poll.sweep")
+                    .description("Time to dispatch the due polls of a tick, or to complete a full sweep")
+                    .tag("type", type)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private static Timer fetchTimer(MeterRegistry registry, String mode, String outcome) {
+            return Timer.builder("event.tracker.poll.fetch")
+                    .description("Latency of a request to the external API, for one event or a batch of events")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    /**
+     * An event that is due for polling, together with its polling state.
+     */
+    private record DuePoll(String eventId, PollingState state) {
+    }
+
+    /**
+     * Polling state of a single active event.
+     */
+    private static final class PollingState {
+        private final long baseIntervalMs;
+        private final boolean adaptive;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        // Whether the next due time in the wheel is a retry rather than a regular poll
+        private final AtomicBoolean retryPending = new AtomicBoolean();
+        // Whether a poll of the event is held back by the rate limiter
+        private final AtomicBoolean throttled = new AtomicBoolean();
+        // Whether the event is in the queue of held-back polls
+        private final AtomicBoolean queued = new AtomicBoolean();
+        // The interval of the next poll; only differs from the base interval when adaptive
+        private volatile long intervalMs;
+        // Time the last poll was dispatched by the timing wheel, or -1 if it has not been yet
+        private volatile long lastDispatchMs = -1;
+        // Last polled score, written only by the poll in flight
+        private long lastScore;
+        private boolean hasScore;
+        // Retries of the current series of failed polls, written only by the poll in flight
+        private int retryAttempts;
+
+        private PollingState(long baseIntervalMs, boolean adaptive) {
+            this.baseIntervalMs = baseIntervalMs;
+            this.adaptive = adaptive;
+            this.intervalMs = baseIntervalMs;
+        }
     }
 }
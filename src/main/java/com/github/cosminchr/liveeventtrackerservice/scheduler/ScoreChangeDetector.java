@@ -0,0 +1,125 @@
+package com.github.cosminchr.liveeventtrackerservice.scheduler;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether a polled score needs to be published.
+ * <p>
+ * For every event it keeps the last published score, packed as a {@link Score}, and the number of
+ * polls since then. A score is published when it differs from the last published one,
+ * and otherwise only as a heartbeat after {@code heartbeatEveryPolls} unchanged polls.
+ * When change-only publishing is disabled every poll is published.
+ * <p>
+ * Calls for the same event must not overlap; the scheduler guarantees this by never
+ * running two polls of one event at the same time.
+ */
+public class ScoreChangeDetector {
+
+    private final boolean publishOnlyChanges;
+    private final int heartbeatEveryPolls;
+    private final Map<String, LastScore> lastScores = new ConcurrentHashMap<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+
+    /**
+     * Creates a change detector.
+     *
+     * @param publishOnlyChanges  Whether unchanged scores should be suppressed
+     * @param heartbeatEveryPolls Number of unchanged polls after which the score is published anyway,
+     *                            or 0 to never send heartbeats
+     */
+    public ScoreChangeDetector(boolean publishOnlyChanges, int heartbeatEveryPolls) {
+        this.publishOnlyChanges = publishOnlyChanges;
+        this.heartbeatEveryPolls = heartbeatEveryPolls;
+    }
+
+    /**
+     * Records a polled score and decides whether it should be published.
+     *
+     * @param eventId The event ID
+     * @param score   The polled score, packed as a {@link Score}
+     * @return true if the score should be published
+     */
+    public boolean shouldPublish(String eventId, long score) {
+        if (!publishOnlyChanges) {
+            published.increment();
+            return true;
+        }
+
+        LastScore last = lastScores.get(eventId);
+        if (last == null) {
+            lastScores.put(eventId, new LastScore(score));
+            published.increment();
+            return true;
+        }
+
+        if (last.score != score) {
+            last.score = score;
+            last.unchangedPolls = 0;
+            published.increment();
+            return true;
+        }
+
+        last.unchangedPolls++;
+        if (heartbeatEveryPolls > 0 && last.unchangedPolls >= heartbeatEveryPolls) {
+            last.unchangedPolls = 0;
+            published.increment();
+            heartbeats.increment();
+            return true;
+        }
+
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Forgets the last published state of an event, so that its next poll is published.
+     *
+     * @param eventId The event ID
+     */
+    public void forget(String eventId) {
+        lastScores.remove(eventId);
+    }
+
+    /**
+     * Gets the number of scores that were published, including heartbeats.
+     *
+     * @return The number of published scores
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Gets the number of scores that were suppressed because they had not changed.
+     *
+     * @return The number of suppressed scores
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Gets the number of unchanged scores that were published as heartbeats.
+     *
+     * @return The number of heartbeats
+     */
+    public long getHeartbeatCount() {
+        return heartbeats.sum();
+    }
+
+    private static final class LastScore {
+        private long score;
+        private int unchangedPolls;
+
+        private LastScore(long score) {
+            this.score = score;
+        }
+    }
+}
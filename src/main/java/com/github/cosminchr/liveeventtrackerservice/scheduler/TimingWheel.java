@@ -0,0 +1,198 @@
+package com.github.cosminchr.liveeventtrackerservice.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hashed timing wheel that tracks a due time per key.
+ * <p>
+ * Time is divided into ticks of {@code tickMs}. A key due at tick {@code t} is stored in
+ * bucket {@code t % wheelSize}; keys that are more than one revolution away share the bucket
+ * and are skipped until their own revolution comes round. Scheduling and cancelling are O(1):
+ * each bucket is a doubly linked list and every key maps directly to its node.
+ * <p>
+ * All methods are thread-safe. A {@link ReentrantLock} rather than {@code synchronized} guards the wheel,
+ * so the virtual threads that reschedule events after a poll park instead of pinning their carrier thread
+ * while they wait. Time is passed in explicitly as monotonic milliseconds, which keeps the wheel
+ * independent of any particular clock.
+ *
+ * @param <K> The key type
+ */
+public class TimingWheel<K> {
+
+    private final long tickMs;
+    private final long startMs;
+    private final Node<K>[] buckets;
+    private final int mask;
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Last tick whose bucket has been expired
+    private long currentTick;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param wheelSize The number of buckets, rounded up to a power of two
+     * @param tickMs    The duration of one tick in milliseconds
+     * @param startMs   The time that corresponds to tick zero
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int wheelSize, long tickMs, long startMs) {
+        if (wheelSize <= 0 || tickMs <= 0) {
+            throw new IllegalArgumentException("wheelSize and tickMs must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1 > 0 ? (wheelSize - 1) << 1 : 1);
+        this.buckets = new Node[size];
+        this.mask = size - 1;
+        this.tickMs = tickMs;
+        this.startMs = startMs;
+    }
+
+    /**
+     * Schedules a key to become due after the given delay, replacing any existing schedule for it.
+     *
+     * @param key     The key
+     * @param delayMs The delay in milliseconds
+     * @param nowMs   The current time
+     */
+    public void schedule(K key, long delayMs, long nowMs) {
+        lock.lock();
+        try {
+            removeNode(nodes.remove(key));
+
+            long deadlineTick = Math.max(currentTick + 1, ceilDiv(nowMs + Math.max(0, delayMs) - startMs, tickMs));
+            Node<K> node = new Node<>(key, deadlineTick);
+            int index = (int) (deadlineTick & mask);
+            Node<K> head = buckets[index];
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+            buckets[index] = node;
+            node.bucket = index;
+            nodes.put(key, node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the schedule for a key.
+     *
+     * @param key The key
+     * @return true if the key was scheduled
+     */
+    public boolean cancel(K key) {
+        lock.lock();
+        try {
+            Node<K> node = nodes.remove(key);
+            removeNode(node);
+            return node != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a key is currently scheduled.
+     *
+     * @param key The key
+     * @return true if the key is scheduled
+     */
+    public boolean contains(K key) {
+        lock.lock();
+        try {
+            return nodes.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of scheduled keys.
+     *
+     * @return The number of scheduled keys
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time and removes every key that has become due.
+     *
+     * @param nowMs The current time
+     * @return The keys that became due, in bucket order
+     */
+    public List<K> advance(long nowMs) {
+        lock.lock();
+        try {
+            long targetTick = Math.floorDiv(nowMs - startMs, tickMs);
+            if (targetTick <= currentTick) {
+                return List.of();
+            }
+
+            List<K> due = new ArrayList<>();
+            // After a long pause every bucket needs visiting at most once
+            long ticks = Math.min(targetTick - currentTick, buckets.length);
+            for (long i = 1; i <= ticks; i++) {
+                int index = (int) ((currentTick + i) & mask);
+                Node<K> node = buckets[index];
+                while (node != null) {
+                    Node<K> next = node.next;
+                    if (node.deadlineTick <= targetTick) {
+                        removeNode(node);
+                        nodes.remove(node.key);
+                        due.add(node.key);
+                    }
+                    node = next;
+                }
+            }
+            currentTick = targetTick;
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeNode(Node<K> node) {
+        if (node == null) {
+            return;
+        }
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            buckets[node.bucket] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final long deadlineTick;
+        private int bucket;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for applying event status updates and scheduling the affected events for polling.
+ */
+public interface EventIngestionService {
+
+    /**
+     * Applies a single validated status update and schedules or unschedules the event for polling.
+     *
+     * @param request The status update request
+     * @return The updated event
+     */
+    Event apply(EventStatusUpdateRequest request);
+
+    /**
+     * Applies a status update handed over by the previous owner of the event, unless the event
+     * has been updated here since the previous owner last updated it.
+     *
+     * @param request     The status update request
+     * @param lastUpdated When the previous owner last updated the event, or null to apply the update anyway
+     * @return The event after the handover, unchanged if the handover was ignored
+     */
+    Event handOver(EventStatusUpdateRequest request, LocalDateTime lastUpdated);
+
+    /**
+     * Validates a single status update.
+     *
+     * @param request The status update request, possibly null
+     * @return The validation errors, or null if the update is valid
+     */
+    String validate(EventStatusUpdateRequest request);
+
+    /**
+     * Validates and applies a batch of status updates.
+     * Invalid updates are rejected without affecting the others.
+     *
+     * @param requests   The status update requests
+     * @param firstIndex The index reported for the first update of the batch
+     * @return One result per update, in request order
+     */
+    List<EventStatusUpdateResult> ingest(List<EventStatusUpdateRequest> requests, int firstIndex);
+
+    /**
+     * Validates a batch of status updates and queues the valid ones to be applied asynchronously.
+     * Updates that do not fit in the ingest queue are rejected.
+     *
+     * @param requests   The status update requests
+     * @param firstIndex The index reported for the first update of the batch
+     * @return One result per update, in request order
+     */
+    List<EventStatusUpdateResult> enqueue(List<EventStatusUpdateRequest> requests, int firstIndex);
+
+    /**
+     * Gets the number of queued updates that have not been applied yet.
+     *
+     * @return The number of queued updates
+     */
+    int getQueuedCount();
+}
@@ -0,0 +1,21 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.model.EventSnapshot;
+
+/**
+ * Service interface for reading events from a periodically refreshed snapshot of the event store.
+ */
+public interface EventQueryService {
+
+    /**
+     * Gets the latest snapshot of the event store.
+     *
+     * @return The snapshot
+     */
+    EventSnapshot getSnapshot();
+
+    /**
+     * Reads the event store and replaces the snapshot if anything changed.
+     */
+    void refresh();
+}
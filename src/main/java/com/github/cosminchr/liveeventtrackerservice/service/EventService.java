@@ -3,6 +3,8 @@ package com.github.cosminchr.liveeventtrackerservice.service;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
 
+import java.util.List;
+
 /**
  * Service interface for managing events.
  */
@@ -23,4 +25,44 @@ public interface EventService {
      * @return The event, or null if not found
      */
     Event getEvent(String eventId);
+    
+    /**
+     * Checks whether an event exists and is live.
+     *
+     * @param eventId The event ID
+     * @return true if the event is live
+     */
+    boolean isLive(String eventId);
+    
+    /**
+     * Records that an event is being polled now.
+     * Does nothing if the event does not exist.
+     *
+     * @param eventId The event ID
+     */
+    void recordPoll(String eventId);
+    
+    /**
+     * Records the latest score of an event.
+     * Does nothing if the event does not exist.
+     *
+     * @param eventId The event ID
+     * @param score   The score, packed as a {@link com.github.cosminchr.liveeventtrackerservice.model.Score}
+     */
+    void recordScore(String eventId, long score);
+    
+    /**
+     * Gets the IDs of all live events.
+     *
+     * @return The live event IDs
+     */
+    List<String> getLiveEventIds();
+    
+    /**
+     * Gets a copy of every event.
+     * The returned events are not affected by later changes to the store.
+     *
+     * @return The events, in no particular order
+     */
+    List<Event> getEvents();
 }
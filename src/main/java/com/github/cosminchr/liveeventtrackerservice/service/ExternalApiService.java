@@ -2,6 +2,10 @@ package com.github.cosminchr.liveeventtrackerservice.service;
 
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service interface for interacting with the external API.
  */
@@ -14,4 +18,22 @@ public interface ExternalApiService {
      * @return The API response
      */
     EventApiResponse fetchEventData(String eventId);
+    
+    /**
+     * Fetches data for several events from the external API in a single request.
+     * Events the API does not know about are left out of the result.
+     *
+     * @param eventIds The event IDs
+     * @return The API responses, in no particular order
+     */
+    List<EventApiResponse> fetchEventData(Collection<String> eventIds);
+    
+    /**
+     * Fetches event data from the external API without blocking the calling thread.
+     * The returned future fails if no response arrives within the per-request deadline.
+     *
+     * @param eventId The event ID
+     * @return A future that completes with the API response
+     */
+    CompletableFuture<EventApiResponse> fetchEventDataAsync(String eventId);
 }
@@ -2,6 +2,8 @@ package com.github.cosminchr.liveeventtrackerservice.service;
 
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
 
+import java.util.List;
+
 /**
  * Service interface for publishing messages to Kafka.
  */
@@ -13,4 +15,12 @@ public interface MessagePublisherService {
      * @param message The message to publish
      */
     void publishEventUpdate(EventUpdateMessage message);
+    
+    /**
+     * Publishes several event update messages to Kafka.
+     * The messages are handed to the producer together, so they can share produce requests.
+     *
+     * @param messages The messages to publish
+     */
+    void publishEventUpdates(List<EventUpdateMessage> messages);
 }
@@ -0,0 +1,42 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+
+/**
+ * Service interface for streaming score updates to connected clients.
+ */
+public interface ScoreStreamService {
+
+    /**
+     * Publishes a score update to all subscribers. Never blocks.
+     *
+     * @param message The update
+     */
+    void publish(EventUpdateMessage message);
+
+    /**
+     * Subscribes to score updates.
+     *
+     * @param eventIds    Only stream updates of these events; all events if null or empty
+     * @param lastEventId The ID of the last update the client received before reconnecting, or null
+     * @return The emitter to stream the updates to, or null if the maximum number of subscribers is reached
+     */
+    SseEmitter subscribe(Collection<String> eventIds, Long lastEventId);
+
+    /**
+     * Gets the number of connected subscribers.
+     *
+     * @return The number of subscribers
+     */
+    int getSubscriberCount();
+
+    /**
+     * Gets how far the slowest subscriber is behind the latest update.
+     *
+     * @return The maximum lag, in updates
+     */
+    long getMaxLag();
+}
@@ -0,0 +1,39 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import java.util.List;
+
+/**
+ * Service interface for assigning events to service instances.
+ */
+public interface ShardingService {
+
+    /**
+     * Gets the ID of this instance.
+     *
+     * @return The node ID
+     */
+    String getLocalNode();
+
+    /**
+     * Gets the instance that owns an event and is responsible for polling it.
+     *
+     * @param eventId The event ID
+     * @return The node ID of the owner
+     */
+    String ownerOf(String eventId);
+
+    /**
+     * Checks whether this instance owns an event.
+     *
+     * @param eventId The event ID
+     * @return true if this instance owns the event
+     */
+    boolean isLocal(String eventId);
+
+    /**
+     * Gets the current members of the cluster.
+     *
+     * @return The node IDs, sorted
+     */
+    List<String> getMembers();
+}
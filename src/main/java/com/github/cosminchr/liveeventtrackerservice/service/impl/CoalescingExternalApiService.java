@@ -0,0 +1,128 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.config.CoalescingProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.resilience.SingleFlight;
+import com.github.cosminchr.liveeventtrackerservice.service.ExternalApiService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ExternalApiService that coalesces concurrent requests for the same event.
+ * <p>
+ * Requests for an event that is already being fetched, for example a poll that overlaps a retry
+ * or an on-demand refresh, wait for the running request and share its result instead of calling
+ * the upstream again. Blocking and non-blocking fetches of an event share the same flight.
+ * Batch fetches coalesce event by event: a batch only asks the upstream for the events that no
+ * other single or batch fetch is already fetching, and waits for the rest.
+ * With {@code event-tracker.external-api.coalescing.cache-ttl-ms} set, fetched events are also
+ * reused for that long.
+ */
+@Service
+@Primary
+@Slf4j
+public class CoalescingExternalApiService implements ExternalApiService, MeterBinder {
+
+    private final ExternalApiService delegate;
+    private final SingleFlight<String, EventApiResponse> singleFlight;
+
+    public CoalescingExternalApiService(@Qualifier("externalApiServiceImpl") ExternalApiService delegate,
+                                        CoalescingProperties properties) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>(properties.getCacheTtlMs());
+        log.info("Initialized CoalescingExternalApiService: cacheTtlMs={}", properties.getCacheTtlMs());
+    }
+
+    @Override
+    public EventApiResponse fetchEventData(String eventId) {
+        return singleFlight.execute(eventId, () -> delegate.fetchEventData(eventId));
+    }
+
+    @Override
+    public List<EventApiResponse> fetchEventData(Collection<String> eventIds) {
+        Map<String, EventApiResponse> responses = singleFlight.executeAll(eventIds, this::fetchBatch);
+        List<EventApiResponse> result = new ArrayList<>(responses.size());
+        for (EventApiResponse response : responses.values()) {
+            // Events the upstream did not answer for are left out, as in an uncoalesced batch
+            if (response != null) {
+                result.add(response);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<EventApiResponse> fetchEventDataAsync(String eventId) {
+        return singleFlight.executeAsync(eventId, () -> delegate.fetchEventDataAsync(eventId));
+    }
+
+    /**
+     * Gets the number of events that were requested from the upstream, alone or in a batch.
+     *
+     * @return The number of events requested from the upstream
+     */
+    public long getUpstreamRequestCount() {
+        return singleFlight.getLoadCount();
+    }
+
+    /**
+     * Gets the number of requests that shared a request already in flight.
+     *
+     * @return The number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    /**
+     * Gets the number of requests that were answered from the cache.
+     *
+     * @return The number of cache hits
+     */
+    public long getCacheHitCount() {
+        return singleFlight.getCacheHitCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("event.tracker.upstream.requests", this, CoalescingExternalApiService::getUpstreamRequestCount)
+                .description("Events requested from the external API, alone or in a batch")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.upstream.coalesced", this, CoalescingExternalApiService::getCoalescedCount)
+                .description("Requests that shared a request to the external API already in flight")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.upstream.cache.hits", this, CoalescingExternalApiService::getCacheHitCount)
+                .description("Requests answered from recently fetched events")
+                .register(registry);
+    }
+
+    private Map<String, EventApiResponse> fetchBatch(List<String> eventIds) {
+        List<EventApiResponse> responses = delegate.fetchEventData(eventIds);
+        Map<String, EventApiResponse> byEventId = new HashMap<>(responses.size() * 2);
+        for (EventApiResponse response : responses) {
+            byEventId.put(response.getEventId(), response);
+        }
+        return byEventId;
+    }
+
+    /**
+     * Removes expired events from the cache.
+     */
+    @Scheduled(fixedDelayString = "${event-tracker.external-api.coalescing.evict-interval-ms:60000}")
+    public void evictExpired() {
+        singleFlight.evictExpired();
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of the EventService interface that stores events column by column.
+ * <p>
+ * Every event is assigned a slot number when it is first seen. An open-addressing hash table
+ * maps event IDs to slots, and the fields of the event live in parallel primitive arrays indexed
+ * by slot: status, packed score, the last update and poll times as epoch milliseconds and the
+ * requested polling interval.
+ * An event therefore costs a few dozen bytes instead of an {@link Event} object with two
+ * {@link LocalDateTime}s and a map entry, and scans such as {@link #getLiveEventIds()} walk
+ * contiguous arrays.
+ * <p>
+ * Status updates, including adding an event or growing the arrays, take the write lock, so the fields an
+ * update writes change together and the returned {@link Event} is the state that update left behind.
+ * Everything else takes the read lock and accesses single array elements with acquire/release semantics,
+ * so polls of different events update the store concurrently. {@link Event} objects are only created for callers of
+ * {@link #getEvent(String)} and {@link #updateEventStatus(EventStatusUpdateRequest)}, and are snapshots.
+ * <p>
+ * To use this store, set the property: event-tracker.store.type=columnar
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "event-tracker.store.type", havingValue = "columnar")
+public class ColumnarEventServiceImpl implements EventService {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte NOT_LIVE = 0;
+    private static final byte LIVE = 1;
+    private static final long NEVER = 0L;
+    private static final long DEFAULT_INTERVAL = 0L;
+
+    private static final VarHandle BYTES = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot + 1 of each event, by hash of the event ID; 0 marks an empty bucket. Kept at most half full.
+    private int[] index = new int[INITIAL_CAPACITY * 2];
+
+    // Columns, indexed by slot
+    private String[] eventIds = new String[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private long[] scores = new long[INITIAL_CAPACITY];
+    private long[] lastUpdated = new long[INITIAL_CAPACITY];
+    private long[] lastPolled = new long[INITIAL_CAPACITY];
+    private long[] pollingIntervals = new long[INITIAL_CAPACITY];
+
+    // Number of slots in use
+    private int size;
+
+    @Override
+    public Event updateEventStatus(EventStatusUpdateRequest request) {
+        String eventId = request.getEventId();
+        EventStatus status = request.getLive() ? EventStatus.LIVE : EventStatus.NOT_LIVE;
+        long pollingIntervalMs = request.getPollingIntervalMs() == null ? DEFAULT_INTERVAL : request.getPollingIntervalMs();
+        long now = System.currentTimeMillis();
+
+        // Under the write lock, so concurrent updates of an event cannot mix their fields
+        Event event;
+        lock.writeLock().lock();
+        try {
+            int slot = find(eventId);
+            event = updateStatus(slot < 0 ? insert(eventId) : slot, status, pollingIntervalMs, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Updated event status: eventId={}, status={}", eventId, status);
+
+        return event;
+    }
+
+    @Override
+    public Event getEvent(String eventId) {
+        lock.readLock().lock();
+        try {
+            int slot = find(eventId);
+            return slot < 0 ? null : toEvent(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isLive(String eventId) {
+        lock.readLock().lock();
+        try {
+            int slot = find(eventId);
+            return slot >= 0 && (byte) BYTES.getAcquire(statuses, slot) == LIVE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void recordPoll(String eventId) {
+        long now = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            int slot = find(eventId);
+            if (slot >= 0) {
+                LONGS.setRelease(lastPolled, slot, now);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void recordScore(String eventId, long score) {
+        lock.readLock().lock();
+        try {
+            int slot = find(eventId);
+            if (slot >= 0) {
+                LONGS.setRelease(scores, slot, score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> getLiveEventIds() {
+        lock.readLock().lock();
+        try {
+            List<String> liveEventIds = new ArrayList<>();
+            for (int slot = 0; slot < size; slot++) {
+                if ((byte) BYTES.getAcquire(statuses, slot) == LIVE) {
+                    liveEventIds.add(eventIds[slot]);
+                }
+            }
+            return liveEventIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> getEvents() {
+        lock.readLock().lock();
+        try {
+            List<Event> events = new ArrayList<>(size);
+            for (int slot = 0; slot < size; slot++) {
+                events.add(toEvent(slot));
+            }
+            return events;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the slot of an event. Requires the read or write lock.
+     *
+     * @param eventId The event ID
+     * @return The slot, or -1 if the event does not exist
+     */
+    private int find(String eventId) {
+        int mask = index.length - 1;
+        for (int bucket = spread(eventId.hashCode()) & mask; ; bucket = (bucket + 1) & mask) {
+            int entry = index[bucket];
+            if (entry == 0) {
+                return -1;
+            }
+            if (eventIds[entry - 1].equals(eventId)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Assigns a slot to a new event. Requires the write lock.
+     *
+     * @param eventId The event ID
+     * @return The new slot
+     */
+    private int insert(String eventId) {
+        if (size == eventIds.length) {
+            int capacity = eventIds.length * 2;
+            eventIds = Arrays.copyOf(eventIds, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            lastUpdated = Arrays.copyOf(lastUpdated, capacity);
+            lastPolled = Arrays.copyOf(lastPolled, capacity);
+            pollingIntervals = Arrays.copyOf(pollingIntervals, capacity);
+        }
+        if ((size + 1) * 2 > index.length) {
+            rehash(index.length * 2);
+        }
+
+        int slot = size++;
+        eventIds[slot] = eventId;
+        addToIndex(index, spread(eventId.hashCode()), slot);
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] newIndex = new int[capacity];
+        for (int slot = 0; slot < size; slot++) {
+            addToIndex(newIndex, spread(eventIds[slot].hashCode()), slot);
+        }
+        index = newIndex;
+    }
+
+    private static void addToIndex(int[] index, int hash, int slot) {
+        int mask = index.length - 1;
+        int bucket = hash & mask;
+        while (index[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        index[bucket] = slot + 1;
+    }
+
+    private Event updateStatus(int slot, EventStatus status, long pollingIntervalMs, long now) {
+        LONGS.setRelease(pollingIntervals, slot, pollingIntervalMs);
+        BYTES.setRelease(statuses, slot, status == EventStatus.LIVE ? LIVE : NOT_LIVE);
+        LONGS.setRelease(lastUpdated, slot, now);
+        return toEvent(slot);
+    }
+
+    private Event toEvent(int slot) {
+        return Event.builder()
+                .eventId(eventIds[slot])
+                .status((byte) BYTES.getAcquire(statuses, slot) == LIVE ? EventStatus.LIVE : EventStatus.NOT_LIVE)
+                .currentScore((long) LONGS.getAcquire(scores, slot))
+                .lastUpdated(toDateTime((long) LONGS.getAcquire(lastUpdated, slot)))
+                .lastPolled(toDateTime((long) LONGS.getAcquire(lastPolled, slot)))
+                .pollingIntervalMs(toInterval((long) LONGS.getAcquire(pollingIntervals, slot)))
+                .build();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis == NEVER ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static Long toInterval(long pollingIntervalMs) {
+        return pollingIntervalMs == DEFAULT_INTERVAL ? null : pollingIntervalMs;
+    }
+
+    /**
+     * Mixes the high bits of a hash code into the low bits used to pick a bucket.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
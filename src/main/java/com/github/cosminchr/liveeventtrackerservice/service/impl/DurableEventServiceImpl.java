@@ -0,0 +1,251 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.config.DurableStoreProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.persistence.EventMutation;
+import com.github.cosminchr.liveeventtrackerservice.persistence.SnapshotFile;
+import com.github.cosminchr.liveeventtrackerservice.persistence.WriteAheadLog;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of the EventService interface that keeps events in memory and persists them to disk.
+ * <p>
+ * Every status change and every score change is appended to a {@link WriteAheadLog} before the call
+ * that made it returns. When the current log segment grows beyond
+ * {@code event-tracker.store.durable.compact-threshold-bytes}, the log is rotated and all events are
+ * written to a memory-mapped {@link SnapshotFile}, after which the segments it covers are deleted.
+ * On startup the snapshot is loaded and the remaining segments are replayed on top of it, which restores
+ * both the events and, through {@link #getLiveEventIds()}, the set of events to poll.
+ * <p>
+ * Poll times are kept in memory only: they change on every poll and are not needed to resume polling.
+ * How often appended mutations are forced to disk is set by {@code event-tracker.store.durable.fsync}.
+ * <p>
+ * To use this store, set the property: event-tracker.store.type=durable
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "event-tracker.store.type", havingValue = "durable")
+public class DurableEventServiceImpl implements EventService {
+
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+
+    private final DurableStoreProperties properties;
+    private final Path snapshotFile;
+    private final Map<String, Event> events = new ConcurrentHashMap<>();
+
+    // Serialises appending a mutation and applying it, so the log order matches the order of the changes
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Compaction runs on the scheduler thread, but is also guarded for direct callers
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    private final WriteAheadLog writeAheadLog;
+
+    public DurableEventServiceImpl(DurableStoreProperties properties) {
+        this.properties = properties;
+        Path directory = Path.of(properties.getDirectory());
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+
+        long startNanos = System.nanoTime();
+        try {
+            SnapshotFile.Snapshot snapshot = SnapshotFile.read(snapshotFile);
+            long firstSegment = 0;
+            if (snapshot != null) {
+                firstSegment = snapshot.firstSegment();
+                for (Event event : snapshot.events()) {
+                    events.put(event.getEventId(), event);
+                }
+            }
+            this.writeAheadLog = WriteAheadLog.open(directory, firstSegment, properties.getFsync(), this::apply);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load event store from " + directory.toAbsolutePath(), e);
+        }
+
+        log.info("Loaded durable event store: directory={}, events={}, replayedRecords={}, durationMs={}",
+                directory.toAbsolutePath(), events.size(), writeAheadLog.getReplayedRecords(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    @Override
+    public Event updateEventStatus(EventStatusUpdateRequest request) {
+        String eventId = request.getEventId();
+        EventStatus status = request.getLive() ? EventStatus.LIVE : EventStatus.NOT_LIVE;
+        Long pollingIntervalMs = request.getPollingIntervalMs();
+
+        Event event = persist(new EventMutation.StatusChanged(eventId, request.getLive(),
+                System.currentTimeMillis(), pollingIntervalMs == null ? 0 : pollingIntervalMs));
+
+        log.debug("Updated event status: eventId={}, status={}", eventId, status);
+
+        return event;
+    }
+
+    @Override
+    public Event getEvent(String eventId) {
+        return events.get(eventId);
+    }
+
+    @Override
+    public boolean isLive(String eventId) {
+        Event event = events.get(eventId);
+        return event != null && event.getStatus() == EventStatus.LIVE;
+    }
+
+    @Override
+    public void recordPoll(String eventId) {
+        Event event = events.get(eventId);
+        if (event != null) {
+            event.setLastPolled(LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void recordScore(String eventId, long score) {
+        Event event = events.get(eventId);
+        // Unchanged scores are the common case and are not worth a log record
+        if (event != null && event.getCurrentScore() != score) {
+            persist(new EventMutation.ScoreChanged(eventId, score));
+        }
+    }
+
+    @Override
+    public List<String> getLiveEventIds() {
+        return events.values().stream()
+                .filter(event -> event.getStatus() == EventStatus.LIVE)
+                .map(Event::getEventId)
+                .toList();
+    }
+
+    @Override
+    public List<Event> getEvents() {
+        return events.values().stream()
+                .map(event -> event.toBuilder().build())
+                .toList();
+    }
+
+    /**
+     * Flushes the write-ahead log as the fsync policy asks for, and compacts the store
+     * once the current segment has grown beyond the threshold.
+     */
+    @Scheduled(fixedDelayString = "${event-tracker.store.durable.flush-interval-ms:200}")
+    public void maintain() {
+        try {
+            writeAheadLog.flush();
+            if (writeAheadLog.getSegmentBytes() > properties.getCompactThresholdBytes()) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.error("Error maintaining durable event store: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all events to a new snapshot and deletes the write-ahead log segments it covers.
+     * Mutations made while the snapshot is written go to a new segment and are not blocked.
+     *
+     * @throws IOException if the snapshot could not be written
+     */
+    public void compact() throws IOException {
+        compactionLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            long firstSegment;
+            List<Event> copies;
+            lock.lock();
+            try {
+                firstSegment = writeAheadLog.rotate();
+                copies = new ArrayList<>(events.size());
+                for (Event event : events.values()) {
+                    copies.add(event.toBuilder().build());
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            SnapshotFile.write(snapshotFile, firstSegment, copies);
+            writeAheadLog.deleteSegmentsBefore(firstSegment);
+
+            log.info("Compacted durable event store: events={}, firstSegment={}, durationMs={}",
+                    copies.size(), firstSegment, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes and closes the write-ahead log.
+     */
+    @PreDestroy
+    public void close() {
+        try {
+            writeAheadLog.close();
+        } catch (IOException e) {
+            log.error("Error closing durable event store: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Appends a mutation to the write-ahead log and, once it is appended, applies it.
+     * A mutation that cannot be appended is never applied, so readers never see a change that a restart would lose.
+     *
+     * @param mutation The mutation
+     * @return The changed event
+     */
+    private Event persist(EventMutation mutation) {
+        lock.lock();
+        try {
+            writeAheadLog.append(mutation);
+            return apply(mutation);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist change of event " + mutation.eventId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a mutation to the in-memory events. Used both for new mutations and during replay.
+     *
+     * @param mutation The mutation
+     * @return The changed event, or null if a score changed for an unknown event
+     */
+    private Event apply(EventMutation mutation) {
+        return switch (mutation) {
+            case EventMutation.StatusChanged status -> {
+                Event event = events.computeIfAbsent(status.eventId(), id -> Event.builder().eventId(id).build());
+                event.setStatus(status.live() ? EventStatus.LIVE : EventStatus.NOT_LIVE);
+                event.setLastUpdated(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(status.lastUpdatedMillis()), ZoneId.systemDefault()));
+                event.setPollingIntervalMs(status.pollingIntervalMs() == 0 ? null : status.pollingIntervalMs());
+                yield event;
+            }
+            case EventMutation.ScoreChanged score -> {
+                Event event = events.get(score.eventId());
+                if (event != null) {
+                    event.setCurrentScore(score.score());
+                }
+                yield event;
+            }
+        };
+    }
+}
@@ -0,0 +1,300 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.config.IngestProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the EventIngestionService interface.
+ * <p>
+ * Bulk updates are validated one by one, so a single bad item does not fail the whole request.
+ * In asynchronous mode valid updates are put on a bounded queue, which a single worker thread
+ * drains in batches of up to {@code event-tracker.ingest.max-batch-size}; the single worker keeps
+ * the updates of an event in the order they were accepted. On shutdown the worker stops taking new
+ * updates and applies the ones still queued itself, so no update that was accepted is lost or applied
+ * out of order.
+ */
+@Service
+@Slf4j
+public class EventIngestionServiceImpl implements EventIngestionService {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final int EVENT_LOCK_STRIPES = 64;
+
+    private final EventService eventService;
+    private final EventPollingScheduler eventPollingScheduler;
+    private final Validator validator;
+    private final IngestProperties properties;
+    private final BlockingQueue<EventStatusUpdateRequest> queue;
+    private final Thread worker;
+
+    // Held while an update is offered and while the service stops, so nothing is queued after the final drain
+    private final ReentrantLock intakeLock = new ReentrantLock();
+    // Striped by event ID, so that a handover is checked and applied without an update of the event in between
+    private final ReentrantLock[] eventLocks = new ReentrantLock[EVENT_LOCK_STRIPES];
+
+    private volatile boolean running = true;
+
+    public EventIngestionServiceImpl(EventService eventService,
+                                     EventPollingScheduler eventPollingScheduler,
+                                     Validator validator,
+                                     IngestProperties properties) {
+        this.eventService = eventService;
+        this.eventPollingScheduler = eventPollingScheduler;
+        this.validator = validator;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.worker = Thread.ofVirtual().name("event-ingest").unstarted(this::drainQueue);
+        for (int i = 0; i < eventLocks.length; i++) {
+            eventLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * Stops accepting updates and waits for the worker to apply the updates that are still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        intakeLock.lock();
+        try {
+            running = false;
+        } finally {
+            intakeLock.unlock();
+        }
+
+        // Not interrupted, so an update being applied is not cut off in the middle of file I/O
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        if (worker.isAlive()) {
+            // Applying here as well would race the worker and reorder the updates of an event
+            log.warn("Ingest worker is still applying queued event status updates: queued={}", queue.size());
+            return;
+        }
+        // Only left over if the worker never ran
+        applyRemaining();
+    }
+
+    @Override
+    public Event apply(EventStatusUpdateRequest request) {
+        ReentrantLock lock = eventLock(request.getEventId());
+        lock.lock();
+        try {
+            return applyLocked(request);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Event handOver(EventStatusUpdateRequest request, LocalDateTime lastUpdated) {
+        ReentrantLock lock = eventLock(request.getEventId());
+        lock.lock();
+        try {
+            Event current = eventService.getEvent(request.getEventId());
+            if (lastUpdated != null && current != null && current.getLastUpdated() != null
+                    && current.getLastUpdated().isAfter(lastUpdated)) {
+                log.info("Ignoring handover of an event updated here since: eventId={}, handedOverUpdate={}, localUpdate={}",
+                        request.getEventId(), lastUpdated, current.getLastUpdated());
+                return current;
+            }
+            return applyLocked(request);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies an update and schedules or unschedules the event. Requires the lock of the event.
+     *
+     * @param request The status update request
+     * @return The updated event
+     */
+    private Event applyLocked(EventStatusUpdateRequest request) {
+        Event updatedEvent = eventService.updateEventStatus(request);
+
+        // If the event is now live, schedule it for polling
+        if (updatedEvent.getStatus() == EventStatus.LIVE) {
+            eventPollingScheduler.scheduleEventPolling(updatedEvent.getEventId(), request.getPollingIntervalMs());
+        } else {
+            // If the event is no longer live, unschedule it from polling
+            eventPollingScheduler.unscheduleEventPolling(updatedEvent.getEventId());
+        }
+
+        return updatedEvent;
+    }
+
+    private ReentrantLock eventLock(String eventId) {
+        int hash = eventId.hashCode();
+        return eventLocks[(hash ^ (hash >>> 16)) & (eventLocks.length - 1)];
+    }
+
+    @Override
+    public String validate(EventStatusUpdateRequest request) {
+        if (request == null) {
+            return "Update is required";
+        }
+        Set<ConstraintViolation<EventStatusUpdateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    @Override
+    public List<EventStatusUpdateResult> ingest(List<EventStatusUpdateRequest> requests, int firstIndex) {
+        List<EventStatusUpdateResult> results = new ArrayList<>(requests.size());
+        int applied = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            EventStatusUpdateRequest request = requests.get(i);
+            int index = firstIndex + i;
+            String error = validate(request);
+            if (error != null) {
+                results.add(EventStatusUpdateResult.rejected(index, eventIdOf(request), error));
+                continue;
+            }
+
+            try {
+                results.add(EventStatusUpdateResult.applied(index, apply(request)));
+                applied++;
+            } catch (Exception e) {
+                log.error("Error applying event status update: eventId={}, error={}", request.getEventId(), e.getMessage());
+                results.add(EventStatusUpdateResult.rejected(index, request.getEventId(), e.getMessage()));
+            }
+        }
+
+        log.info("Ingested batch of event status updates: updates={}, applied={}, rejected={}",
+                requests.size(), applied, requests.size() - applied);
+
+        return results;
+    }
+
+    @Override
+    public List<EventStatusUpdateResult> enqueue(List<EventStatusUpdateRequest> requests, int firstIndex) {
+        List<EventStatusUpdateResult> results = new ArrayList<>(requests.size());
+        int accepted = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            EventStatusUpdateRequest request = requests.get(i);
+            int index = firstIndex + i;
+            String error = validate(request);
+            if (error != null) {
+                results.add(EventStatusUpdateResult.rejected(index, eventIdOf(request), error));
+            } else {
+                error = offer(request);
+                if (error != null) {
+                    results.add(EventStatusUpdateResult.rejected(index, request.getEventId(), error));
+                } else {
+                    results.add(EventStatusUpdateResult.accepted(index, request.getEventId()));
+                    accepted++;
+                }
+            }
+        }
+
+        log.info("Queued batch of event status updates: updates={}, accepted={}, rejected={}, queued={}",
+                requests.size(), accepted, requests.size() - accepted, queue.size());
+
+        return results;
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Queues a valid update, unless the service is stopping or the queue is full.
+     *
+     * @param request The status update request
+     * @return The reason the update was not queued, or null if it was queued
+     */
+    private String offer(EventStatusUpdateRequest request) {
+        intakeLock.lock();
+        try {
+            if (!running) {
+                return "Ingest is shutting down";
+            }
+            return queue.offer(request) ? null : "Ingest queue is full";
+        } finally {
+            intakeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies queued updates in batches until the service is stopped, then applies the updates still queued.
+     */
+    private void drainQueue() {
+        int batchSize = Math.max(1, properties.getMaxBatchSize());
+        List<EventStatusUpdateRequest> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                EventStatusUpdateRequest first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            applyQueued(batch);
+            batch.clear();
+        }
+        applyRemaining();
+    }
+
+    /**
+     * Applies the updates still queued once no more updates are accepted.
+     */
+    private void applyRemaining() {
+        List<EventStatusUpdateRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Applying queued event status updates before shutdown: updates={}", remaining.size());
+            applyQueued(remaining);
+        }
+    }
+
+    private void applyQueued(List<EventStatusUpdateRequest> batch) {
+        for (EventStatusUpdateRequest request : batch) {
+            try {
+                apply(request);
+            } catch (Exception e) {
+                log.error("Error applying queued event status update: eventId={}, error={}",
+                        request.getEventId(), e.getMessage());
+            }
+        }
+        log.debug("Applied queued event status updates: updates={}, queued={}", batch.size(), queue.size());
+    }
+
+    private static String eventIdOf(EventStatusUpdateRequest request) {
+        return request == null ? null : request.getEventId();
+    }
+}
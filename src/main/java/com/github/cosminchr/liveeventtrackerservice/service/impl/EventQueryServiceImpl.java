@@ -0,0 +1,51 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.model.EventSnapshot;
+import com.github.cosminchr.liveeventtrackerservice.service.EventQueryService;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the EventQueryService interface.
+ * <p>
+ * Every {@code event-tracker.query.refresh-interval-ms} the events are copied out of the store and
+ * compared with the current snapshot. Only when something changed is a new snapshot published, so
+ * between changes every reader sees the same snapshot and the same versions. Readers never touch the
+ * store, however many of them there are.
+ */
+@Service
+@Slf4j
+public class EventQueryServiceImpl implements EventQueryService {
+
+    private final EventService eventService;
+
+    private volatile EventSnapshot snapshot = EventSnapshot.EMPTY;
+
+    public EventQueryServiceImpl(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    @Override
+    public EventSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${event-tracker.query.refresh-interval-ms:1000}")
+    public void refresh() {
+        long startNanos = System.nanoTime();
+        EventSnapshot current = snapshot;
+        EventSnapshot next = EventSnapshot.next(current, eventService.getEvents());
+        if (next != current) {
+            snapshot = next;
+            if (log.isDebugEnabled()) {
+                log.debug("Refreshed event snapshot: version={}, events={}, durationMs={}", next.getVersion(),
+                        next.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        }
+    }
+}
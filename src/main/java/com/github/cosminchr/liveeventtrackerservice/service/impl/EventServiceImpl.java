@@ -5,18 +5,24 @@ import com.github.cosminchr.liveeventtrackerservice.model.Event;
 import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
 import com.github.cosminchr.liveeventtrackerservice.service.EventService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of the EventService interface.
  * Uses an in-memory store for events.
+ * <p>
+ * This is the default store; set event-tracker.store.type=columnar to use {@link ColumnarEventServiceImpl}
+ * or event-tracker.store.type=durable to use {@link DurableEventServiceImpl} instead.
  */
 @Service
 @Slf4j
+@ConditionalOnProperty(name = "event-tracker.store.type", havingValue = "map", matchIfMissing = true)
 public class EventServiceImpl implements EventService {
     
     // In-memory store for events
@@ -33,10 +39,11 @@ public class EventServiceImpl implements EventService {
         
         event.setStatus(status);
         event.setLastUpdated(LocalDateTime.now());
+        event.setPollingIntervalMs(request.getPollingIntervalMs());
         
         events.put(eventId, event);
         
-        log.info("Updated event status: eventId={}, status={}", eventId, status);
+        log.debug("Updated event status: eventId={}, status={}", eventId, status);
         
         return event;
     }
@@ -45,4 +52,41 @@ public class EventServiceImpl implements EventService {
     public Event getEvent(String eventId) {
         return events.get(eventId);
     }
+    
+    @Override
+    public boolean isLive(String eventId) {
+        Event event = events.get(eventId);
+        return event != null && event.getStatus() == EventStatus.LIVE;
+    }
+    
+    @Override
+    public void recordPoll(String eventId) {
+        Event event = events.get(eventId);
+        if (event != null) {
+            event.setLastPolled(LocalDateTime.now());
+        }
+    }
+    
+    @Override
+    public void recordScore(String eventId, long score) {
+        Event event = events.get(eventId);
+        if (event != null) {
+            event.setCurrentScore(score);
+        }
+    }
+    
+    @Override
+    public List<String> getLiveEventIds() {
+        return events.values().stream()
+                .filter(event -> event.getStatus() == EventStatus.LIVE)
+                .map(Event::getEventId)
+                .toList();
+    }
+    
+    @Override
+    public List<Event> getEvents() {
+        return events.values().stream()
+                .map(event -> event.toBuilder().build())
+                .toList();
+    }
 }
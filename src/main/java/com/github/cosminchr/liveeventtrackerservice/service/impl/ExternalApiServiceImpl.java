@@ -1,21 +1,57 @@
 package com.github.cosminchr.liveeventtrackerservice.service.impl;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreaker;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreakerOpenException;
 import com.github.cosminchr.liveeventtrackerservice.service.ExternalApiService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Implementation of the ExternalApiService interface.
+ * Blocking calls go through the pooled RestTemplate, non-blocking calls through the async HTTP client.
+ * <p>
+ * Calls are not retried here, so a failing upstream never holds the calling thread; the polling
+ * scheduler re-schedules failed polls instead. Every upstream host has its own {@link CircuitBreaker},
+ * which fails calls fast with a {@link CircuitBreakerOpenException} while the host keeps failing.
+ * Client errors (4xx) do not count as failures of the host.
  */
 @Service
 @Slf4j
-public class ExternalApiServiceImpl implements ExternalApiService {
+public class ExternalApiServiceImpl implements ExternalApiService, MeterBinder {
 
     @Value("${event-tracker.external-api.base-url}")
     private String baseUrl;
@@ -23,31 +59,242 @@ public class ExternalApiServiceImpl implements ExternalApiService {
     @Value("${event-tracker.external-api.event-endpoint}")
     private String eventEndpoint;
 
+    @Value("${event-tracker.external-api.events-endpoint:/events?ids={eventIds}}")
+    private String eventsEndpoint;
+
+    @Value("${event-tracker.external-api.request-deadline-ms:5000}")
+    private long requestDeadlineMs;
+
+    @Value("${event-tracker.external-api.circuit-breaker.failure-threshold:5}")
+    private int breakerFailureThreshold = 5;
+
+    @Value("${event-tracker.external-api.circuit-breaker.open-ms:30000}")
+    private long breakerOpenMs = 30000;
+
+    // Circuit breakers by upstream host
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    // The breaker of the configured base URL, so the URL is not parsed on every call
+    private volatile HostBreaker hostBreaker;
+    private volatile MeterRegistry meterRegistry;
+
     private final RestTemplate restTemplate;
+    private final CloseableHttpAsyncClient asyncHttpClient;
+    private final ObjectMapper objectMapper;
 
-    public ExternalApiServiceImpl(RestTemplate restTemplate) {
+    public ExternalApiServiceImpl(RestTemplate restTemplate, CloseableHttpAsyncClient asyncHttpClient) {
         this.restTemplate = restTemplate;
-        log.info("Initialized ExternalApiServiceImpl with RestTemplate");
+        this.asyncHttpClient = asyncHttpClient;
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        log.info("Initialized ExternalApiServiceImpl with RestTemplate and async HTTP client");
     }
 
     @Override
-    @Retryable(
-            value = {RestClientException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public EventApiResponse fetchEventData(String eventId) {
-        String url = baseUrl + eventEndpoint.replace("{eventId}", eventId);
+        String url = eventUrl(eventId);
 
         log.debug("Fetching event data from external API: url={}, eventId={}", url, eventId);
 
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        circuitBreaker.acquirePermission();
         try {
             EventApiResponse response = restTemplate.getForObject(url, EventApiResponse.class);
+            circuitBreaker.onSuccess();
             log.debug("Received response from external API: eventId={}, response={}", eventId, response);
             return response;
-        } catch (RestClientException e) {
+        } catch (RuntimeException e) {
+            recordOutcome(circuitBreaker, e);
             log.error("Error fetching event data from external API: eventId={}, error={}", eventId, e.getMessage());
             throw e;
         }
     }
+
+    @Override
+    public List<EventApiResponse> fetchEventData(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        String ids = String.join(",", eventIds);
+        String url = baseUrl + eventsEndpoint;
+
+        log.debug("Fetching batch of event data from external API: url={}, events={}", url, eventIds.size());
+
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        circuitBreaker.acquirePermission();
+        try {
+            EventApiResponse[] responses = restTemplate.getForObject(url, EventApiResponse[].class, ids);
+            circuitBreaker.onSuccess();
+            log.debug("Received batch response from external API: requested={}, received={}",
+                    eventIds.size(), responses == null ? 0 : responses.length);
+            return responses == null ? List.of() : Arrays.asList(responses);
+        } catch (RuntimeException e) {
+            recordOutcome(circuitBreaker, e);
+            log.error("Error fetching batch of event data from external API: events={}, error={}",
+                    eventIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<EventApiResponse> fetchEventDataAsync(String eventId) {
+        String url = eventUrl(eventId);
+
+        log.debug("Fetching event data asynchronously from external API: url={}, eventId={}", url, eventId);
+
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CircuitBreakerOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        SimpleHttpRequest request = SimpleRequestBuilder.get(url)
+                .setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .setRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(requestDeadlineMs))
+                        .build())
+                .build();
+
+        CompletableFuture<EventApiResponse> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange;
+        try {
+            exchange = asyncHttpClient.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    try {
+                        result.complete(readResponse(eventId, response));
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    result.completeExceptionally(new RestClientException("I/O error on GET request for \"" + url + "\"", e));
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // The call never started, so it must not hold a half-open trial slot
+            recordOutcome(circuitBreaker, e);
+            throw e;
+        }
+
+        // Enforce the deadline on the whole exchange, including time spent waiting for a pooled connection
+        return result.orTimeout(requestDeadlineMs, TimeUnit.MILLISECONDS)
+                .whenComplete((response, e) -> {
+                    recordOutcome(circuitBreaker, e);
+                    if (e instanceof TimeoutException) {
+                        exchange.cancel(true);
+                        log.error("Deadline exceeded fetching event data from external API: eventId={}, deadlineMs={}",
+                                eventId, requestDeadlineMs);
+                    } else if (e != null) {
+                        log.error("Error fetching event data from external API: eventId={}, error={}",
+                                eventId, e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Gets the state of the circuit breaker of every upstream host that has been called.
+     *
+     * @return The breaker states by host
+     */
+    public Map<String, CircuitBreaker.State> getCircuitBreakerStates() {
+        Map<String, CircuitBreaker.State> states = new ConcurrentHashMap<>();
+        circuitBreakers.forEach((host, circuitBreaker) -> states.put(host, circuitBreaker.getState()));
+        return states;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        circuitBreakers.values().forEach(circuitBreaker -> registerMeters(registry, circuitBreaker));
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        String url = baseUrl;
+        HostBreaker current = hostBreaker;
+        if (current != null && current.baseUrl().equals(url)) {
+            return current.circuitBreaker();
+        }
+
+        String host = URI.create(url).getHost();
+        String key = host != null ? host : url;
+        CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(key,
+                name -> new CircuitBreaker(name, breakerFailureThreshold, breakerOpenMs));
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            // Registering the same meter twice returns the existing one
+            registerMeters(registry, circuitBreaker);
+        }
+        hostBreaker = new HostBreaker(url, circuitBreaker);
+        return circuitBreaker;
+    }
+
+    private record HostBreaker(String baseUrl, CircuitBreaker circuitBreaker) {
+    }
+
+    private static void registerMeters(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        Gauge.builder("event.tracker.upstream.breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state of an upstream host: 0 closed, 1 half-open, 2 open")
+                .tag("host", circuitBreaker.getName())
+                .register(registry);
+        FunctionCounter.builder("event.tracker.upstream.breaker.rejected", circuitBreaker, CircuitBreaker::getRejectedCallCount)
+                .description("Calls to an upstream host rejected by its open circuit breaker")
+                .tag("host", circuitBreaker.getName())
+                .register(registry);
+    }
+
+    /**
+     * Records the outcome of a permitted call in its circuit breaker.
+     * Only errors that indicate an unavailable upstream count as failures, and only an answer from the upstream,
+     * a 4xx response included, counts as a success. Other errors, such as a cancelled call or one the client
+     * refused to start, say nothing about the upstream and leave the breaker as it is.
+     *
+     * @param circuitBreaker The circuit breaker that permitted the call
+     * @param error          The error the call failed with, or null if it succeeded
+     */
+    private static void recordOutcome(CircuitBreaker circuitBreaker, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null || cause instanceof HttpClientErrorException) {
+            circuitBreaker.onSuccess();
+        } else if (cause instanceof TimeoutException || cause instanceof RestClientException) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private String eventUrl(String eventId) {
+        return baseUrl + eventEndpoint.replace("{eventId}", eventId);
+    }
+
+    private EventApiResponse readResponse(String eventId, SimpleHttpResponse response) throws IOException {
+        int status = response.getCode();
+        if (status >= 400 && status < 500) {
+            // A client error, like the sync path's, so it does not count against the upstream host
+            throw HttpClientErrorException.create("Client error response from external API: eventId="
+                            + eventId + ", status=" + status, HttpStatusCode.valueOf(status), response.getReasonPhrase(),
+                    null, response.getBodyBytes(), null);
+        }
+        if (status < 200 || status >= 300) {
+            throw new RestClientException("Unexpected response status from external API: eventId="
+                    + eventId + ", status=" + status);
+        }
+
+        byte[] body = response.getBodyBytes();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+
+        EventApiResponse apiResponse = objectMapper.readValue(body, EventApiResponse.class);
+        log.debug("Received response from external API: eventId={}, response={}", eventId, apiResponse);
+        return apiResponse;
+    }
 }
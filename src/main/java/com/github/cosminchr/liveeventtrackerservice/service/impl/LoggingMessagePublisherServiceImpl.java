@@ -7,6 +7,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * A fallback implementation of MessagePublisherService that just logs messages.
  * This is useful for development or when Kafka is not available.
@@ -23,4 +25,9 @@ public class LoggingMessagePublisherServiceImpl implements MessagePublisherServi
     public void publishEventUpdate(EventUpdateMessage message) {
         log.info("MOCK PUBLISHING: Would publish event update to Kafka: message={}", message);
     }
+
+    @Override
+    public void publishEventUpdates(List<EventUpdateMessage> messages) {
+        messages.forEach(this::publishEventUpdate);
+    }
 }
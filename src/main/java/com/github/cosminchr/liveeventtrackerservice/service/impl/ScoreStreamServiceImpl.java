@@ -0,0 +1,245 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.config.StreamProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import com.github.cosminchr.liveeventtrackerservice.stream.RingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the ScoreStreamService interface based on Server-Sent Events.
+ * <p>
+ * Updates are published into a lock-free {@link RingBuffer}, so the poller never waits for a client.
+ * Every subscriber has its own cursor into the buffer. Every dispatch interval, each subscriber that is
+ * not still busy with its previous delivery gets a virtual thread that sends it everything between its
+ * cursor and the head of the buffer, keeping only the latest update per event. A slow client therefore
+ * only delays itself, and receives fewer, conflated updates the further it falls behind.
+ * A subscriber that falls behind by more than the buffer size is handled according to
+ * {@code event-tracker.stream.slow-subscriber-policy}.
+ */
+@Service
+@Slf4j
+public class ScoreStreamServiceImpl implements ScoreStreamService, MeterBinder {
+
+    private static final String EVENT_NAME = "score";
+
+    private final StreamProperties properties;
+    private final RingBuffer<EventUpdateMessage> ringBuffer;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong nextSubscriberId = new AtomicLong();
+    private final ExecutorService deliveryExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("score-stream-", 0).factory());
+
+    private final AtomicLong conflatedUpdates = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+
+    public ScoreStreamServiceImpl(StreamProperties properties) {
+        this.properties = properties;
+        this.ringBuffer = new RingBuffer<>(properties.getBufferSize());
+    }
+
+    @Override
+    public void publish(EventUpdateMessage message) {
+        ringBuffer.publish(message);
+    }
+
+    @Override
+    public SseEmitter subscribe(Collection<String> eventIds, Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            log.warn("Rejecting score stream subscription, too many subscribers: subscribers={}", subscribers.size());
+            return null;
+        }
+
+        // Resume after the last received update if it is still in the buffer, otherwise start with the next one
+        long cursor = ringBuffer.getNextSequence();
+        if (lastEventId != null && lastEventId + 1 >= ringBuffer.getOldestSequence() && lastEventId < cursor) {
+            cursor = lastEventId + 1;
+        }
+
+        long id = nextSubscriberId.incrementAndGet();
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(id, emitter,
+                eventIds == null || eventIds.isEmpty() ? null : Set.copyOf(eventIds), cursor);
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(e -> subscribers.remove(id));
+        subscribers.put(id, subscriber);
+
+        log.info("Subscribed to score stream: subscriberId={}, eventIds={}, subscribers={}",
+                id, subscriber.eventIds, subscribers.size());
+        return emitter;
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public long getMaxLag() {
+        long head = ringBuffer.getNextSequence();
+        long maxLag = 0;
+        for (Subscriber subscriber : subscribers.values()) {
+            maxLag = Math.max(maxLag, head - subscriber.cursor);
+        }
+        return maxLag;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("event.tracker.stream.subscribers", this, ScoreStreamServiceImpl::getSubscriberCount)
+                .description("Connected score stream subscribers")
+                .register(registry);
+        Gauge.builder("event.tracker.stream.max.lag", this, ScoreStreamServiceImpl::getMaxLag)
+                .description("Updates the slowest score stream subscriber is behind")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.stream.conflated", conflatedUpdates, AtomicLong::get)
+                .description("Score updates replaced by a later update of the same event before delivery")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.stream.overruns", overruns, AtomicLong::get)
+                .description("Times a subscriber fell behind by more than the buffer size")
+                .register(registry);
+        FunctionCounter.builder("event.tracker.stream.dropped", droppedSubscribers, AtomicLong::get)
+                .description("Subscribers disconnected for falling behind")
+                .register(registry);
+    }
+
+    /**
+     * Starts a delivery for every subscriber whose previous delivery has finished.
+     */
+    @Scheduled(fixedDelayString = "${event-tracker.stream.dispatch-interval-ms:100}")
+    public void dispatch() {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!subscriber.delivering.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                deliveryExecutor.execute(() -> deliver(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.delivering.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        deliveryExecutor.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Sends a subscriber the updates published since its last delivery.
+     *
+     * @param subscriber The subscriber
+     */
+    private void deliver(Subscriber subscriber) {
+        try {
+            long cursor = subscriber.cursor;
+            if (ringBuffer.isOverrun(cursor)) {
+                overruns.incrementAndGet();
+                if (properties.getSlowSubscriberPolicy() == StreamProperties.SlowSubscriberPolicy.DROP) {
+                    log.warn("Dropping slow score stream subscriber: subscriberId={}, lag={}",
+                            subscriber.id, ringBuffer.getNextSequence() - cursor);
+                    droppedSubscribers.incrementAndGet();
+                    subscribers.remove(subscriber.id);
+                    subscriber.emitter.complete();
+                    return;
+                }
+                cursor = ringBuffer.getOldestSequence();
+            }
+
+            // Latest update and its sequence per event, in the order of the latest updates
+            Map<String, Sequenced> latest = new LinkedHashMap<>();
+            long head = ringBuffer.getNextSequence();
+            while (cursor < head) {
+                EventUpdateMessage message = ringBuffer.get(cursor);
+                if (message == null) {
+                    if (ringBuffer.isOverrun(cursor)) {
+                        // Overwritten while reading; skip ahead and conflate with what is still there
+                        overruns.incrementAndGet();
+                        cursor = ringBuffer.getOldestSequence();
+                        continue;
+                    }
+                    // Claimed by a producer that has not stored it yet
+                    break;
+                }
+                if (subscriber.eventIds == null || subscriber.eventIds.contains(message.getEventId())) {
+                    if (latest.remove(message.getEventId()) != null) {
+                        conflatedUpdates.incrementAndGet();
+                    }
+                    latest.put(message.getEventId(), new Sequenced(cursor, message));
+                }
+                cursor++;
+            }
+
+            long now = System.nanoTime();
+            for (Sequenced update : latest.values()) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(update.sequence()))
+                        .name(EVENT_NAME)
+                        .data(update.message(), MediaType.APPLICATION_JSON));
+                subscriber.lastSentNanos = now;
+            }
+            if (now - subscriber.lastSentNanos > TimeUnit.MILLISECONDS.toNanos(properties.getHeartbeatIntervalMs())) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                subscriber.lastSentNanos = now;
+            }
+            subscriber.cursor = cursor;
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone away
+            log.debug("Removing score stream subscriber: subscriberId={}, error={}", subscriber.id, e.getMessage());
+            subscribers.remove(subscriber.id);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.delivering.set(false);
+        }
+    }
+
+    private record Sequenced(long sequence, EventUpdateMessage message) {
+    }
+
+    /**
+     * A connected client, with its position in the ring buffer.
+     */
+    private static final class Subscriber {
+        private final long id;
+        private final SseEmitter emitter;
+        // Null to receive updates of all events
+        private final Set<String> eventIds;
+        private final AtomicBoolean delivering = new AtomicBoolean();
+        // Only written by the delivery in progress; read by the metrics
+        private volatile long cursor;
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Subscriber(long id, SseEmitter emitter, Set<String> eventIds, long cursor) {
+            this.id = id;
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+            this.cursor = cursor;
+        }
+    }
+}
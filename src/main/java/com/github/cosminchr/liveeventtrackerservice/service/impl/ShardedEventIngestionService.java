@@ -0,0 +1,138 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.cluster.EventForwarder;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import com.github.cosminchr.liveeventtrackerservice.service.ShardingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EventIngestionService that routes every update to the instance that owns the event.
+ * <p>
+ * Updates of events owned by this instance are applied by the local ingestion service. Updates of
+ * other events are forwarded to their owner, batches grouped per owner, and the owner's results are
+ * merged back in request order. Updates whose owner cannot be reached are rejected, so the client
+ * can retry them, rather than being polled by an instance that does not own them.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "event-tracker.cluster.enabled", havingValue = "true")
+@Slf4j
+public class ShardedEventIngestionService implements EventIngestionService {
+
+    private final EventIngestionService localIngestionService;
+    private final ShardingService shardingService;
+    private final EventForwarder eventForwarder;
+
+    public ShardedEventIngestionService(@Qualifier("eventIngestionServiceImpl") EventIngestionService localIngestionService,
+                                        ShardingService shardingService,
+                                        EventForwarder eventForwarder) {
+        this.localIngestionService = localIngestionService;
+        this.shardingService = shardingService;
+        this.eventForwarder = eventForwarder;
+    }
+
+    @Override
+    public Event apply(EventStatusUpdateRequest request) {
+        String owner = shardingService.ownerOf(request.getEventId());
+        if (owner.equals(shardingService.getLocalNode())) {
+            return localIngestionService.apply(request);
+        }
+        return eventForwarder.forward(owner, request);
+    }
+
+    @Override
+    public Event handOver(EventStatusUpdateRequest request, LocalDateTime lastUpdated) {
+        String owner = shardingService.ownerOf(request.getEventId());
+        if (owner.equals(shardingService.getLocalNode())) {
+            return localIngestionService.handOver(request, lastUpdated);
+        }
+        return eventForwarder.handOver(owner, request, lastUpdated);
+    }
+
+    @Override
+    public String validate(EventStatusUpdateRequest request) {
+        return localIngestionService.validate(request);
+    }
+
+    @Override
+    public List<EventStatusUpdateResult> ingest(List<EventStatusUpdateRequest> requests, int firstIndex) {
+        return route(requests, firstIndex, false);
+    }
+
+    @Override
+    public List<EventStatusUpdateResult> enqueue(List<EventStatusUpdateRequest> requests, int firstIndex) {
+        return route(requests, firstIndex, true);
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return localIngestionService.getQueuedCount();
+    }
+
+    /**
+     * Splits a batch by owner, applies or queues each part at its owner and merges the results.
+     *
+     * @param requests   The status update requests
+     * @param firstIndex The index reported for the first update of the batch
+     * @param async      Whether to queue the updates instead of applying them
+     * @return One result per update, in request order
+     */
+    private List<EventStatusUpdateResult> route(List<EventStatusUpdateRequest> requests, int firstIndex, boolean async) {
+        // Positions of the updates in the batch, per owner; invalid updates stay here to be rejected
+        Map<String, List<Integer>> positionsByOwner = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EventStatusUpdateRequest request = requests.get(i);
+            String owner = request == null || request.getEventId() == null || request.getEventId().isBlank()
+                    ? shardingService.getLocalNode()
+                    : shardingService.ownerOf(request.getEventId());
+            positionsByOwner.computeIfAbsent(owner, node -> new ArrayList<>()).add(i);
+        }
+
+        EventStatusUpdateResult[] results = new EventStatusUpdateResult[requests.size()];
+        positionsByOwner.forEach((owner, positions) -> {
+            List<EventStatusUpdateRequest> part = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                part.add(requests.get(position));
+            }
+
+            List<EventStatusUpdateResult> partResults;
+            if (owner.equals(shardingService.getLocalNode())) {
+                partResults = async ? localIngestionService.enqueue(part, 0) : localIngestionService.ingest(part, 0);
+            } else {
+                try {
+                    partResults = eventForwarder.forward(owner, part, async);
+                } catch (Exception e) {
+                    log.error("Error forwarding event status updates: owner={}, updates={}, error={}",
+                            owner, part.size(), e.getMessage());
+                    partResults = List.of();
+                }
+            }
+
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                EventStatusUpdateResult result = i < partResults.size() ? partResults.get(i) : null;
+                if (result == null) {
+                    result = EventStatusUpdateResult.rejected(0, part.get(i) != null ? part.get(i).getEventId() : null,
+                            "Owner " + owner + " is unavailable");
+                }
+                result.setIndex(firstIndex + position);
+                results[position] = result;
+            }
+        });
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.cosminchr.liveeventtrackerservice.service.impl;
+
+import com.github.cosminchr.liveeventtrackerservice.cluster.ConsistentHashRing;
+import com.github.cosminchr.liveeventtrackerservice.cluster.EventForwarder;
+import com.github.cosminchr.liveeventtrackerservice.config.ClusterProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import com.github.cosminchr.liveeventtrackerservice.service.ShardingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of the ShardingService interface based on a consistent-hash ring.
+ * <p>
+ * Membership comes from {@code event-tracker.cluster.members} or, if configured, from a members file
+ * shared by all instances, which is re-read every refresh interval. On every refresh, live events in the
+ * local store that are owned by another instance are handed over: the owner is told the event is live, unless
+ * a client has updated the event there since it was last updated here, after which the event is marked not
+ * live here and no longer polled. Because the ring moves only the
+ * events of the segments that changed hands, a joining or leaving instance moves about 1/n of the events.
+ * Events of an instance that disappears without handing them over are polled again once they are re-sent.
+ */
+@Service
+@ConditionalOnProperty(name = "event-tracker.cluster.enabled", havingValue = "true")
+@Slf4j
+public class ShardingServiceImpl implements ShardingService {
+
+    private final ClusterProperties properties;
+    private final EventService eventService;
+    private final EventIngestionService localIngestionService;
+    private final EventForwarder eventForwarder;
+    private final String localNode;
+
+    private volatile ConsistentHashRing ring;
+
+    public ShardingServiceImpl(ClusterProperties properties,
+                               EventService eventService,
+                               @Qualifier("eventIngestionServiceImpl") EventIngestionService localIngestionService,
+                               EventForwarder eventForwarder) {
+        if (properties.getNodeId() == null || properties.getNodeId().isBlank()) {
+            throw new IllegalStateException("event-tracker.cluster.node-id is required when the cluster is enabled");
+        }
+        this.properties = properties;
+        this.eventService = eventService;
+        this.localIngestionService = localIngestionService;
+        this.eventForwarder = eventForwarder;
+        this.localNode = normalize(properties.getNodeId());
+
+        Set<String> members = readMembers();
+        this.ring = new ConsistentHashRing(members != null ? members : Set.of(localNode), properties.getVirtualNodes());
+        log.info("Joined cluster: node={}, members={}", localNode, ring.getNodes());
+        if (!ring.getNodes().contains(localNode)) {
+            log.warn("This instance is not a cluster member and will forward all events: node={}", localNode);
+        }
+    }
+
+    @Override
+    public String getLocalNode() {
+        return localNode;
+    }
+
+    @Override
+    public String ownerOf(String eventId) {
+        String owner = ring.ownerOf(eventId);
+        return owner != null ? owner : localNode;
+    }
+
+    @Override
+    public boolean isLocal(String eventId) {
+        return localNode.equals(ownerOf(eventId));
+    }
+
+    @Override
+    public List<String> getMembers() {
+        return ring.getNodes();
+    }
+
+    /**
+     * Hands over the events restored from the store that are owned by other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void handOverOnStartup() {
+        handOverForeignEvents();
+    }
+
+    /**
+     * Re-reads the membership and hands over the live events that are now owned by other instances.
+     * Events whose handover fails stay here and are tried again on the next refresh.
+     */
+    @Scheduled(fixedDelayString = "${event-tracker.cluster.refresh-interval-ms:5000}")
+    public void refresh() {
+        Set<String> members = readMembers();
+        if (members != null && !members.equals(Set.copyOf(ring.getNodes()))) {
+            ConsistentHashRing previous = ring;
+            ring = new ConsistentHashRing(members, properties.getVirtualNodes());
+            log.info("Cluster membership changed: previous={}, members={}", previous.getNodes(), ring.getNodes());
+        }
+        handOverForeignEvents();
+    }
+
+    private void handOverForeignEvents() {
+        int handedOver = 0;
+        int failed = 0;
+        for (String eventId : eventService.getLiveEventIds()) {
+            String owner = ownerOf(eventId);
+            if (owner.equals(localNode)) {
+                continue;
+            }
+
+            Event event = eventService.getEvent(eventId);
+            try {
+                // The owner ignores the handover if a client has updated the event there since
+                eventForwarder.handOver(owner, new EventStatusUpdateRequest(
+                        eventId, true, event != null ? event.getPollingIntervalMs() : null),
+                        event != null ? event.getLastUpdated() : null);
+                localIngestionService.apply(new EventStatusUpdateRequest(eventId, false));
+                handedOver++;
+            } catch (Exception e) {
+                log.warn("Error handing over event, keeping it for now: eventId={}, owner={}, error={}",
+                        eventId, owner, e.getMessage());
+                failed++;
+            }
+        }
+        if (handedOver > 0 || failed > 0) {
+            log.info("Handed over events to their owners: handedOver={}, failed={}", handedOver, failed);
+        }
+    }
+
+    /**
+     * Reads the current members.
+     *
+     * @return The node IDs, or null if the members file cannot be read
+     */
+    private Set<String> readMembers() {
+        List<String> lines;
+        if (properties.getMembersFile() != null && !properties.getMembersFile().isBlank()) {
+            try {
+                lines = Files.readAllLines(Path.of(properties.getMembersFile()));
+            } catch (IOException e) {
+                log.error("Error reading cluster members file, keeping current members: file={}, error={}",
+                        properties.getMembersFile(), e.getMessage());
+                return null;
+            }
+        } else {
+            lines = properties.getMembers();
+        }
+
+        Set<String> members = new LinkedHashSet<>();
+        for (String line : lines) {
+            String member = line.trim();
+            if (!member.isEmpty() && !member.startsWith("#")) {
+                members.add(normalize(member));
+            }
+        }
+        return members.isEmpty() ? Set.of(localNode) : members;
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -3,34 +3,76 @@ package com.github.cosminchr.liveeventtrackerservice.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.journal.JournalCategory;
 import com.github.cosminchr.liveeventtrackerservice.service.MessagePublisherService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Simple implementation of the MessagePublisherService interface using Kafka with String serialization.
+ * <p>
+ * Setting event-tracker.kafka.wire-format to "binary" publishes through the typed template instead,
+ * whose producer writes the compact {@link com.github.cosminchr.liveeventtrackerservice.config.EventUpdateBinaryFormat}
+ * and tags each record with a format header. JSON stays the default.
+ * <p>
+ * Sends never block on the broker: records are handed to the producer, which batches them and retries
+ * transient failures itself (the producer is idempotent, so retries cannot create duplicates).
+ * Failures that remain once the producer gives up are handled in the send callback.
+ * <p>
+ * The time to serialize a message, the time from handing a record to the producer until the broker
+ * acknowledges it, and the usage of the producer's record buffer are exposed as
+ * {@code event.tracker.publish.*} metrics. Acknowledged updates go to the {@link EventJournal} rather than the log;
+ * failures are still logged.
  */
 @Service("simpleKafkaMessagePublisher")
 @Slf4j
 @ConditionalOnProperty(name = "event-tracker.kafka.use-logging-publisher", havingValue = "false", matchIfMissing = false)
-public class SimpleKafkaMessagePublisherServiceImpl implements MessagePublisherService {
+public class SimpleKafkaMessagePublisherServiceImpl implements MessagePublisherService, MeterBinder {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, EventUpdateMessage> eventUpdateKafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final EventJournal eventJournal;
 
     @Value("${event-tracker.kafka.event-updates-topic:event-updates}")
     private String eventUpdatesTopic;
 
-    public SimpleKafkaMessagePublisherServiceImpl(KafkaTemplate<String, String> stringKafkaTemplate) {
+    @Value("${event-tracker.kafka.wire-format:json}")
+    private String wireFormat;
+
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // Until bindTo is called the timers belong to an empty registry and record nothing
+    private volatile PublishTimers timers = new PublishTimers(new CompositeMeterRegistry());
+
+    // Set once a record has been sent, so reading the buffer usage never creates a producer
+    private volatile boolean producerStarted;
+
+    public SimpleKafkaMessagePublisherServiceImpl(KafkaTemplate<String, String> stringKafkaTemplate,
+                                                  KafkaTemplate<String, EventUpdateMessage> kafkaTemplate,
+                                                  EventJournal eventJournal) {
         this.kafkaTemplate = stringKafkaTemplate;
+        this.eventUpdateKafkaTemplate = kafkaTemplate;
+        this.eventJournal = eventJournal;
         this.objectMapper = new ObjectMapper();
         // Register the JSR310 module to handle Java 8 date/time types
         this.objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
@@ -39,39 +81,144 @@ public class SimpleKafkaMessagePublisherServiceImpl implements MessagePublisherS
     }
 
     @Override
-    @Retryable(
-            value = {Exception.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public void publishEventUpdate(EventUpdateMessage message) {
+        send(message);
+    }
+
+    @Override
+    public void publishEventUpdates(List<EventUpdateMessage> messages) {
+        log.debug("Publishing batch of event updates to Kafka: topic={}, messages={}",
+                eventUpdatesTopic, messages.size());
+
+        // The producer groups these records into as few produce requests as linger.ms and batch.size allow
+        for (EventUpdateMessage message : messages) {
+            send(message);
+        }
+    }
+
+    /**
+     * Gets the number of messages the broker has acknowledged.
+     *
+     * @return The number of acknowledged messages
+     */
+    public long getAcknowledgedCount() {
+        return acknowledged.sum();
+    }
+
+    /**
+     * Gets the number of messages that could not be published.
+     *
+     * @return The number of failed messages
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        timers = new PublishTimers(registry);
+        Gauge.builder("event.tracker.publish.buffer.usage", this, SimpleKafkaMessagePublisherServiceImpl::getBufferUsage)
+                .description("Fraction of the producer's record buffer holding records not yet sent to the broker")
+                .register(registry);
+    }
+
+    /**
+     * Gets the fraction of the producer's record buffer that is in use.
+     * A buffer that stays full makes sends block for up to max.block.ms.
+     *
+     * @return The buffer usage between 0 and 1, or NaN if nothing has been sent yet
+     */
+    public double getBufferUsage() {
+        if (!producerStarted) {
+            return Double.NaN;
+        }
+        KafkaTemplate<String, ?> template = "binary".equalsIgnoreCase(wireFormat) ? eventUpdateKafkaTemplate : kafkaTemplate;
+        double available = Double.NaN;
+        double total = Double.NaN;
+        for (Map.Entry<MetricName, ? extends Metric> metric : template.metrics().entrySet()) {
+            if (!"producer-metrics".equals(metric.getKey().group())) {
+                continue;
+            }
+            if ("buffer-available-bytes".equals(metric.getKey().name())) {
+                available = ((Number) metric.getValue().metricValue()).doubleValue();
+            } else if ("buffer-total-bytes".equals(metric.getKey().name())) {
+                total = ((Number) metric.getValue().metricValue()).doubleValue();
+            }
+        }
+        return total > 0 ? 1.0 - available / total : Double.NaN;
+    }
+
+    private void send(EventUpdateMessage message) {
         String key = message.getEventId();
+        PublishTimers publishTimers = timers;
 
         try {
-            // Convert the message to a JSON string
-            String messageJson = objectMapper.writeValueAsString(message);
+            CompletableFuture<? extends SendResult<String, ?>> future;
+            long sendStartNanos;
+            if ("binary".equalsIgnoreCase(wireFormat)) {
+                // The binary serializer records its own time, as it runs inside the producer
+                sendStartNanos = System.nanoTime();
+                future = eventUpdateKafkaTemplate.send(eventUpdatesTopic, key, message);
+            } else {
+                // Convert the message to a JSON string
+                long serializeStartNanos = System.nanoTime();
+                String messageJson = objectMapper.writeValueAsString(message);
+                sendStartNanos = System.nanoTime();
+                publishTimers.jsonSerialization.record(sendStartNanos - serializeStartNanos, TimeUnit.NANOSECONDS);
 
-            log.info("Publishing event update to Kafka: topic={}, key={}, message={}",
-                    eventUpdatesTopic, key, messageJson);
-
-            CompletableFuture<SendResult<String, String>> future =
-                    kafkaTemplate.send(eventUpdatesTopic, key, messageJson);
+                future = kafkaTemplate.send(eventUpdatesTopic, key, messageJson);
+            }
+            producerStarted = true;
 
             future.whenComplete((result, ex) -> {
+                long ackNanos = System.nanoTime() - sendStartNanos;
                 if (ex == null) {
-                    log.info("Event update published successfully: topic={}, key={}, offset={}",
-                            eventUpdatesTopic, key, result.getRecordMetadata().offset());
+                    publishTimers.ack.record(ackNanos, TimeUnit.NANOSECONDS);
+                    acknowledged.increment();
+                    eventJournal.record(JournalCategory.PUBLISH, key, "acked",
+                            result.getRecordMetadata().offset(), TimeUnit.NANOSECONDS.toMicros(ackNanos));
                 } else {
+                    // The producer has already retried until delivery.timeout.ms, so the record is dropped here
+                    publishTimers.ackFailure.record(ackNanos, TimeUnit.NANOSECONDS);
+                    failed.increment();
                     log.error("Failed to publish event update: topic={}, key={}, error={}",
                             eventUpdatesTopic, key, ex.getMessage());
                 }
             });
         } catch (JsonProcessingException e) {
+            failed.increment();
             log.error("Error serializing message to JSON: key={}, error={}", key, e.getMessage());
         } catch (Exception e) {
+            failed.increment();
             log.error("Error publishing event update: topic={}, key={}, error={}",
                     eventUpdatesTopic, key, e.getMessage());
-            throw e;
+        }
+    }
+
+    /**
+     * Timers of the publish path, registered together so a send reads a single field.
+     */
+    private static final class PublishTimers {
+        private final Timer jsonSerialization;
+        private final Timer ack;
+        private final Timer ackFailure;
+
+        private PublishTimers(MeterRegistry registry) {
+            this.jsonSerialization = Timer.builder("event.tracker.publish.serialization")
+                    .description("Time to serialize an event update")
+                    .tag("format", "json")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.ack = ackTimer(registry, "success");
+            this.ackFailure = ackTimer(registry, "failure");
+        }
+
+        private static Timer ackTimer(MeterRegistry registry, String outcome) {
+            return Timer.builder("event.tracker.publish.ack")
+                    .description("Time from handing an event update to the producer until the broker acknowledged it")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
         }
     }
 }
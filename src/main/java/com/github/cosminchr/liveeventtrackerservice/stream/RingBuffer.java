@@ -0,0 +1,109 @@
+package com.github.cosminchr.liveeventtrackerservice.stream;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free, fixed-size ring buffer with many producers and many independent readers.
+ * <p>
+ * Producers claim the next sequence number with a single atomic increment and store the value in the
+ * slot for that sequence, overwriting the value that was there {@code capacity} sequences earlier.
+ * A slot only ever moves forward: a slow producer never replaces a value stored by a producer that
+ * claimed a later sequence for the same slot. Producers never wait for readers. Every reader keeps its own cursor and reads values by sequence;
+ * a reader that falls more than {@code capacity} sequences behind has lost values, which it detects
+ * through {@link #isOverrun(long)}.
+ *
+ * @param <T> The type of the values
+ */
+public final class RingBuffer<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * A value together with the sequence it was published at, so readers can tell it from
+     * the values published before and after it in the same slot.
+     */
+    private record Slot<T>(long sequence, T value) {
+    }
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity The number of values kept, rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publishes a value.
+     *
+     * @param value The value
+     * @return The sequence the value was published at
+     */
+    public long publish(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        // If a later sequence already took the slot, this value has been overrun before it was stored
+        slots.accumulateAndGet((int) (sequence & mask), new Slot<>(sequence, value), RingBuffer::newer);
+        return sequence;
+    }
+
+    private static <T> Slot<T> newer(Slot<T> current, Slot<T> candidate) {
+        return current != null && current.sequence() > candidate.sequence() ? current : candidate;
+    }
+
+    /**
+     * Gets the value published at a sequence.
+     *
+     * @param sequence The sequence
+     * @return The value, or null if it has not been published yet or has been overwritten
+     */
+    public T get(long sequence) {
+        Slot<T> slot = slots.get((int) (sequence & mask));
+        return slot != null && slot.sequence() == sequence ? slot.value() : null;
+    }
+
+    /**
+     * Checks whether the value at a sequence has been overwritten.
+     *
+     * @param sequence The sequence
+     * @return true if the value is no longer available
+     */
+    public boolean isOverrun(long sequence) {
+        return sequence < nextSequence.get() - slots.length();
+    }
+
+    /**
+     * Gets the sequence the next value will be published at.
+     *
+     * @return The next sequence
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * Gets the oldest sequence whose value may still be available.
+     *
+     * @return The oldest sequence
+     */
+    public long getOldestSequence() {
+        return Math.max(0, nextSequence.get() - slots.length());
+    }
+
+    /**
+     * Gets the number of values kept.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.cosminchr.liveeventtrackerservice.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10000;
+
+    @Test
+    void ownerOf_ShouldNotDependOnMemberOrder() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("http://c", "http://a", "http://b", "http://a"), 128);
+
+        // Act & Assert
+        assertEquals(ring.getNodes(), reordered.getNodes());
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(ring.ownerOf("event" + i), reordered.ownerOf("event" + i));
+        }
+    }
+
+    @Test
+    void ownerOf_WithVirtualNodes_ShouldSpreadKeysEvenly() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c", "http://d"), 128);
+
+        // Act
+        Map<String, Integer> keysPerNode = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            keysPerNode.merge(ring.ownerOf("event" + i), 1, Integer::sum);
+        }
+
+        // Assert - every node gets within 25% of its fair share
+        assertEquals(4, keysPerNode.size());
+        keysPerNode.values().forEach(keys ->
+                assertTrue(keys > KEYS / 4 * 0.75 && keys < KEYS / 4 * 1.25, "keys=" + keys));
+    }
+
+    @Test
+    void ownerOf_WhenNodeJoins_ShouldOnlyMoveKeysToIt() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        ConsistentHashRing grown = new ConsistentHashRing(List.of("http://a", "http://b", "http://c", "http://d"), 128);
+
+        // Act
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String before = ring.ownerOf("event" + i);
+            String after = grown.ownerOf("event" + i);
+            if (!before.equals(after)) {
+                assertEquals("http://d", after);
+                moved++;
+            }
+        }
+
+        // Assert - about a quarter of the keys move, none between the existing nodes
+        assertTrue(moved > KEYS / 4 * 0.75 && moved < KEYS / 4 * 1.25, "moved=" + moved);
+    }
+
+    @Test
+    void ownerOf_WhenNodeLeaves_ShouldOnlyMoveItsKeys() {
+        // Arrange
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        ConsistentHashRing shrunk = new ConsistentHashRing(List.of("http://a", "http://c"), 128);
+
+        // Act & Assert
+        for (int i = 0; i < KEYS; i++) {
+            String before = ring.ownerOf("event" + i);
+            if (!before.equals("http://b")) {
+                assertEquals(before, shrunk.ownerOf("event" + i));
+            }
+        }
+        assertNull(new ConsistentHashRing(List.of(), 128).ownerOf("event1"));
+    }
+}
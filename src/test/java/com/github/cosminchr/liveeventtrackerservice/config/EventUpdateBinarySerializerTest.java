@@ -0,0 +1,120 @@
+package com.github.cosminchr.liveeventtrackerservice.config;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventUpdateBinarySerializerTest {
+
+    private final EventUpdateBinarySerializer serializer = new EventUpdateBinarySerializer();
+    private final EventUpdateBinaryDeserializer deserializer = new EventUpdateBinaryDeserializer();
+
+    @Test
+    void serialize_ShouldRoundTripThroughDeserializer() {
+        // Arrange
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.of(2025, 5, 1, 18, 30, 15, 123_000_000))
+                .build();
+        Headers headers = new RecordHeaders();
+
+        // Act
+        byte[] data = serializer.serialize("test-topic", headers, message);
+        EventUpdateMessage result = deserializer.deserialize("test-topic", headers, data);
+
+        // Assert
+        assertEquals(message, result);
+        assertEquals(EventUpdateBinaryFormat.VERSION, data[0]);
+        assertEquals(EventUpdateBinaryFormat.FORMAT_BINARY_V1,
+                new String(headers.lastHeader(EventUpdateBinaryFormat.FORMAT_HEADER).value(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serialize_WhenProducerAndConsumerAreInDifferentTimeZones_ShouldKeepLocalTimestamp() {
+        // Arrange - 02:30 on this date does not exist in New York, where clocks jump from 02:00 to 03:00
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.of(2025, 3, 9, 2, 30, 0, 456_000_000))
+                .build();
+        TimeZone defaultZone = TimeZone.getDefault();
+
+        try {
+            // Act
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            byte[] data = serializer.serialize("test-topic", message);
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            EventUpdateMessage result = deserializer.deserialize("test-topic", data);
+
+            // Assert
+            assertEquals(message, result);
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    @Test
+    void serialize_ShouldBeSmallerThanJson() {
+        // Arrange
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.now())
+                .build();
+        byte[] json = new SimpleJsonSerializer<EventUpdateMessage>().serialize("test-topic",
+                new EventUpdateMessage(message.getEventId(), message.getCurrentScore(), null));
+
+        // Act
+        byte[] data = serializer.serialize("test-topic", message);
+
+        // Assert
+        assertTrue(data.length < 24, "binary record was " + data.length + " bytes");
+        assertTrue(data.length < json.length);
+    }
+
+    @Test
+    void serialize_WhenScoreHasPeriod_ShouldKeepIt() {
+        // Arrange
+        EventUpdateMessage message = new EventUpdateMessage("event123", Score.of(3, 2, 4), null);
+
+        // Act
+        EventUpdateMessage result = deserializer.deserialize("test-topic", serializer.serialize("test-topic", message));
+
+        // Assert
+        assertEquals(message, result);
+    }
+
+    @Test
+    void deserialize_WhenRecordIsJsonWithoutHeader_ShouldReadJson() {
+        // Arrange
+        byte[] json = "{\"eventId\":\"event123\",\"currentScore\":\"2:1\",\"timestamp\":\"2025-05-01T18:30:15\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        EventUpdateMessage result = deserializer.deserialize("test-topic", new RecordHeaders(), json);
+
+        // Assert
+        assertEquals("event123", result.getEventId());
+        assertEquals(Score.of(2, 1), result.getCurrentScore());
+        assertEquals(LocalDateTime.of(2025, 5, 1, 18, 30, 15), result.getTimestamp());
+    }
+
+    @Test
+    void deserialize_WhenVersionIsUnknown_ShouldThrowException() {
+        // Arrange
+        byte[] data = {42, 0, 0};
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("test-topic", data));
+    }
+}
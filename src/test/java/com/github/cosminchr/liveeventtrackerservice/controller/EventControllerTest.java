@@ -1,12 +1,16 @@
 package com.github.cosminchr.liveeventtrackerservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cosminchr.liveeventtrackerservice.config.IngestConfig;
 import com.github.cosminchr.liveeventtrackerservice.config.TestConfig;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult.Outcome;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
 import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
 import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
 import com.github.cosminchr.liveeventtrackerservice.service.EventService;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventIngestionServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -17,10 +21,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,9 +35,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @TestPropertySource(properties = {
         "spring.kafka.bootstrap-servers=localhost:9092",
         "event-tracker.external-api.base-url=http://localhost:8081/api",
-        "event-tracker.kafka.event-updates-topic=test-event-updates"
+        "event-tracker.kafka.event-updates-topic=test-event-updates",
+        "event-tracker.ingest.max-batch-size=3",
+        "event-tracker.ingest.stream-chunk-size=2"
 })
-@Import(TestConfig.class)
+@Import({TestConfig.class, IngestConfig.class, EventIngestionServiceImpl.class})
 class EventControllerTest {
 
     @Autowired
@@ -65,7 +74,7 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.eventId").value("event123"))
                 .andExpect(jsonPath("$.status").value("LIVE"));
 
-        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event123");
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event123", null);
         verify(eventPollingScheduler, never()).unscheduleEventPolling(any());
     }
 
@@ -89,7 +98,7 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.eventId").value("event123"))
                 .andExpect(jsonPath("$.status").value("NOT_LIVE"));
 
-        verify(eventPollingScheduler, never()).scheduleEventPolling(any());
+        verify(eventPollingScheduler, never()).scheduleEventPolling(any(), any());
         verify(eventPollingScheduler, times(1)).unscheduleEventPolling("event123");
     }
 
@@ -105,7 +114,153 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
 
         verify(eventService, never()).updateEventStatus(any());
-        verify(eventPollingScheduler, never()).scheduleEventPolling(any());
+        verify(eventPollingScheduler, never()).scheduleEventPolling(any(), any());
         verify(eventPollingScheduler, never()).unscheduleEventPolling(any());
     }
+
+    @Test
+    void updateEventStatus_WhenPollingIntervalIsGiven_ShouldScheduleWithInterval() throws Exception {
+        // Arrange
+        EventStatusUpdateRequest request = new EventStatusUpdateRequest("event123", true, 2000L);
+
+        Event event = new Event();
+        event.setEventId("event123");
+        event.setStatus(EventStatus.LIVE);
+        event.setLastUpdated(LocalDateTime.now());
+
+        when(eventService.updateEventStatus(any())).thenReturn(event);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event123", 2000L);
+    }
+
+    @Test
+    void updateEventStatus_WhenPollingIntervalIsNotPositive_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        EventStatusUpdateRequest request = new EventStatusUpdateRequest("event123", true, 0L);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).updateEventStatus(any());
+    }
+
+    @Test
+    void updateEventStatuses_WhenSomeUpdatesAreInvalid_ShouldApplyTheOthers() throws Exception {
+        // Arrange
+        List<EventStatusUpdateRequest> requests = List.of(
+                new EventStatusUpdateRequest("event123", true),
+                new EventStatusUpdateRequest("", null),
+                new EventStatusUpdateRequest("event456", false));
+
+        when(eventService.updateEventStatus(any())).thenAnswer(invocation -> {
+            EventStatusUpdateRequest request = invocation.getArgument(0);
+            return Event.builder()
+                    .eventId(request.getEventId())
+                    .status(request.getLive() ? EventStatus.LIVE : EventStatus.NOT_LIVE)
+                    .build();
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/status/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[0].status").value("LIVE"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$[1].error").exists())
+                .andExpect(jsonPath("$[2].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[2].status").value("NOT_LIVE"));
+
+        verify(eventService, times(2)).updateEventStatus(any());
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event123", null);
+        verify(eventPollingScheduler, times(1)).unscheduleEventPolling("event456");
+    }
+
+    @Test
+    void updateEventStatuses_WhenAsync_ShouldAcceptAndApplyLater() throws Exception {
+        // Arrange
+        List<EventStatusUpdateRequest> requests = List.of(new EventStatusUpdateRequest("event123", true, 2000L));
+
+        when(eventService.updateEventStatus(any())).thenReturn(
+                Event.builder().eventId("event123").status(EventStatus.LIVE).build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/status/batch")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$[0].eventId").value("event123"))
+                .andExpect(jsonPath("$[0].outcome").value("ACCEPTED"));
+
+        verify(eventPollingScheduler, timeout(5000).times(1)).scheduleEventPolling("event123", 2000L);
+    }
+
+    @Test
+    void updateEventStatuses_WhenBatchIsTooLarge_ShouldRejectIt() throws Exception {
+        // Arrange
+        List<EventStatusUpdateRequest> requests = List.of(
+                new EventStatusUpdateRequest("event1", true),
+                new EventStatusUpdateRequest("event2", true),
+                new EventStatusUpdateRequest("event3", true),
+                new EventStatusUpdateRequest("event4", true));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/status/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(eventService, never()).updateEventStatus(any());
+    }
+
+    @Test
+    void streamEventStatuses_ShouldReturnOneResultLinePerUpdate() throws Exception {
+        // Arrange
+        String body = "{\"eventId\":\"event1\",\"live\":true}\n"
+                + "not json\n"
+                + "{\"eventId\":\"event2\",\"live\":true}\n"
+                + "\n"
+                + "{\"eventId\":\"event3\",\"live\":false}\n";
+
+        when(eventService.updateEventStatus(any())).thenAnswer(invocation -> {
+            EventStatusUpdateRequest request = invocation.getArgument(0);
+            return Event.builder()
+                    .eventId(request.getEventId())
+                    .status(request.getLive() ? EventStatus.LIVE : EventStatus.NOT_LIVE)
+                    .build();
+        });
+
+        // Act & Assert
+        String response = mockMvc.perform(post("/api/events/status/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = response.lines().toList();
+        assertEquals(4, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(i, objectMapper.readValue(lines.get(i), EventStatusUpdateResult.class).getIndex());
+        }
+        assertEquals(Outcome.APPLIED, objectMapper.readValue(lines.get(0), EventStatusUpdateResult.class).getOutcome());
+        assertEquals(Outcome.REJECTED, objectMapper.readValue(lines.get(1), EventStatusUpdateResult.class).getOutcome());
+        assertEquals(Outcome.APPLIED, objectMapper.readValue(lines.get(2), EventStatusUpdateResult.class).getOutcome());
+        assertEquals(EventStatus.NOT_LIVE, objectMapper.readValue(lines.get(3), EventStatusUpdateResult.class).getStatus());
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event1", null);
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event2", null);
+        verify(eventPollingScheduler, times(1)).unscheduleEventPolling("event3");
+    }
 }
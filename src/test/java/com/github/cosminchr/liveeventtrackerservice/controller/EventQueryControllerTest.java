@@ -0,0 +1,121 @@
+package com.github.cosminchr.liveeventtrackerservice.controller;
+
+import com.github.cosminchr.liveeventtrackerservice.config.QueryConfig;
+import com.github.cosminchr.liveeventtrackerservice.config.TestConfig;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventSnapshot;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.service.EventQueryService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EventQueryController.class)
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=localhost:9092",
+        "event-tracker.external-api.base-url=http://localhost:8081/api",
+        "event-tracker.kafka.event-updates-topic=test-event-updates",
+        "event-tracker.query.max-page-size=2"
+})
+@Import({TestConfig.class, QueryConfig.class})
+class EventQueryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EventQueryService eventQueryService;
+
+    @BeforeEach
+    void setUp() {
+        EventSnapshot first = EventSnapshot.next(EventSnapshot.EMPTY, List.of(
+                event("event1", EventStatus.LIVE), event("event2", EventStatus.NOT_LIVE)));
+        EventSnapshot second = EventSnapshot.next(first, List.of(
+                event("event1", EventStatus.LIVE), event("event2", EventStatus.NOT_LIVE),
+                event("event3", EventStatus.LIVE)));
+        when(eventQueryService.getSnapshot()).thenReturn(second);
+    }
+
+    @Test
+    void getEvent_WhenEventExists_ShouldReturnEventWithETag() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events/event1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.eventId").value("event1"))
+                .andExpect(jsonPath("$.status").value("LIVE"));
+    }
+
+    @Test
+    void getEvent_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events/event3").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEvent_WhenEventDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events/nonexistent"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getEvents_ShouldPageWithCursor() throws Exception {
+        // Act & Assert - the limit is capped at the maximum page size
+        String cursor = JsonPath.read(mockMvc.perform(get("/api/events").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].eventId").value("event1"))
+                .andExpect(jsonPath("$.version").value(2))
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/events").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].eventId").value("event3"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getEvents_WhenFilteringByStatus_ShouldOnlyReturnMatchingEvents() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events").param("status", "NOT_LIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].eventId").value("event2"));
+    }
+
+    @Test
+    void getEvents_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEvents_WhenCursorIsInvalid_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events").param("cursor", "not*base64"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Event event(String eventId, EventStatus status) {
+        return Event.builder().eventId(eventId).status(status).build();
+    }
+}
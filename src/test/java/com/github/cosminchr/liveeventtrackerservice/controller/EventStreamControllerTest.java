@@ -0,0 +1,59 @@
+package com.github.cosminchr.liveeventtrackerservice.controller;
+
+import com.github.cosminchr.liveeventtrackerservice.config.TestConfig;
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EventStreamController.class)
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=localhost:9092",
+        "event-tracker.external-api.base-url=http://localhost:8081/api",
+        "event-tracker.kafka.event-updates-topic=test-event-updates"
+})
+@Import(TestConfig.class)
+class EventStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ScoreStreamService scoreStreamService;
+
+    @Test
+    void streamScoreUpdates_ShouldSubscribeWithFiltersAndStartStreaming() throws Exception {
+        // Arrange
+        when(scoreStreamService.subscribe(List.of("event1", "event2"), 41L)).thenReturn(new SseEmitter(0L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/stream")
+                        .param("eventId", "event1", "event2")
+                        .header("Last-Event-ID", "41"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamScoreUpdates_WhenTooManySubscribers_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        when(scoreStreamService.subscribe(any(), eq(null))).thenReturn(null);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/stream"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
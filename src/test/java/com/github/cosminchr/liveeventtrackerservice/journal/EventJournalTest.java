@@ -0,0 +1,98 @@
+package com.github.cosminchr.liveeventtrackerservice.journal;
+
+import com.github.cosminchr.liveeventtrackerservice.config.JournalProperties;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class EventJournalTest {
+
+    @Test
+    void record_WhenBufferIsFull_ShouldDropEntriesWithoutBlocking() {
+        // Arrange
+        JournalProperties properties = new JournalProperties();
+        properties.setBufferSize(4);
+        EventJournal journal = new EventJournal(properties);
+
+        // Act
+        for (int i = 0; i < 6; i++) {
+            journal.record(JournalCategory.POLL, "event" + i, "published", Score.of(1, 0), 100);
+        }
+
+        // Assert
+        assertEquals(4, journal.getBacklog());
+        assertEquals(2, journal.getDroppedCount());
+        assertEquals(4, journal.getStatus(JournalCategory.POLL).recorded());
+    }
+
+    @Test
+    void stop_ShouldWriteEveryRecordedEntry() {
+        // Arrange
+        JournalProperties properties = new JournalProperties();
+        properties.setBufferSize(8);
+        EventJournal journal = new EventJournal(properties);
+        journal.start();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            journal.record(JournalCategory.PUBLISH, "event" + i, "acked", i, 250);
+        }
+        journal.stop();
+
+        // Assert
+        assertEquals(0, journal.getBacklog());
+        assertEquals(100, journal.getStatus(JournalCategory.PUBLISH).recorded() + journal.getDroppedCount());
+    }
+
+    @Test
+    void record_WhenCategoryIsRateLimited_ShouldSkipEntriesOverTheLimit() {
+        // Arrange
+        JournalProperties properties = new JournalProperties();
+        JournalProperties.Category retry = new JournalProperties.Category();
+        retry.setMaxPerSecond(1);
+        properties.getCategories().put(JournalCategory.RETRY, retry);
+        EventJournal journal = new EventJournal(properties);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            journal.record(JournalCategory.RETRY, "event1", "scheduled", 1, 1000);
+        }
+
+        // Assert
+        EventJournal.CategoryStatus status = journal.getStatus(JournalCategory.RETRY);
+        assertEquals(1, status.recorded());
+        assertEquals(9, status.rateLimited());
+    }
+
+    @Test
+    void configure_WhenCategoryIsDisabled_ShouldRecordOnlyOtherCategories() {
+        // Arrange
+        EventJournal journal = new EventJournal(new JournalProperties());
+
+        // Act
+        journal.configure(JournalCategory.POLL, false, null, null);
+        journal.record(JournalCategory.POLL, "event1", "published", Score.of(1, 0), 100);
+        journal.record(JournalCategory.PUBLISH, "event1", "acked", 42, 250);
+
+        // Assert
+        assertFalse(journal.getStatus(JournalCategory.POLL).enabled());
+        assertEquals(0, journal.getStatus(JournalCategory.POLL).recorded());
+        assertEquals(1, journal.getStatus(JournalCategory.PUBLISH).recorded());
+    }
+
+    @Test
+    void setEnabled_WhenDisabled_ShouldRecordNothing() {
+        // Arrange
+        EventJournal journal = new EventJournal(new JournalProperties());
+
+        // Act
+        journal.setEnabled(false);
+        journal.record(JournalCategory.POLL, "event1", "published", Score.of(1, 0), 100);
+
+        // Assert
+        assertEquals(0, journal.getStatus(JournalCategory.POLL).recorded());
+        assertEquals(0, journal.getBacklog());
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.cosminchr.liveeventtrackerservice.listener;
+
+import com.github.cosminchr.liveeventtrackerservice.config.StatusConsumerConfig;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({StatusConsumerConfig.class, EventStatusChangeListener.class})
+@EmbeddedKafka(partitions = 3, topics = EventStatusChangeListenerKafkaTest.TOPIC)
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "event-tracker.kafka.status-consumer.enabled=true",
+        "event-tracker.kafka.status-consumer.topic=" + EventStatusChangeListenerKafkaTest.TOPIC,
+        "event-tracker.kafka.status-consumer.group-id=" + EventStatusChangeListenerKafkaTest.GROUP,
+        "event-tracker.kafka.status-consumer.concurrency=2"
+})
+class EventStatusChangeListenerKafkaTest {
+
+    static final String TOPIC = "test-event-status-changes";
+    static final String GROUP = "test-event-tracker-status";
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @MockitoBean
+    private EventIngestionService eventIngestionService;
+
+    @Test
+    void onStatusChanges_ShouldApplyRecordsFromAllPartitionsAndCommitOffsets() throws Exception {
+        // Arrange
+        when(eventIngestionService.validate(any())).thenReturn(null);
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        // Act
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProps)) {
+            for (int i = 0; i < 30; i++) {
+                String eventId = "event" + i;
+                producer.send(new ProducerRecord<>(TOPIC, i % 3, eventId,
+                        "{\"eventId\":\"" + eventId + "\",\"live\":true}"));
+            }
+            producer.flush();
+        }
+
+        // Assert
+        ArgumentCaptor<EventStatusUpdateRequest> captor = ArgumentCaptor.captor();
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            verify(eventIngestionService, atLeastOnce()).apply(captor.capture());
+            Set<String> eventIds = captor.getAllValues().stream()
+                    .map(EventStatusUpdateRequest::getEventId)
+                    .collect(Collectors.toSet());
+            assertEquals(30, eventIds.size());
+        });
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            for (int partition = 0; partition < 3; partition++) {
+                OffsetAndMetadata committed = KafkaTestUtils.getCurrentOffset(
+                        embeddedKafka.getBrokersAsString(), GROUP, TOPIC, partition);
+                assertNotNull(committed);
+                assertEquals(10, committed.offset());
+            }
+        });
+    }
+}
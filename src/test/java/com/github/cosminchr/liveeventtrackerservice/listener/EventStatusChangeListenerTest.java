@@ -0,0 +1,123 @@
+package com.github.cosminchr.liveeventtrackerservice.listener;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.service.EventIngestionService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventStatusChangeListenerTest {
+
+    private static final String TOPIC = "event-status-changes";
+
+    @Mock
+    private EventIngestionService eventIngestionService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private EventStatusChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new EventStatusChangeListener(eventIngestionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void onStatusChanges_ShouldApplyEachPartitionInOffsetOrderAndAcknowledge() throws Exception {
+        // Arrange
+        EventStatusUpdateRequest event1Live = new EventStatusUpdateRequest("event1", true);
+        EventStatusUpdateRequest event2Live = new EventStatusUpdateRequest("event2", true);
+        EventStatusUpdateRequest event1NotLive = new EventStatusUpdateRequest("event1", false);
+        when(eventIngestionService.validate(any())).thenReturn(null);
+
+        // Act
+        listener.onStatusChanges(List.of(
+                record(0, 10, event1Live),
+                record(1, 20, event2Live),
+                record(0, 11, event1NotLive)), acknowledgment);
+
+        // Assert
+        InOrder partition0 = inOrder(eventIngestionService);
+        partition0.verify(eventIngestionService).apply(event1Live);
+        partition0.verify(eventIngestionService).apply(event1NotLive);
+        verify(eventIngestionService, times(1)).apply(event2Live);
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    void onStatusChanges_WhenRecordIsInvalid_ShouldSkipItAndAcknowledge() throws Exception {
+        // Arrange - a record that could not be deserialized arrives with a null value
+        when(eventIngestionService.validate(null)).thenReturn("Update is required");
+
+        // Act
+        listener.onStatusChanges(List.of(record(0, 10, null)), acknowledgment);
+
+        // Assert
+        verify(eventIngestionService, never()).apply(any());
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    void onStatusChanges_WhenPartitionFails_ShouldNotAcknowledge() {
+        // Arrange - the change is valid, but applying it fails
+        EventStatusUpdateRequest event1Live = new EventStatusUpdateRequest("event1", true);
+        EventStatusUpdateRequest event2Live = new EventStatusUpdateRequest("event2", true);
+        when(eventIngestionService.validate(any())).thenReturn(null);
+        when(eventIngestionService.apply(any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == event2Live) {
+                throw new UncheckedIOException(new IOException("Disk full"));
+            }
+            return null;
+        });
+
+        // Act & Assert
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class, () -> listener.onStatusChanges(List.of(
+                record(0, 10, event1Live),
+                record(1, 20, event2Live)), acknowledgment));
+        assertEquals("Disk full", exception.getCause().getMessage());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void onStatusChanges_WhenOwnerIsUnavailable_ShouldNotAcknowledge() {
+        // Arrange - a sharded ingestion service fails to forward the change to the owner of the event
+        EventStatusUpdateRequest event1Live = new EventStatusUpdateRequest("event1", true);
+        when(eventIngestionService.validate(event1Live)).thenReturn(null);
+        when(eventIngestionService.apply(event1Live)).thenThrow(new RestClientException("Connection refused"));
+
+        // Act & Assert
+        assertThrows(RestClientException.class,
+                () -> listener.onStatusChanges(List.of(record(0, 10, event1Live)), acknowledgment));
+        verify(eventIngestionService, never()).ingest(anyList(), anyInt());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static ConsumerRecord<String, EventStatusUpdateRequest> record(int partition, long offset,
+                                                                        EventStatusUpdateRequest request) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, request != null ? request.getEventId() : null, request);
+    }
+}
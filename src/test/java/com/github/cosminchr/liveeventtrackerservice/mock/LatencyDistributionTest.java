@@ -0,0 +1,53 @@
+package com.github.cosminchr.liveeventtrackerservice.mock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void sample_ShouldHaveConfiguredMean() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (LatencyDistribution distribution : new LatencyDistribution[]{
+                LatencyDistribution.FIXED, LatencyDistribution.UNIFORM,
+                LatencyDistribution.EXPONENTIAL, LatencyDistribution.LOGNORMAL}) {
+            // Act
+            long sum = 0;
+            for (int i = 0; i < SAMPLES; i++) {
+                long latency = distribution.sample(20, 1.0, random);
+                assertTrue(latency >= 0, distribution + " latency=" + latency);
+                sum += latency;
+            }
+
+            // Assert - within 5% of the mean
+            assertEquals(20.0, (double) sum / SAMPLES, 1.0, distribution.name());
+        }
+    }
+
+    @Test
+    void sample_WhenLognormal_ShouldHaveLongTail() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(42);
+
+        // Act
+        int aboveThreeTimesMean = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (LatencyDistribution.LOGNORMAL.sample(20, 1.0, random) > 60) {
+                aboveThreeTimesMean++;
+            }
+        }
+
+        // Assert - a few percent of the responses are far slower than the mean
+        assertTrue(aboveThreeTimesMean > SAMPLES / 100 && aboveThreeTimesMean < SAMPLES / 10,
+                "aboveThreeTimesMean=" + aboveThreeTimesMean);
+        assertEquals(0, LatencyDistribution.NONE.sample(20, 1.0, random));
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.cosminchr.liveeventtrackerservice.mock;
 
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -34,8 +35,7 @@ class MockExternalApiControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(eventId, response.getBody().getEventId());
-        assertNotNull(response.getBody().getCurrentScore());
-        assertTrue(response.getBody().getCurrentScore().matches("\\d+:\\d+"), "Score should be in format 'n:n'");
+        assertTrue(Score.isPresent(response.getBody().getCurrentScore()), "Score should be in format 'n:n'");
     }
 
     @Test
@@ -46,7 +46,7 @@ class MockExternalApiControllerTest {
 
         // Act - First call
         ResponseEntity<EventApiResponse> response1 = restTemplate.getForEntity(url, EventApiResponse.class);
-        String initialScore = response1.getBody().getCurrentScore();
+        long initialScore = response1.getBody().getCurrentScore();
 
         // Act - Multiple calls to see if score changes
         boolean scoreChanged = false;
@@ -54,7 +54,7 @@ class MockExternalApiControllerTest {
             ResponseEntity<EventApiResponse> responseN = restTemplate.getForEntity(url, EventApiResponse.class);
             assertEquals(eventId, responseN.getBody().getEventId());
 
-            if (!initialScore.equals(responseN.getBody().getCurrentScore())) {
+            if (initialScore != responseN.getBody().getCurrentScore()) {
                 scoreChanged = true;
                 break;
             }
@@ -65,6 +65,24 @@ class MockExternalApiControllerTest {
         assertEquals(HttpStatus.OK, response1.getStatusCode());
         assertNotNull(response1.getBody());
         assertEquals(eventId, response1.getBody().getEventId());
-        assertTrue(initialScore.matches("\\d+:\\d+"), "Score should be in format 'n:n'");
+        assertTrue(Score.isPresent(initialScore), "Score should be in format 'n:n'");
+    }
+
+    @Test
+    void getEventsData_ShouldReturnDataForEveryRequestedEvent() {
+        // Arrange
+        String prefix = "test-batch-" + System.currentTimeMillis();
+        String url = "http://localhost:" + port + "/api/mock/events?ids=" + prefix + "-1," + prefix + "-2";
+
+        // Act
+        ResponseEntity<EventApiResponse[]> response = restTemplate.getForEntity(url, EventApiResponse[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().length);
+        assertEquals(prefix + "-1", response.getBody()[0].getEventId());
+        assertEquals(prefix + "-2", response.getBody()[1].getEventId());
+        assertTrue(Score.isPresent(response.getBody()[1].getCurrentScore()), "Score should be in format 'n:n'");
     }
 }
@@ -0,0 +1,82 @@
+package com.github.cosminchr.liveeventtrackerservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSnapshotTest {
+
+    @Test
+    void next_WhenNothingChanged_ShouldReturnPreviousSnapshot() {
+        // Arrange
+        EventSnapshot first = EventSnapshot.next(EventSnapshot.EMPTY, List.of(event("event1", EventStatus.LIVE)));
+
+        // Act
+        EventSnapshot second = EventSnapshot.next(first, List.of(event("event1", EventStatus.LIVE)));
+
+        // Assert
+        assertEquals(1, first.getVersion());
+        assertSame(first, second);
+    }
+
+    @Test
+    void next_WhenEventChanged_ShouldOnlyBumpVersionOfThatEvent() {
+        // Arrange
+        EventSnapshot first = EventSnapshot.next(EventSnapshot.EMPTY, List.of(
+                event("event1", EventStatus.LIVE), event("event2", EventStatus.LIVE)));
+
+        // Act
+        EventSnapshot second = EventSnapshot.next(first, List.of(
+                event("event1", EventStatus.LIVE), event("event2", EventStatus.NOT_LIVE)));
+
+        // Assert
+        assertEquals(2, second.getVersion());
+        assertEquals(1, second.getEvent("event1").version());
+        assertEquals(2, second.getEvent("event2").version());
+        assertEquals(EventStatus.NOT_LIVE, second.getEvent("event2").event().getStatus());
+        assertNull(second.getEvent("event3"));
+    }
+
+    @Test
+    void next_WhenOnlyPollTimeChanged_ShouldKeepVersions() {
+        // Arrange
+        EventSnapshot first = EventSnapshot.next(EventSnapshot.EMPTY, List.of(event("event1", EventStatus.LIVE)));
+        Event polled = event("event1", EventStatus.LIVE);
+        polled.setLastPolled(LocalDateTime.now());
+
+        // Act
+        EventSnapshot second = EventSnapshot.next(first, List.of(polled));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, second.getEvent("event1").version());
+    }
+
+    @Test
+    void getPage_ShouldPageInEventIdOrderAndFilterByStatus() {
+        // Arrange
+        EventSnapshot snapshot = EventSnapshot.next(EventSnapshot.EMPTY, List.of(
+                event("event4", EventStatus.LIVE), event("event2", EventStatus.LIVE),
+                event("event3", EventStatus.NOT_LIVE), event("event1", EventStatus.LIVE)));
+
+        // Act
+        EventSnapshot.Page first = snapshot.getPage(null, null, 2);
+        EventSnapshot.Page second = snapshot.getPage(null, first.lastEventId(), 2);
+        EventSnapshot.Page live = snapshot.getPage(EventStatus.LIVE, "event1", 10);
+
+        // Assert
+        assertEquals(List.of("event1", "event2"), first.events().stream().map(Event::getEventId).toList());
+        assertEquals("event2", first.lastEventId());
+        assertEquals(List.of("event3", "event4"), second.events().stream().map(Event::getEventId).toList());
+        assertNull(second.lastEventId());
+        assertEquals(List.of("event2", "event4"), live.events().stream().map(Event::getEventId).toList());
+        assertNull(live.lastEventId());
+    }
+
+    private static Event event(String eventId, EventStatus status) {
+        return Event.builder().eventId(eventId).status(status).build();
+    }
+}
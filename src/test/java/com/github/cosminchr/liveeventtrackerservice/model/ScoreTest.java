@@ -0,0 +1,101 @@
+package com.github.cosminchr.liveeventtrackerservice.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ScoreTest {
+
+    @Test
+    void of_ShouldPackComponents() {
+        // Act
+        long score = Score.of(12, 345, 2);
+
+        // Assert
+        assertTrue(Score.isPresent(score));
+        assertEquals(12, Score.home(score));
+        assertEquals(345, Score.away(score));
+        assertEquals(2, Score.period(score));
+        assertNotEquals(Score.NONE, Score.of(0, 0));
+    }
+
+    @Test
+    void of_WhenComponentIsOutOfRange_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Score.of(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Score.of(Score.MAX_POINTS + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Score.of(0, 0, Score.MAX_PERIOD + 1));
+    }
+
+    @Test
+    void parse_ShouldRoundTripThroughFormat() {
+        // Act & Assert
+        assertEquals(Score.of(2, 1), Score.parse("2:1"));
+        assertEquals(Score.of(12, 345, 2), Score.parse("12:345:2"));
+        assertEquals("2:1", Score.format(Score.parse("2:1")));
+        assertEquals("12:345:2", Score.format(Score.parse("12:345:2")));
+        assertEquals(Score.NONE, Score.parse((CharSequence) null));
+        assertNull(Score.format(Score.NONE));
+    }
+
+    @Test
+    void parse_WhenReadingFromBuffer_ShouldParseOnlyTheGivenRange() {
+        // Arrange
+        char[] buffer = "xx3:4yy".toCharArray();
+
+        // Act & Assert
+        assertEquals(Score.of(3, 4), Score.parse(buffer, 2, 3));
+    }
+
+    @Test
+    void parse_WhenTextIsInvalid_ShouldThrowException() {
+        // Act & Assert
+        for (String text : new String[]{"", "1", "1:", ":1", "1::2", "1:2:3:4", "a:b", "16777216:0"}) {
+            assertThrows(IllegalArgumentException.class, () -> Score.parse(text), text);
+        }
+    }
+
+    @Test
+    void parse_ShouldNotAllocate() {
+        // Arrange
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        String text = "12:3";
+        long sink = 0;
+
+        // Act
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            sink += Score.parse(text);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Assert - splitting the same text would allocate several megabytes
+        assertNotEquals(0, sink);
+        assertTrue(allocated < 1024, "parsing allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void json_ShouldKeepTextualScore() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Act
+        EventApiResponse response = objectMapper.readValue(
+                "{\"eventId\":\"event123\",\"currentScore\":\"2:1\"}", EventApiResponse.class);
+        EventApiResponse noScore = objectMapper.readValue(
+                "{\"eventId\":\"event123\",\"currentScore\":null}", EventApiResponse.class);
+        String json = objectMapper.writeValueAsString(response);
+
+        // Assert
+        assertEquals(Score.of(2, 1), response.getCurrentScore());
+        assertEquals(Score.NONE, noScore.getCurrentScore());
+        assertEquals("{\"eventId\":\"event123\",\"currentScore\":\"2:1\"}", json);
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.cosminchr.liveeventtrackerservice.persistence;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_ShouldReplayAppendedMutationsInOrder() throws IOException {
+        // Arrange
+        List<EventMutation> mutations = List.of(
+                new EventMutation.StatusChanged("event123", true, 1_000L, 2_000L),
+                new EventMutation.ScoreChanged("event123", Score.of(1, 0)),
+                new EventMutation.StatusChanged("event123", false, 3_000L, 0L));
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.INTERVAL, mutation -> { })) {
+            for (EventMutation mutation : mutations) {
+                writeAheadLog.append(mutation);
+            }
+        }
+
+        // Act
+        List<EventMutation> replayed = new ArrayList<>();
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.INTERVAL, replayed::add)) {
+
+            // Assert
+            assertEquals(mutations, replayed);
+            assertEquals(3, writeAheadLog.getReplayedRecords());
+        }
+    }
+
+    @Test
+    void open_WhenLastRecordIsTorn_ShouldIgnoreItAndKeepAppending() throws IOException {
+        // Arrange
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.ALWAYS, mutation -> { })) {
+            writeAheadLog.append(new EventMutation.StatusChanged("event123", true, 1_000L, 0L));
+            writeAheadLog.append(new EventMutation.ScoreChanged("event123", Score.of(1, 0)));
+        }
+        Path segment = directory.resolve("wal-0000000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        // Act
+        List<EventMutation> replayed = new ArrayList<>();
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.ALWAYS, replayed::add)) {
+            writeAheadLog.append(new EventMutation.ScoreChanged("event123", Score.of(2, 0)));
+        }
+        List<EventMutation> reopened = new ArrayList<>();
+        WriteAheadLog.open(directory, 0, FsyncPolicy.ALWAYS, reopened::add).close();
+
+        // Assert
+        assertEquals(List.of(new EventMutation.StatusChanged("event123", true, 1_000L, 0L)), replayed);
+        assertEquals(List.of(
+                new EventMutation.StatusChanged("event123", true, 1_000L, 0L),
+                new EventMutation.ScoreChanged("event123", Score.of(2, 0))), reopened);
+    }
+
+    @Test
+    void rotate_ShouldStartNewSegmentAndAllowDeletingOlderOnes() throws IOException {
+        // Arrange
+        long firstSegment;
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.NEVER, mutation -> { })) {
+            writeAheadLog.append(new EventMutation.ScoreChanged("event123", Score.of(1, 0)));
+
+            // Act
+            firstSegment = writeAheadLog.rotate();
+            writeAheadLog.append(new EventMutation.ScoreChanged("event123", Score.of(2, 0)));
+            writeAheadLog.deleteSegmentsBefore(firstSegment);
+        }
+
+        // Assert
+        List<EventMutation> replayed = new ArrayList<>();
+        WriteAheadLog.open(directory, firstSegment, FsyncPolicy.NEVER, replayed::add).close();
+        assertEquals(1, firstSegment);
+        assertFalse(Files.exists(directory.resolve("wal-0000000000.log")));
+        assertEquals(List.of(new EventMutation.ScoreChanged("event123", Score.of(2, 0))), replayed);
+    }
+
+    @Test
+    void flush_WhenWriteFailsPartway_ShouldResumeWithoutRewritingWrittenBytes() throws IOException {
+        // Arrange
+        List<EventMutation> mutations = List.of(
+                new EventMutation.StatusChanged("event123", true, 1_000L, 0L),
+                new EventMutation.StatusChanged("event123", false, 2_000L, 0L),
+                new EventMutation.ScoreChanged("event123", Score.of(1, 0)));
+        try (WriteAheadLog writeAheadLog = WriteAheadLog.open(directory, 0, FsyncPolicy.INTERVAL, mutation -> { })) {
+            writeAheadLog.append(mutations.get(0));
+            writeAheadLog.append(mutations.get(1));
+            FileChannel channel = (FileChannel) ReflectionTestUtils.getField(writeAheadLog, "channel");
+            ReflectionTestUtils.setField(writeAheadLog, "channel", new FailingOnceChannel(channel, 10));
+
+            // Act
+            assertThrows(IOException.class, () -> writeAheadLog.flush(false));
+            writeAheadLog.flush(false);
+            writeAheadLog.append(mutations.get(2));
+        }
+
+        // Assert
+        List<EventMutation> replayed = new ArrayList<>();
+        WriteAheadLog.open(directory, 0, FsyncPolicy.INTERVAL, replayed::add).close();
+        assertEquals(mutations, replayed);
+    }
+
+    /**
+     * A channel whose first write stores only a few bytes and then fails, like a disk that fills up.
+     */
+    private static final class FailingOnceChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        private final int bytesBeforeFailure;
+        private boolean failed;
+
+        private FailingOnceChannel(FileChannel delegate, int bytesBeforeFailure) {
+            this.delegate = delegate;
+            this.bytesBeforeFailure = bytesBeforeFailure;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failed) {
+                return delegate.write(src);
+            }
+            failed = true;
+            ByteBuffer part = src.duplicate();
+            part.limit(part.position() + bytesBeforeFailure);
+            src.position(src.position() + delegate.write(part));
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
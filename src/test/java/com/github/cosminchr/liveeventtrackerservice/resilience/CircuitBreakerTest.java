@@ -0,0 +1,107 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+
+    @Test
+    void acquirePermission_WhenFailuresReachThreshold_ShouldOpenAndFailFast() {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 3, 60000);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onFailure();
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, circuitBreaker::acquirePermission);
+        assertEquals(1, circuitBreaker.getRejectedCallCount());
+    }
+
+    @Test
+    void onSuccess_WhenFailuresAreNotConsecutive_ShouldStayClosed() {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 2, 60000);
+
+        // Act
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void acquirePermission_WhenOpenDurationHasElapsed_ShouldAllowOneTrialCall() throws InterruptedException {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 1, 20);
+        circuitBreaker.onFailure();
+        Thread.sleep(40);
+
+        // Act
+        circuitBreaker.acquirePermission();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, circuitBreaker::acquirePermission);
+
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.acquirePermission();
+    }
+
+    @Test
+    void onFailure_WhenTrialCallFails_ShouldOpenAgain() throws InterruptedException {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 1, 20);
+        circuitBreaker.onFailure();
+        Thread.sleep(40);
+        circuitBreaker.acquirePermission();
+
+        // Act
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void onSuccess_WhenBreakerIsOpen_ShouldStayOpen() {
+        // Arrange - a call permitted before the breaker opened
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 1, 60000);
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        // Act
+        circuitBreaker.onSuccess();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void onIgnored_WhenTrialCallHadNoOutcome_ShouldStayHalfOpenAndAllowAnotherTrial() throws InterruptedException {
+        // Arrange
+        CircuitBreaker circuitBreaker = new CircuitBreaker("upstream", 1, 20);
+        circuitBreaker.onFailure();
+        Thread.sleep(40);
+        circuitBreaker.acquirePermission();
+
+        // Act
+        circuitBreaker.onIgnored();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.acquirePermission();
+        assertThrows(CircuitBreakerOpenException.class, circuitBreaker::acquirePermission);
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_WhenCallsOverlap_ShouldLoadOnceAndShareResult() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            Future<String> leader = executor.submit(() -> singleFlight.execute("event1", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "score";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("event1", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (singleFlight.getCoalescedCount() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            assertEquals("score", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("score", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, singleFlight.getLoadCount());
+            assertEquals(3, singleFlight.getCoalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_WhenLoadFails_ShouldPropagateAndNotCache() {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(60000);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("event1", () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        String result = singleFlight.execute("event1", () -> "score");
+
+        // Assert
+        assertEquals("score", result);
+        assertEquals(2, singleFlight.getLoadCount());
+        assertEquals(0, singleFlight.getCacheHitCount());
+    }
+
+    @Test
+    void execute_WhenCacheTtlIsSet_ShouldReuseResultUntilExpired() throws InterruptedException {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(50);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("event1", () -> "score" + loads.incrementAndGet());
+        String cached = singleFlight.execute("event1", () -> "score" + loads.incrementAndGet());
+        Thread.sleep(100);
+        String reloaded = singleFlight.execute("event1", () -> "score" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("score1", cached);
+        assertEquals("score2", reloaded);
+        assertEquals(1, singleFlight.getCacheHitCount());
+    }
+
+    @Test
+    void executeAsync_WhenCallsOverlap_ShouldShareOneLoad() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(0);
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> first = singleFlight.executeAsync("event1", () -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("event1", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        second.cancel(true);
+        CompletableFuture<String> third = singleFlight.executeAsync("event1", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        upstream.completeExceptionally(new IllegalStateException("upstream down"));
+
+        // Assert
+        assertEquals(1, loads.get());
+        ExecutionException firstError = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(IllegalStateException.class, firstError.getCause());
+        ExecutionException thirdError = assertThrows(ExecutionException.class, third::get);
+        assertInstanceOf(IllegalStateException.class, thirdError.getCause());
+        assertFalse(first.isCancelled());
+    }
+
+    @Test
+    void executeAll_ShouldOnlyLoadKeysNotInFlightAndFailTheKeysItLoads() {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(0);
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        singleFlight.executeAsync("event1", () -> upstream);
+        List<List<String>> loaded = new ArrayList<>();
+
+        // Act
+        Map<String, String> values = singleFlight.executeAll(List.of("event1", "event2", "event2"), keys -> {
+            loaded.add(keys);
+            upstream.complete("score1");
+            return Map.of("event2", "score2");
+        });
+        assertThrows(IllegalStateException.class, () -> singleFlight.executeAll(List.of("event3"), keys -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        String retried = singleFlight.execute("event3", () -> "score3");
+
+        // Assert
+        assertEquals(List.of(List.of("event2")), loaded);
+        assertEquals(Map.of("event1", "score1", "event2", "score2"), values);
+        assertEquals("score3", retried);
+        assertEquals(1, singleFlight.getCoalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.cosminchr.liveeventtrackerservice.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    @Test
+    void tryAcquire_WhenBurstIsExhausted_ShouldDeny() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(1, 3);
+
+        // Act
+        boolean first = tokenBucket.tryAcquire();
+        boolean second = tokenBucket.tryAcquire();
+        boolean third = tokenBucket.tryAcquire();
+        boolean fourth = tokenBucket.tryAcquire();
+
+        // Assert
+        assertTrue(first && second && third);
+        assertFalse(fourth);
+        assertEquals(3, tokenBucket.getPermittedCount());
+        assertEquals(1, tokenBucket.getDeniedCount());
+    }
+
+    @Test
+    void tryAcquire_WhenEmissionIntervalHasPassed_ShouldPermitAgain() throws InterruptedException {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(50, 1);
+        assertTrue(tokenBucket.tryAcquire());
+        assertFalse(tokenBucket.tryAcquire());
+
+        // Act
+        Thread.sleep(40);
+
+        // Assert
+        assertTrue(tokenBucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_WhenRateIsZero_ShouldNeverDeny() {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(0, 1);
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(tokenBucket.tryAcquire());
+        }
+        assertFalse(tokenBucket.isLimited());
+    }
+
+    @Test
+    void tryAcquire_WhenCalledConcurrently_ShouldNotExceedBurst() throws InterruptedException {
+        // Arrange
+        TokenBucket tokenBucket = new TokenBucket(0.001, 100);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (tokenBucket.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(100, acquired.get());
+        assertEquals(7900, tokenBucket.getDeniedCount());
+    }
+}
@@ -1,22 +1,39 @@
 package com.github.cosminchr.liveeventtrackerservice.scheduler;
 
+import com.github.cosminchr.liveeventtrackerservice.config.SchedulerProperties;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.journal.JournalCategory;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
-import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreakerOpenException;
 import com.github.cosminchr.liveeventtrackerservice.service.EventService;
 import com.github.cosminchr.liveeventtrackerservice.service.ExternalApiService;
 import com.github.cosminchr.liveeventtrackerservice.service.MessagePublisherService;
+import com.github.cosminchr.liveeventtrackerservice.service.ScoreStreamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -32,23 +49,18 @@ class EventPollingSchedulerTest {
     @Mock
     private MessagePublisherService messagePublisherService;
     
-    @InjectMocks
-    private EventPollingScheduler eventPollingScheduler;
+    @Mock
+    private ScoreStreamService scoreStreamService;
+    
+    @Mock
+    private EventJournal eventJournal;
     
-    private Event liveEvent;
-    private Event notLiveEvent;
+    private EventPollingScheduler eventPollingScheduler;
     
     @BeforeEach
     void setUp() {
-        liveEvent = new Event();
-        liveEvent.setEventId("live123");
-        liveEvent.setStatus(EventStatus.LIVE);
-        liveEvent.setLastUpdated(LocalDateTime.now());
-        
-        notLiveEvent = new Event();
-        notLiveEvent.setEventId("notlive456");
-        notLiveEvent.setStatus(EventStatus.NOT_LIVE);
-        notLiveEvent.setLastUpdated(LocalDateTime.now());
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, new SchedulerProperties(), eventJournal);
     }
     
     @Test
@@ -56,8 +68,8 @@ class EventPollingSchedulerTest {
         // Arrange
         eventPollingScheduler.scheduleEventPolling("live123");
         
-        when(eventService.getEvent("live123")).thenReturn(liveEvent);
-        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", "1:0"));
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
         
         // Act
         eventPollingScheduler.pollLiveEvents();
@@ -65,14 +77,87 @@ class EventPollingSchedulerTest {
         // Assert
         verify(externalApiService, times(1)).fetchEventData("live123");
         verify(messagePublisherService, times(1)).publishEventUpdate(any(EventUpdateMessage.class));
+        verify(scoreStreamService, times(1)).publish(any(EventUpdateMessage.class));
     }
     
+    @Test
+    void pollLiveEvents_ShouldJournalPollOutcomeInsteadOfLogging() {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setPublishOnlyChanges(true);
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        eventPollingScheduler.scheduleEventPolling("live123");
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        verify(eventJournal).record(eq(JournalCategory.POLL), eq("live123"), eq("published"), eq(Score.of(1, 0)), anyLong());
+        verify(eventJournal).record(eq(JournalCategory.POLL), eq("live123"), eq("suppressed"), eq(Score.of(1, 0)), anyLong());
+    }
+
+    @Test
+    void pollLiveEvents_WhenEventIsUnscheduledDuringPoll_ShouldPublishFirstPollOnceScheduledAgain() {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setPublishOnlyChanges(true);
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        eventPollingScheduler.scheduleEventPolling("live123");
+
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123"))
+                .thenAnswer(invocation -> {
+                    // The event ends while its poll is in flight
+                    eventPollingScheduler.unscheduleEventPolling("live123");
+                    return new EventApiResponse("live123", Score.of(1, 0));
+                })
+                .thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.scheduleEventPolling("live123");
+        eventPollingScheduler.pollLiveEvents();
+
+        // Assert
+        verify(messagePublisherService, times(2)).publishEventUpdate(argThat(message -> message.getCurrentScore() == Score.of(1, 0)));
+        assertEquals(0, eventPollingScheduler.getSuppressedUpdates());
+    }
+
+    @Test
+    void pollLiveEvents_WhenFirstPollIsAnswered_ShouldRecordTimeSinceJvmStartOnce() {
+        // Arrange
+        eventPollingScheduler.scheduleEventPolling("live123");
+
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123"))
+                .thenReturn(null)
+                .thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        double beforeAnswer = eventPollingScheduler.getFirstPollUptimeMs();
+        eventPollingScheduler.pollLiveEvents();
+        double firstPoll = eventPollingScheduler.getFirstPollUptimeMs();
+        eventPollingScheduler.pollLiveEvents();
+
+        // Assert
+        assertTrue(Double.isNaN(beforeAnswer));
+        assertTrue(firstPoll > 0);
+        assertEquals(firstPoll, eventPollingScheduler.getFirstPollUptimeMs());
+    }
+
     @Test
     void pollLiveEvents_WhenEventIsNotLive_ShouldRemoveFromPolling() {
         // Arrange
         eventPollingScheduler.scheduleEventPolling("notlive456");
         
-        when(eventService.getEvent("notlive456")).thenReturn(notLiveEvent);
+        when(eventService.isLive("notlive456")).thenReturn(false);
         
         // Act
         eventPollingScheduler.pollLiveEvents();
@@ -84,7 +169,7 @@ class EventPollingSchedulerTest {
         // Verify it's removed from polling by calling pollLiveEvents again
         reset(eventService);
         eventPollingScheduler.pollLiveEvents();
-        verify(eventService, never()).getEvent("notlive456");
+        verify(eventService, never()).isLive("notlive456");
     }
     
     @Test
@@ -92,7 +177,7 @@ class EventPollingSchedulerTest {
         // Arrange
         eventPollingScheduler.scheduleEventPolling("live123");
         
-        when(eventService.getEvent("live123")).thenReturn(liveEvent);
+        when(eventService.isLive("live123")).thenReturn(true);
         when(externalApiService.fetchEventData("live123")).thenReturn(null);
         
         // Act
@@ -108,7 +193,7 @@ class EventPollingSchedulerTest {
         // Arrange
         eventPollingScheduler.scheduleEventPolling("live123");
         
-        when(eventService.getEvent("live123")).thenReturn(liveEvent);
+        when(eventService.isLive("live123")).thenReturn(true);
         when(externalApiService.fetchEventData("live123")).thenThrow(new RuntimeException("API error"));
         
         // Act
@@ -120,17 +205,17 @@ class EventPollingSchedulerTest {
         
         // Verify it's still in the polling list
         reset(eventService, externalApiService);
-        when(eventService.getEvent("live123")).thenReturn(liveEvent);
+        when(eventService.isLive("live123")).thenReturn(true);
         
         eventPollingScheduler.pollLiveEvents();
-        verify(eventService, times(1)).getEvent("live123");
+        verify(eventService, times(1)).isLive("live123");
     }
     
     @Test
     void scheduleEventPolling_ShouldAddEventToPollingList() {
         // Arrange
-        when(eventService.getEvent("live123")).thenReturn(liveEvent);
-        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", "1:0"));
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
         
         // Act
         eventPollingScheduler.scheduleEventPolling("live123");
@@ -150,7 +235,453 @@ class EventPollingSchedulerTest {
         eventPollingScheduler.pollLiveEvents();
         
         // Assert
-        verify(eventService, never()).getEvent("live123");
+        verify(eventService, never()).isLive("live123");
         verify(externalApiService, never()).fetchEventData("live123");
     }
+    
+    @Test
+    void pollLiveEvents_ShouldNotExceedMaxConcurrentEvents() throws InterruptedException {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setMaxConcurrentEvents(2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, executor, properties, eventJournal);
+        
+        AtomicInteger concurrentFetches = new AtomicInteger();
+        AtomicInteger maxConcurrentFetches = new AtomicInteger();
+        CountDownLatch fetchesStarted = new CountDownLatch(6);
+        
+        for (int i = 0; i < 6; i++) {
+            String eventId = "live" + i;
+            when(eventService.isLive(eventId)).thenReturn(true);
+            eventPollingScheduler.scheduleEventPolling(eventId);
+        }
+        when(externalApiService.fetchEventData(any())).thenAnswer(invocation -> {
+            int current = concurrentFetches.incrementAndGet();
+            maxConcurrentFetches.accumulateAndGet(current, Math::max);
+            fetchesStarted.countDown();
+            Thread.sleep(20);
+            concurrentFetches.decrementAndGet();
+            return new EventApiResponse(invocation.getArgument(0), Score.of(0, 0));
+        });
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertTrue(fetchesStarted.await(1, TimeUnit.SECONDS));
+        assertTrue(maxConcurrentFetches.get() <= 2, "At most 2 fetches should run concurrently");
+        assertEquals(0, eventPollingScheduler.getInFlightPolls());
+        verify(messagePublisherService, times(6)).publishEventUpdate(any(EventUpdateMessage.class));
+        
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void pollDueEvents_WhenEventBecomesDue_ShouldPollIt() throws InterruptedException {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setTickMs(5);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        
+        // Act
+        eventPollingScheduler.scheduleEventPolling("live123", 50L);
+        long deadline = System.currentTimeMillis() + 1000;
+        while (mockingDetails(externalApiService).getInvocations().isEmpty() && System.currentTimeMillis() < deadline) {
+            eventPollingScheduler.pollDueEvents();
+            Thread.sleep(5);
+        }
+        
+        // Assert
+        verify(externalApiService, times(1)).fetchEventData("live123");
+        verify(messagePublisherService, times(1)).publishEventUpdate(any(EventUpdateMessage.class));
+    }
+    
+    @Test
+    void pollDueEvents_WhenNothingIsDue_ShouldNotPoll() {
+        // Arrange
+        eventPollingScheduler.scheduleEventPolling("live123", 60000L);
+        
+        // Act
+        eventPollingScheduler.pollDueEvents();
+        
+        // Assert
+        verify(eventService, never()).isLive(any());
+        verify(externalApiService, never()).fetchEventData(any());
+    }
+    
+    @Test
+    void phaseOffset_ShouldBeDeterministicAndSpreadAcrossInterval() {
+        // Arrange
+        long intervalMs = 10000;
+        int[] buckets = new int[10];
+        
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            long offset = EventPollingScheduler.phaseOffset("event" + i, intervalMs);
+            assertTrue(offset >= 0 && offset < intervalMs, "Offset should be within the interval");
+            buckets[(int) (offset / 1000)]++;
+        }
+        
+        // Assert
+        assertEquals(EventPollingScheduler.phaseOffset("event42", intervalMs),
+                EventPollingScheduler.phaseOffset("event42", intervalMs));
+        for (int count : buckets) {
+            assertTrue(count > 50 && count < 150, "First polls should be spread evenly, got " + count);
+        }
+    }
+    
+    @Test
+    void pollLiveEvents_WhenBatchSizeIsConfigured_ShouldFetchEventsInBatches() {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setBatchSize(2);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        for (int i = 0; i < 3; i++) {
+            String eventId = "live" + i;
+            when(eventService.isLive(eventId)).thenReturn(true);
+            eventPollingScheduler.scheduleEventPolling(eventId);
+        }
+        when(externalApiService.fetchEventData(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> eventIds = invocation.getArgument(0);
+            return eventIds.stream()
+                    .map(eventId -> new EventApiResponse(eventId, Score.of(1, 1)))
+                    .toList();
+        });
+        when(externalApiService.fetchEventData(any(String.class)))
+                .thenAnswer(invocation -> new EventApiResponse(invocation.getArgument(0), Score.of(1, 1)));
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        verify(externalApiService, times(1)).fetchEventData(argThat((Collection<String> ids) -> ids.size() == 2));
+        verify(externalApiService, times(1)).fetchEventData(any(String.class));
+        verify(messagePublisherService, times(1)).publishEventUpdates(argThat(messages -> messages.size() == 2));
+        verify(messagePublisherService, times(1)).publishEventUpdate(any(EventUpdateMessage.class));
+    }
+    
+    @Test
+    void pollLiveEvents_WhenBatchFetchFails_ShouldNotPublishAndKeepPolling() {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setBatchSize(10);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(eventService.isLive("live456")).thenReturn(true);
+        when(externalApiService.fetchEventData(anyCollection())).thenThrow(new RuntimeException("API error"));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        eventPollingScheduler.scheduleEventPolling("live456");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        verify(messagePublisherService, never()).publishEventUpdate(any());
+        verify(messagePublisherService, never()).publishEventUpdates(any());
+        assertEquals(2, eventPollingScheduler.getActivePollingEventCount());
+        assertEquals(0, eventPollingScheduler.getInFlightPolls());
+    }
+    
+    @Test
+    void pollLiveEvents_WhenPublishingOnlyChanges_ShouldSuppressUnchangedScores() {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setPublishOnlyChanges(true);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(
+                new EventApiResponse("live123", Score.of(1, 0)),
+                new EventApiResponse("live123", Score.of(1, 0)),
+                new EventApiResponse("live123", Score.of(2, 0)));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        verify(messagePublisherService, times(2)).publishEventUpdate(any(EventUpdateMessage.class));
+        assertEquals(2, eventPollingScheduler.getPublishedUpdates());
+        assertEquals(1, eventPollingScheduler.getSuppressedUpdates());
+        verify(eventService, times(1)).recordScore("live123", Score.of(2, 0));
+    }
+    
+    @Test
+    void bindTo_ShouldRecordSweepFetchAndOutcomeMeters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        eventPollingScheduler.bindTo(registry);
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(eventService.isLive("event1")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        when(externalApiService.fetchEventData("event1")).thenThrow(new RuntimeException("API error"));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        eventPollingScheduler.scheduleEventPolling("event1");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertEquals(1, registry.get("event.tracker.poll.sweep").tag("type", "full").timer().count());
+        assertEquals(1, registry.get("event.tracker.poll.fetch")
+                .tags("mode", "single", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("event.tracker.poll.fetch")
+                .tags("mode", "single", "outcome", "failure").timer().count());
+        assertEquals(1, registry.get("event.tracker.poll.failed").functionCounter().count());
+        assertEquals(1, registry.get("event.tracker.poll.updates").tag("result", "published").functionCounter().count());
+        assertEquals(2, registry.get("event.tracker.poll.active").gauge().value());
+        assertEquals(0, registry.get("event.tracker.poll.inflight").gauge().value());
+    }
+    
+    @Test
+    void restoreActivePolling_ShouldScheduleLiveEventsFromStore() {
+        // Arrange
+        when(eventService.getLiveEventIds()).thenReturn(List.of("live123", "live456"));
+        when(eventService.getEvent("live123")).thenReturn(Event.builder().eventId("live123").build());
+        when(eventService.getEvent("live456")).thenReturn(
+                Event.builder().eventId("live456").pollingIntervalMs(2000L).build());
+        
+        // Act
+        eventPollingScheduler.restoreActivePolling();
+        
+        // Assert
+        assertEquals(2, eventPollingScheduler.getActivePollingEventCount());
+    }
+    
+    @Test
+    void pollLiveEvents_WhenAdaptivePollingAndScoreUnchanged_ShouldBackOffUpToMaxInterval() {
+        // Arrange
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, adaptiveProperties(), eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        long afterOneUnchangedPoll = eventPollingScheduler.getPollingIntervalMs("live123");
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertEquals(20000L, afterOneUnchangedPoll);
+        assertEquals(Long.valueOf(60000L), eventPollingScheduler.getPollingIntervalMs("live123"));
+    }
+    
+    @Test
+    void pollLiveEvents_WhenAdaptivePollingAndScoreChanges_ShouldTightenToMinInterval() {
+        // Arrange
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, adaptiveProperties(), eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(
+                new EventApiResponse("live123", Score.of(0, 0)),
+                new EventApiResponse("live123", Score.of(0, 0)),
+                new EventApiResponse("live123", Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertEquals(Long.valueOf(2000L), eventPollingScheduler.getPollingIntervalMs("live123"));
+    }
+    
+    @Test
+    void pollLiveEvents_WhenAdaptivePollingAndIntervalIsExplicit_ShouldKeepInterval() {
+        // Arrange
+        eventPollingScheduler = new EventPollingScheduler(eventService, externalApiService,
+                messagePublisherService, scoreStreamService, Runnable::run, adaptiveProperties(), eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("live123", 5000L);
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertEquals(Long.valueOf(5000L), eventPollingScheduler.getPollingIntervalMs("live123"));
+    }
+    
+    @Test
+    void pollDueEvents_WhenPollFails_ShouldRetryWithoutWaitingForNextRegularPoll() throws InterruptedException {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setTickMs(5);
+        properties.setRetryDelayMs(20);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123"))
+                .thenThrow(new RestClientException("API error"))
+                .thenReturn(new EventApiResponse("live123", Score.of(1, 0)));
+        
+        // Act
+        eventPollingScheduler.scheduleEventPolling("live123", 60000L);
+        eventPollingScheduler.pollLiveEvents();
+        int pendingAfterFailure = eventPollingScheduler.getPendingRetries();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (mockingDetails(externalApiService).getInvocations().size() < 2 && System.currentTimeMillis() < deadline) {
+            eventPollingScheduler.pollDueEvents();
+            Thread.sleep(5);
+        }
+        
+        // Assert
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(0, eventPollingScheduler.getPendingRetries());
+        verify(externalApiService, times(2)).fetchEventData("live123");
+        verify(messagePublisherService, times(1)).publishEventUpdate(any(EventUpdateMessage.class));
+    }
+    
+    @Test
+    void pollLiveEvents_WhenCircuitBreakerIsOpen_ShouldNotScheduleRetry() {
+        // Arrange
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenThrow(new CircuitBreakerOpenException("upstream"));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Assert
+        assertEquals(0, eventPollingScheduler.getPendingRetries());
+    }
+    
+    @Test
+    void unscheduleEventPolling_WhenRetryIsPending_ShouldDropIt() {
+        // Arrange
+        when(eventService.isLive("live123")).thenReturn(true);
+        when(externalApiService.fetchEventData("live123")).thenThrow(new RestClientException("API error"));
+        eventPollingScheduler.scheduleEventPolling("live123");
+        eventPollingScheduler.pollLiveEvents();
+        
+        // Act
+        eventPollingScheduler.unscheduleEventPolling("live123");
+        
+        // Assert
+        assertEquals(0, eventPollingScheduler.getPendingRetries());
+    }
+    
+    @Test
+    void pollDueEvents_WhenRateLimitIsReached_ShouldHoldBackPollsUntilPermitted() throws InterruptedException {
+        // Arrange
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setMaxRequestsPerSecond(20);
+        properties.setRequestBurst(1);
+        eventPollingScheduler = new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+        
+        when(eventService.isLive(any())).thenReturn(true);
+        when(externalApiService.fetchEventData(any(String.class)))
+                .thenAnswer(invocation -> new EventApiResponse(invocation.getArgument(0), Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("event1", 60000L);
+        eventPollingScheduler.scheduleEventPolling("event2", 60000L);
+        eventPollingScheduler.scheduleEventPolling("event3", 60000L);
+        
+        // Act
+        eventPollingScheduler.pollLiveEvents();
+        long throttledAfterSweep = eventPollingScheduler.getThrottledPolls();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (mockingDetails(externalApiService).getInvocations().size() < 3 && System.currentTimeMillis() < deadline) {
+            eventPollingScheduler.pollDueEvents();
+            Thread.sleep(5);
+        }
+        
+        // Assert
+        assertEquals(2, throttledAfterSweep);
+        assertEquals(2, eventPollingScheduler.getThrottledPolls());
+        verify(externalApiService, times(1)).fetchEventData("event1");
+        verify(externalApiService, times(1)).fetchEventData("event2");
+        verify(externalApiService, times(1)).fetchEventData("event3");
+    }
+
+    @Test
+    void pollLiveEvents_WhenPollIsAlreadyHeldBack_ShouldNotQueueItTwice() throws InterruptedException {
+        // Arrange
+        eventPollingScheduler = rateLimitedScheduler();
+        when(eventService.isLive(any())).thenReturn(true);
+        when(externalApiService.fetchEventData(any(String.class)))
+                .thenAnswer(invocation -> new EventApiResponse(invocation.getArgument(0), Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("event1", 60000L);
+        eventPollingScheduler.scheduleEventPolling("event2", 60000L);
+        eventPollingScheduler.scheduleEventPolling("event3", 60000L);
+
+        // Act - the second sweep finds event2 and event3 still held back
+        eventPollingScheduler.pollLiveEvents();
+        eventPollingScheduler.pollLiveEvents();
+        tickFor(400);
+
+        // Assert
+        verify(externalApiService, times(2)).fetchEventData("event1");
+        verify(externalApiService, times(1)).fetchEventData("event2");
+        verify(externalApiService, times(1)).fetchEventData("event3");
+    }
+
+    @Test
+    void pollDueEvents_WhenHeldBackEventIsNoLongerLive_ShouldDropIt() throws InterruptedException {
+        // Arrange
+        eventPollingScheduler = rateLimitedScheduler();
+        when(eventService.isLive(any())).thenReturn(true);
+        when(externalApiService.fetchEventData(any(String.class)))
+                .thenAnswer(invocation -> new EventApiResponse(invocation.getArgument(0), Score.of(1, 0)));
+        eventPollingScheduler.scheduleEventPolling("event1", 60000L);
+        eventPollingScheduler.scheduleEventPolling("event2", 60000L);
+        eventPollingScheduler.pollLiveEvents();
+        when(eventService.isLive("event2")).thenReturn(false);
+
+        // Act
+        tickFor(200);
+
+        // Assert
+        verify(externalApiService, never()).fetchEventData("event2");
+        assertEquals(1, eventPollingScheduler.getActivePollingEventCount());
+    }
+
+    private EventPollingScheduler rateLimitedScheduler() {
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setMaxRequestsPerSecond(20);
+        properties.setRequestBurst(1);
+        return new EventPollingScheduler(
+                eventService, externalApiService, messagePublisherService, scoreStreamService, Runnable::run, properties, eventJournal);
+    }
+
+    private void tickFor(long millis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            eventPollingScheduler.pollDueEvents();
+            Thread.sleep(5);
+        }
+    }
+    
+    private static SchedulerProperties adaptiveProperties() {
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setAdaptivePolling(true);
+        properties.setMinPollingIntervalMs(2000);
+        properties.setMaxPollingIntervalMs(60000);
+        properties.setBackoffMultiplier(2.0);
+        return properties;
+    }
 }
@@ -0,0 +1,73 @@
+package com.github.cosminchr.liveeventtrackerservice.scheduler;
+
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreChangeDetectorTest {
+
+    @Test
+    void shouldPublish_WhenChangeOnlyPublishingIsDisabled_ShouldAlwaysPublish() {
+        // Arrange
+        ScoreChangeDetector detector = new ScoreChangeDetector(false, 0);
+
+        // Act & Assert
+        assertTrue(detector.shouldPublish("event1", Score.of(1, 0)));
+        assertTrue(detector.shouldPublish("event1", Score.of(1, 0)));
+        assertEquals(2, detector.getPublishedCount());
+        assertEquals(0, detector.getSuppressedCount());
+    }
+
+    @Test
+    void shouldPublish_WhenScoreIsUnchanged_ShouldSuppress() {
+        // Arrange
+        ScoreChangeDetector detector = new ScoreChangeDetector(true, 0);
+
+        // Act & Assert
+        assertTrue(detector.shouldPublish("event1", Score.of(1, 0)));
+        assertFalse(detector.shouldPublish("event1", Score.of(1, 0)));
+        assertFalse(detector.shouldPublish("event1", Score.of(1, 0)));
+        assertTrue(detector.shouldPublish("event1", Score.of(2, 0)));
+        assertEquals(2, detector.getPublishedCount());
+        assertEquals(2, detector.getSuppressedCount());
+    }
+
+    @Test
+    void shouldPublish_WhenHeartbeatIsConfigured_ShouldPublishEveryNUnchangedPolls() {
+        // Arrange
+        ScoreChangeDetector detector = new ScoreChangeDetector(true, 3);
+        detector.shouldPublish("event1", Score.of(0, 0));
+
+        // Act & Assert
+        assertFalse(detector.shouldPublish("event1", Score.of(0, 0)));
+        assertFalse(detector.shouldPublish("event1", Score.of(0, 0)));
+        assertTrue(detector.shouldPublish("event1", Score.of(0, 0)));
+        assertFalse(detector.shouldPublish("event1", Score.of(0, 0)));
+        assertEquals(1, detector.getHeartbeatCount());
+    }
+
+    @Test
+    void shouldPublish_ShouldTrackEventsIndependently() {
+        // Arrange
+        ScoreChangeDetector detector = new ScoreChangeDetector(true, 0);
+        detector.shouldPublish("event1", Score.of(1, 0));
+
+        // Act & Assert
+        assertTrue(detector.shouldPublish("event2", Score.of(1, 0)));
+        assertFalse(detector.shouldPublish("event1", Score.of(1, 0)));
+    }
+
+    @Test
+    void forget_ShouldPublishNextPollAgain() {
+        // Arrange
+        ScoreChangeDetector detector = new ScoreChangeDetector(true, 0);
+        detector.shouldPublish("event1", Score.of(1, 0));
+
+        // Act
+        detector.forget("event1");
+
+        // Assert
+        assertTrue(detector.shouldPublish("event1", Score.of(1, 0)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.cosminchr.liveeventtrackerservice.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private TimingWheel<String> timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        // 8 buckets of 10 ms, so one revolution is 80 ms
+        timingWheel = new TimingWheel<>(8, 10, 0);
+    }
+
+    @Test
+    void advance_WhenKeyIsDue_ShouldReturnKey() {
+        // Arrange
+        timingWheel.schedule("event1", 30, 0);
+
+        // Act
+        List<String> beforeDue = timingWheel.advance(29);
+        List<String> due = timingWheel.advance(30);
+
+        // Assert
+        assertTrue(beforeDue.isEmpty());
+        assertEquals(List.of("event1"), due);
+        assertFalse(timingWheel.contains("event1"));
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void advance_WhenDelaySpansSeveralRevolutions_ShouldWaitForTheRightRevolution() {
+        // Arrange
+        timingWheel.schedule("event1", 250, 0);
+
+        // Act & Assert
+        assertTrue(timingWheel.advance(80).isEmpty());
+        assertTrue(timingWheel.advance(160).isEmpty());
+        assertTrue(timingWheel.advance(249).isEmpty());
+        assertEquals(List.of("event1"), timingWheel.advance(250));
+    }
+
+    @Test
+    void advance_WhenTimeJumpsPastSeveralRevolutions_ShouldReturnAllDueKeys() {
+        // Arrange
+        timingWheel.schedule("event1", 20, 0);
+        timingWheel.schedule("event2", 150, 0);
+        timingWheel.schedule("event3", 1000, 0);
+
+        // Act
+        List<String> due = timingWheel.advance(500);
+
+        // Assert
+        assertEquals(2, due.size());
+        assertTrue(due.containsAll(List.of("event1", "event2")));
+        assertTrue(timingWheel.contains("event3"));
+    }
+
+    @Test
+    void schedule_WhenKeyIsAlreadyScheduled_ShouldReplaceDueTime() {
+        // Arrange
+        timingWheel.schedule("event1", 20, 0);
+
+        // Act
+        timingWheel.schedule("event1", 60, 0);
+
+        // Assert
+        assertTrue(timingWheel.advance(50).isEmpty());
+        assertEquals(List.of("event1"), timingWheel.advance(60));
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void cancel_WhenKeyIsScheduled_ShouldRemoveIt() {
+        // Arrange
+        timingWheel.schedule("event1", 20, 0);
+        timingWheel.schedule("event2", 20, 0);
+
+        // Act
+        boolean cancelled = timingWheel.cancel("event1");
+
+        // Assert
+        assertTrue(cancelled);
+        assertFalse(timingWheel.cancel("event1"));
+        assertEquals(List.of("event2"), timingWheel.advance(20));
+    }
+
+    @Test
+    void schedule_WhenDelayIsZero_ShouldBeDueOnNextTick() {
+        // Arrange
+        timingWheel.advance(100);
+
+        // Act
+        timingWheel.schedule("event1", 0, 100);
+
+        // Assert
+        assertTrue(timingWheel.advance(100).isEmpty());
+        assertEquals(List.of("event1"), timingWheel.advance(110));
+    }
+}
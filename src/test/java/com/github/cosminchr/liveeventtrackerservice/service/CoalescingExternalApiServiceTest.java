@@ -0,0 +1,113 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.config.CoalescingProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.CoalescingExternalApiService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingExternalApiServiceTest {
+
+    @Mock
+    private ExternalApiService delegate;
+
+    @Test
+    void fetchEventData_WhenCacheTtlIsSet_ShouldFetchOnce() {
+        // Arrange
+        CoalescingProperties properties = new CoalescingProperties();
+        properties.setCacheTtlMs(60000);
+        CoalescingExternalApiService service = new CoalescingExternalApiService(delegate, properties);
+        EventApiResponse response = new EventApiResponse("event1", Score.of(1, 0));
+        when(delegate.fetchEventData("event1")).thenReturn(response);
+
+        // Act
+        EventApiResponse first = service.fetchEventData("event1");
+        EventApiResponse second = service.fetchEventDataAsync("event1").join();
+
+        // Assert
+        assertSame(response, first);
+        assertSame(response, second);
+        verify(delegate, times(1)).fetchEventData("event1");
+        verify(delegate, never()).fetchEventDataAsync("event1");
+        assertEquals(1, service.getUpstreamRequestCount());
+        assertEquals(1, service.getCacheHitCount());
+    }
+
+    @Test
+    void fetchEventDataAsync_WhenRequestIsInFlight_ShouldShareIt() {
+        // Arrange
+        CoalescingExternalApiService service = new CoalescingExternalApiService(delegate, new CoalescingProperties());
+        CompletableFuture<EventApiResponse> upstream = new CompletableFuture<>();
+        when(delegate.fetchEventDataAsync("event1")).thenReturn(upstream);
+
+        // Act
+        CompletableFuture<EventApiResponse> first = service.fetchEventDataAsync("event1");
+        CompletableFuture<EventApiResponse> second = service.fetchEventDataAsync("event1");
+        upstream.complete(new EventApiResponse("event1", Score.of(0, 1)));
+
+        // Assert
+        assertEquals(Score.of(0, 1), first.join().getCurrentScore());
+        assertEquals(Score.of(0, 1), second.join().getCurrentScore());
+        verify(delegate, times(1)).fetchEventDataAsync("event1");
+        assertEquals(1, service.getCoalescedCount());
+    }
+
+    @Test
+    void fetchEventData_WhenBatchContainsCachedEvents_ShouldOnlyFetchTheOthers() {
+        // Arrange
+        CoalescingProperties properties = new CoalescingProperties();
+        properties.setCacheTtlMs(60000);
+        CoalescingExternalApiService service = new CoalescingExternalApiService(delegate, properties);
+        EventApiResponse cached = new EventApiResponse("event1", Score.of(1, 0));
+        EventApiResponse fetched = new EventApiResponse("event2", Score.of(2, 0));
+        when(delegate.fetchEventData("event1")).thenReturn(cached);
+        when(delegate.fetchEventData(List.of("event2", "event3"))).thenReturn(List.of(fetched));
+        service.fetchEventData("event1");
+
+        // Act
+        List<EventApiResponse> result = service.fetchEventData(List.of("event1", "event2", "event3"));
+
+        // Assert
+        assertEquals(List.of(cached, fetched), result);
+        verify(delegate, times(1)).fetchEventData(List.of("event2", "event3"));
+        assertEquals(3, service.getUpstreamRequestCount());
+        assertEquals(1, service.getCacheHitCount());
+    }
+
+    @Test
+    void fetchEventData_WhenBatchOverlapsRequestInFlight_ShouldShareIt() {
+        // Arrange
+        CoalescingExternalApiService service = new CoalescingExternalApiService(delegate, new CoalescingProperties());
+        CompletableFuture<EventApiResponse> upstream = new CompletableFuture<>();
+        when(delegate.fetchEventDataAsync("event1")).thenReturn(upstream);
+        when(delegate.fetchEventData(List.of("event2"))).thenAnswer(invocation -> {
+            // The single fetch of event1 completes while the batch is fetching event2
+            upstream.complete(new EventApiResponse("event1", Score.of(0, 1)));
+            return List.of(new EventApiResponse("event2", Score.of(0, 2)));
+        });
+        CompletableFuture<EventApiResponse> single = service.fetchEventDataAsync("event1");
+
+        // Act
+        List<EventApiResponse> result = service.fetchEventData(List.of("event1", "event2"));
+
+        // Assert
+        assertEquals(Score.of(0, 1), single.join().getCurrentScore());
+        assertEquals(List.of("event2", "event1"), result.stream().map(EventApiResponse::getEventId).toList());
+        verify(delegate, never()).fetchEventData(List.of("event1", "event2"));
+        assertEquals(1, service.getCoalescedCount());
+    }
+}
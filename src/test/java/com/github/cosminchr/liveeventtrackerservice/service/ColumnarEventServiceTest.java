@@ -0,0 +1,124 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ColumnarEventServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarEventServiceTest {
+    
+    private EventService eventService;
+    
+    @BeforeEach
+    void setUp() {
+        eventService = new ColumnarEventServiceImpl();
+    }
+    
+    @Test
+    void updateEventStatus_ShouldCreateAndUpdateEvent() {
+        // Act
+        Event created = eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        Event updated = eventService.updateEventStatus(new EventStatusUpdateRequest("event123", false));
+        
+        // Assert
+        assertEquals("event123", created.getEventId());
+        assertEquals(EventStatus.LIVE, created.getStatus());
+        assertNotNull(created.getLastUpdated());
+        assertNull(created.getLastPolled());
+        assertEquals(EventStatus.NOT_LIVE, updated.getStatus());
+        assertEquals(EventStatus.NOT_LIVE, eventService.getEvent("event123").getStatus());
+    }
+    
+    @Test
+    void getEvent_WhenEventDoesNotExist_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(eventService.getEvent("nonexistent"));
+        assertFalse(eventService.isLive("nonexistent"));
+    }
+    
+    @Test
+    void recordScore_ShouldBeVisibleInEventSnapshot() {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        
+        // Act
+        eventService.recordPoll("event123");
+        eventService.recordScore("event123", Score.of(3, 2));
+        eventService.recordScore("nonexistent", Score.of(1, 1));
+        
+        // Assert
+        Event result = eventService.getEvent("event123");
+        assertEquals(Score.of(3, 2), result.getCurrentScore());
+        assertNotNull(result.getLastPolled());
+        assertNull(eventService.getEvent("nonexistent"));
+    }
+    
+    @Test
+    void updateEventStatus_WhenUpdatedConcurrently_ShouldReturnTheStateOfEachUpdate() throws Exception {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        try {
+            Future<Boolean> live = executor.submit(() -> updateRepeatedly(true, 1000L));
+            Future<Boolean> notLive = executor.submit(() -> updateRepeatedly(false, 2000L));
+
+            // Assert
+            assertTrue(live.get(30, TimeUnit.SECONDS));
+            assertTrue(notLive.get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void updateEventStatus_WhenStoreGrows_ShouldKeepEveryEvent() {
+        // Arrange
+        int events = 5_000;
+        
+        // Act
+        for (int i = 0; i < events; i++) {
+            eventService.updateEventStatus(new EventStatusUpdateRequest("event" + i, i % 2 == 0));
+            eventService.recordScore("event" + i, Score.of(i, 0));
+        }
+        
+        // Assert
+        for (int i = 0; i < events; i++) {
+            assertEquals(i % 2 == 0, eventService.isLive("event" + i));
+            assertEquals(Score.of(i, 0), eventService.getEvent("event" + i).getCurrentScore());
+        }
+        List<String> liveEventIds = eventService.getLiveEventIds();
+        Set<String> uniqueLiveEventIds = new HashSet<>(liveEventIds);
+        assertEquals(events / 2, liveEventIds.size());
+        assertEquals(events / 2, uniqueLiveEventIds.size());
+        assertTrue(uniqueLiveEventIds.contains("event0"));
+        assertFalse(uniqueLiveEventIds.contains("event1"));
+    }
+
+    private boolean updateRepeatedly(boolean live, long pollingIntervalMs) {
+        EventStatusUpdateRequest request = new EventStatusUpdateRequest("event123", live);
+        request.setPollingIntervalMs(pollingIntervalMs);
+        EventStatus expected = live ? EventStatus.LIVE : EventStatus.NOT_LIVE;
+        for (int i = 0; i < 20_000; i++) {
+            Event event = eventService.updateEventStatus(request);
+            if (event.getStatus() != expected || event.getPollingIntervalMs() != pollingIntervalMs) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.config.DurableStoreProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.persistence.FsyncPolicy;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.DurableEventServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurableEventServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private DurableStoreProperties properties;
+    private DurableEventServiceImpl eventService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DurableStoreProperties();
+        properties.setDirectory(directory.toString());
+        properties.setFsync(FsyncPolicy.ALWAYS);
+        eventService = new DurableEventServiceImpl(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventService.close();
+    }
+
+    @Test
+    void updateEventStatus_ShouldBehaveLikeInMemoryStore() {
+        // Act
+        Event result = eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        eventService.recordPoll("event123");
+        eventService.recordScore("event123", Score.of(2, 1));
+
+        // Assert
+        assertEquals(EventStatus.LIVE, result.getStatus());
+        assertNotNull(result.getLastUpdated());
+        assertEquals(Score.of(2, 1), eventService.getEvent("event123").getCurrentScore());
+        assertNotNull(eventService.getEvent("event123").getLastPolled());
+        assertTrue(eventService.isLive("event123"));
+        assertNull(eventService.getEvent("nonexistent"));
+    }
+
+    @Test
+    void updateEventStatus_WhenChangeCannotBeLogged_ShouldNotApplyIt() {
+        // Arrange
+        String eventId = "e".repeat(0x10000);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.updateEventStatus(new EventStatusUpdateRequest(eventId, true)));
+        assertNull(eventService.getEvent(eventId));
+        assertTrue(eventService.getLiveEventIds().isEmpty());
+    }
+
+    @Test
+    void constructor_WhenReopened_ShouldRestoreEventsAndLiveSet() {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true, 2000L));
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event456", true));
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event456", false));
+        eventService.recordScore("event123", Score.of(3, 2));
+        eventService.close();
+
+        // Act
+        eventService = new DurableEventServiceImpl(properties);
+
+        // Assert
+        Event event = eventService.getEvent("event123");
+        assertEquals(EventStatus.LIVE, event.getStatus());
+        assertEquals(Score.of(3, 2), event.getCurrentScore());
+        assertEquals(Long.valueOf(2000L), event.getPollingIntervalMs());
+        assertNotNull(event.getLastUpdated());
+        assertEquals(EventStatus.NOT_LIVE, eventService.getEvent("event456").getStatus());
+        assertEquals(List.of("event123"), eventService.getLiveEventIds());
+    }
+
+    @Test
+    void compact_ShouldWriteSnapshotAndRestoreFromIt() throws IOException {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        eventService.recordScore("event123", Score.of(1, 0));
+
+        // Act
+        eventService.compact();
+        eventService.recordScore("event123", Score.of(2, 0));
+        eventService.close();
+        eventService = new DurableEventServiceImpl(properties);
+
+        // Assert
+        assertTrue(Files.exists(directory.resolve("snapshot.dat")));
+        assertFalse(Files.exists(directory.resolve("wal-0000000000.log")));
+        assertEquals(Score.of(2, 0), eventService.getEvent("event123").getCurrentScore());
+        assertTrue(eventService.isLive("event123"));
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.config.IngestProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult.Outcome;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.scheduler.EventPollingScheduler;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventIngestionServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventIngestionServiceTest {
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventPollingScheduler eventPollingScheduler;
+
+    private IngestProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestProperties();
+    }
+
+    @Test
+    void ingest_ShouldReportResultsWithIndexesFromFirstIndex() {
+        // Arrange
+        EventIngestionService ingestionService = createService();
+        when(eventService.updateEventStatus(any())).thenReturn(
+                Event.builder().eventId("event123").status(EventStatus.LIVE).build());
+
+        // Act
+        List<EventStatusUpdateResult> results = ingestionService.ingest(Arrays.asList(
+                new EventStatusUpdateRequest("event123", true), null), 10);
+
+        // Assert
+        assertEquals(10, results.get(0).getIndex());
+        assertEquals(Outcome.APPLIED, results.get(0).getOutcome());
+        assertEquals(11, results.get(1).getIndex());
+        assertEquals(Outcome.REJECTED, results.get(1).getOutcome());
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event123", null);
+    }
+
+    @Test
+    void enqueue_WhenQueueIsFull_ShouldRejectRemainingUpdates() {
+        // Arrange - the worker is not started, so nothing is taken off the queue
+        properties.setQueueCapacity(2);
+        EventIngestionService ingestionService = createService();
+
+        // Act
+        List<EventStatusUpdateResult> results = ingestionService.enqueue(List.of(
+                new EventStatusUpdateRequest("event1", true),
+                new EventStatusUpdateRequest("event2", true),
+                new EventStatusUpdateRequest("event3", true)), 0);
+
+        // Assert
+        assertEquals(Outcome.ACCEPTED, results.get(0).getOutcome());
+        assertEquals(Outcome.ACCEPTED, results.get(1).getOutcome());
+        assertEquals(Outcome.REJECTED, results.get(2).getOutcome());
+        assertEquals("Ingest queue is full", results.get(2).getError());
+        assertEquals(2, ingestionService.getQueuedCount());
+        verify(eventService, never()).updateEventStatus(any());
+    }
+
+    @Test
+    void stop_ShouldApplyQueuedUpdates() throws InterruptedException {
+        // Arrange
+        EventIngestionServiceImpl ingestionService = createService();
+        when(eventService.updateEventStatus(any())).thenReturn(
+                Event.builder().eventId("event1").status(EventStatus.NOT_LIVE).build());
+        ingestionService.enqueue(List.of(new EventStatusUpdateRequest("event1", false)), 0);
+
+        // Act
+        ingestionService.stop();
+
+        // Assert
+        assertEquals(0, ingestionService.getQueuedCount());
+        verify(eventPollingScheduler, times(1)).unscheduleEventPolling("event1");
+    }
+
+    @Test
+    void stop_WhenWorkerIsRunning_ShouldLetWorkerApplyQueuedUpdates() throws InterruptedException {
+        // Arrange
+        EventIngestionServiceImpl ingestionService = createService();
+        when(eventService.updateEventStatus(any())).thenReturn(
+                Event.builder().eventId("event1").status(EventStatus.NOT_LIVE).build());
+        ingestionService.start();
+        ingestionService.enqueue(List.of(
+                new EventStatusUpdateRequest("event1", false),
+                new EventStatusUpdateRequest("event1", false)), 0);
+
+        // Act
+        ingestionService.stop();
+
+        // Assert
+        assertEquals(0, ingestionService.getQueuedCount());
+        verify(eventPollingScheduler, times(2)).unscheduleEventPolling("event1");
+    }
+
+    @Test
+    void enqueue_WhenStopped_ShouldRejectUpdates() throws InterruptedException {
+        // Arrange
+        EventIngestionServiceImpl ingestionService = createService();
+        ingestionService.stop();
+
+        // Act
+        List<EventStatusUpdateResult> results = ingestionService.enqueue(List.of(
+                new EventStatusUpdateRequest("event1", true)), 0);
+
+        // Assert
+        assertEquals(Outcome.REJECTED, results.get(0).getOutcome());
+        assertEquals("Ingest is shutting down", results.get(0).getError());
+        assertEquals(0, ingestionService.getQueuedCount());
+        verify(eventService, never()).updateEventStatus(any());
+    }
+
+    @Test
+    void handOver_WhenEventWasUpdatedHereSince_ShouldIgnoreIt() {
+        // Arrange - a client ended the event at the new owner after the old owner last updated it
+        EventIngestionService ingestionService = createService();
+        LocalDateTime handedOverUpdate = LocalDateTime.of(2025, 5, 1, 18, 0);
+        Event ended = Event.builder().eventId("event1").status(EventStatus.NOT_LIVE)
+                .lastUpdated(handedOverUpdate.plusSeconds(2)).build();
+        when(eventService.getEvent("event1")).thenReturn(ended);
+
+        // Act
+        Event result = ingestionService.handOver(new EventStatusUpdateRequest("event1", true), handedOverUpdate);
+
+        // Assert
+        assertSame(ended, result);
+        verify(eventService, never()).updateEventStatus(any());
+        verifyNoInteractions(eventPollingScheduler);
+    }
+
+    @Test
+    void handOver_WhenEventWasNotUpdatedHereSince_ShouldApplyIt() {
+        // Arrange
+        EventIngestionService ingestionService = createService();
+        LocalDateTime handedOverUpdate = LocalDateTime.of(2025, 5, 1, 18, 0);
+        when(eventService.getEvent("event1")).thenReturn(Event.builder().eventId("event1").status(EventStatus.NOT_LIVE)
+                .lastUpdated(handedOverUpdate.minusHours(1)).build());
+        when(eventService.updateEventStatus(any())).thenReturn(
+                Event.builder().eventId("event1").status(EventStatus.LIVE).build());
+
+        // Act
+        Event result = ingestionService.handOver(new EventStatusUpdateRequest("event1", true), handedOverUpdate);
+
+        // Assert
+        assertEquals(EventStatus.LIVE, result.getStatus());
+        verify(eventPollingScheduler, times(1)).scheduleEventPolling("event1", null);
+    }
+
+    @Test
+    void validate_ShouldReturnErrorsOnlyForInvalidUpdates() {
+        // Arrange
+        EventIngestionService ingestionService = createService();
+
+        // Act & Assert
+        assertNull(ingestionService.validate(new EventStatusUpdateRequest("event123", true)));
+        assertEquals("Event ID is required", ingestionService.validate(new EventStatusUpdateRequest("", true)));
+        assertEquals("Update is required", ingestionService.validate(null));
+        verifyNoInteractions(eventService);
+    }
+
+    private EventIngestionServiceImpl createService() {
+        return new EventIngestionServiceImpl(eventService, eventPollingScheduler,
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.EventSnapshot;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventQueryServiceImpl;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventQueryServiceTest {
+
+    private EventService eventService;
+    private EventQueryServiceImpl eventQueryService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventServiceImpl();
+        eventQueryService = new EventQueryServiceImpl(eventService);
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        eventQueryService.refresh();
+    }
+
+    @Test
+    void refresh_WhenEventWasOnlyPolled_ShouldKeepVersionAndEventVersion() {
+        // Arrange
+        EventSnapshot before = eventQueryService.getSnapshot();
+
+        // Act
+        eventService.recordPoll("event123");
+        eventQueryService.refresh();
+
+        // Assert
+        EventSnapshot after = eventQueryService.getSnapshot();
+        assertEquals(before.getVersion(), after.getVersion());
+        assertEquals(before.getEvent("event123").version(), after.getEvent("event123").version());
+    }
+
+    @Test
+    void refresh_WhenScoreChanged_ShouldBumpVersionAndEventVersion() {
+        // Arrange
+        EventSnapshot before = eventQueryService.getSnapshot();
+
+        // Act
+        eventService.recordPoll("event123");
+        eventService.recordScore("event123", Score.of(1, 0));
+        eventQueryService.refresh();
+
+        // Assert
+        EventSnapshot after = eventQueryService.getSnapshot();
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(after.getVersion(), after.getEvent("event123").version());
+        assertEquals(Score.of(1, 0), after.getEvent("event123").event().getCurrentScore());
+    }
+}
@@ -3,10 +3,13 @@ package com.github.cosminchr.liveeventtrackerservice.service;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
 import com.github.cosminchr.liveeventtrackerservice.model.Event;
 import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
 import com.github.cosminchr.liveeventtrackerservice.service.impl.EventServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EventServiceTest {
@@ -71,4 +74,50 @@ class EventServiceTest {
         // Assert
         assertNull(result);
     }
+    
+    @Test
+    void isLive_ShouldReflectLatestStatus() {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event456", true));
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event456", false));
+        
+        // Act & Assert
+        assertTrue(eventService.isLive("event123"));
+        assertFalse(eventService.isLive("event456"));
+        assertFalse(eventService.isLive("nonexistent"));
+        assertEquals(List.of("event123"), eventService.getLiveEventIds());
+    }
+    
+    @Test
+    void recordScore_WhenEventExists_ShouldUpdateEvent() {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        
+        // Act
+        eventService.recordPoll("event123");
+        eventService.recordScore("event123", Score.of(2, 1));
+        eventService.recordScore("nonexistent", Score.of(2, 1));
+        
+        // Assert
+        Event result = eventService.getEvent("event123");
+        assertEquals(Score.of(2, 1), result.getCurrentScore());
+        assertNotNull(result.getLastPolled());
+        assertNull(eventService.getEvent("nonexistent"));
+    }
+    
+    @Test
+    void getEvents_ShouldReturnCopiesOfAllEvents() {
+        // Arrange
+        eventService.updateEventStatus(new EventStatusUpdateRequest("event123", true));
+        
+        // Act
+        List<Event> result = eventService.getEvents();
+        eventService.recordScore("event123", Score.of(1, 0));
+        
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("event123", result.get(0).getEventId());
+        assertEquals(Score.NONE, result.get(0).getCurrentScore());
+    }
 }
@@ -0,0 +1,58 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ColumnarEventServiceImpl;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.EventServiceImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the retained heap of the event stores with JOL.
+ * Excluded from the regular test run; run it with {@code ./gradlew footprintTest}.
+ */
+@Tag("footprint")
+class EventStoreFootprintTest {
+    
+    @BeforeAll
+    static void silenceStoreLogging() {
+        // Millions of "Updated event status" lines would dominate the run time
+        ((Logger) LoggerFactory.getLogger("com.github.cosminchr.liveeventtrackerservice")).setLevel(Level.WARN);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 1_000_000})
+    void columnarStore_ShouldUseLessThanHalfTheMemoryOfMapStore(int events) {
+        // Arrange & Act
+        long mapBytes = retainedBytes(fill(new EventServiceImpl(), events));
+        long columnarBytes = retainedBytes(fill(new ColumnarEventServiceImpl(), events));
+        
+        // Assert
+        System.out.printf("%,d events: map store %d bytes/event, columnar store %d bytes/event%n",
+                events, mapBytes / events, columnarBytes / events);
+        assertTrue(columnarBytes * 2 < mapBytes,
+                "columnar store " + columnarBytes + " bytes, map store " + mapBytes + " bytes");
+    }
+    
+    private static EventService fill(EventService eventService, int events) {
+        for (int i = 0; i < events; i++) {
+            String eventId = "event-" + i;
+            eventService.updateEventStatus(new EventStatusUpdateRequest(eventId, true));
+            eventService.recordPoll(eventId);
+            eventService.recordScore(eventId, Score.of(i % 7, i % 5));
+        }
+        return eventService;
+    }
+    
+    private static long retainedBytes(EventService eventService) {
+        return GraphLayout.parseInstance(eventService).totalSize();
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreaker;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ExternalApiServiceImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ExternalApiServiceAsyncTest {
+
+    private HttpServer server;
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private ExternalApiServiceImpl externalApiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events/event123", exchange -> respond(exchange, 200,
+                "{\"eventId\":\"event123\",\"currentScore\":\"2:1\"}"));
+        server.createContext("/events/broken", exchange -> respond(exchange, 500, "error"));
+        server.createContext("/events/unknown", exchange -> respond(exchange, 404, "not found"));
+        server.createContext("/events/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{\"eventId\":\"slow\",\"currentScore\":\"0:0\"}");
+        });
+        server.start();
+
+        asyncHttpClient = HttpAsyncClients.createDefault();
+        asyncHttpClient.start();
+
+        externalApiService = new ExternalApiServiceImpl(mock(RestTemplate.class), asyncHttpClient);
+        ReflectionTestUtils.setField(externalApiService, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(externalApiService, "eventEndpoint", "/events/{eventId}");
+        ReflectionTestUtils.setField(externalApiService, "requestDeadlineMs", 200L);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        asyncHttpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void fetchEventDataAsync_WhenApiReturnsData_ShouldCompleteWithResponse() throws Exception {
+        // Act
+        EventApiResponse result = externalApiService.fetchEventDataAsync("event123").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals("event123", result.getEventId());
+        assertEquals(Score.of(2, 1), result.getCurrentScore());
+    }
+
+    @Test
+    void fetchEventDataAsync_WhenApiReturnsError_ShouldCompleteExceptionally() {
+        // Act & Assert
+        ExecutionException exception = assertThrows(
+                ExecutionException.class,
+                () -> externalApiService.fetchEventDataAsync("broken").get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(RestClientException.class, exception.getCause());
+    }
+
+    @Test
+    void fetchEventDataAsync_WhenEventIsUnknown_ShouldFailWithClientErrorAndKeepBreakerClosed() {
+        // Arrange
+        ReflectionTestUtils.setField(externalApiService, "breakerFailureThreshold", 2);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            ExecutionException exception = assertThrows(
+                    ExecutionException.class,
+                    () -> externalApiService.fetchEventDataAsync("unknown").get(5, TimeUnit.SECONDS)
+            );
+            assertInstanceOf(HttpClientErrorException.NotFound.class, exception.getCause());
+        }
+
+        // Assert
+        assertEquals(List.of(CircuitBreaker.State.CLOSED),
+                List.copyOf(externalApiService.getCircuitBreakerStates().values()));
+    }
+
+    @Test
+    void fetchEventDataAsync_WhenDeadlineIsExceeded_ShouldFailWithTimeout() {
+        // Act & Assert
+        ExecutionException exception = assertThrows(
+                ExecutionException.class,
+                () -> externalApiService.fetchEventDataAsync("slow").get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
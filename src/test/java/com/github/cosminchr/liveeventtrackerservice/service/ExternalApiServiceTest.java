@@ -1,6 +1,9 @@
 package com.github.cosminchr.liveeventtrackerservice.service;
 
 import com.github.cosminchr.liveeventtrackerservice.dto.EventApiResponse;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreaker;
+import com.github.cosminchr.liveeventtrackerservice.resilience.CircuitBreakerOpenException;
 import com.github.cosminchr.liveeventtrackerservice.service.impl.ExternalApiServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,10 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -30,13 +37,14 @@ class ExternalApiServiceTest {
     void setUp() {
         ReflectionTestUtils.setField(externalApiService, "baseUrl", "http://test-api.com");
         ReflectionTestUtils.setField(externalApiService, "eventEndpoint", "/events/{eventId}");
+        ReflectionTestUtils.setField(externalApiService, "eventsEndpoint", "/events?ids={eventIds}");
     }
 
     @Test
     void fetchEventData_WhenApiReturnsData_ShouldReturnEventApiResponse() {
         // Arrange
         String eventId = "event123";
-        EventApiResponse expectedResponse = new EventApiResponse(eventId, "2:1");
+        EventApiResponse expectedResponse = new EventApiResponse(eventId, Score.of(2, 1));
 
         when(restTemplate.getForObject(
                 eq("http://test-api.com/events/event123"),
@@ -49,7 +57,7 @@ class ExternalApiServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(eventId, result.getEventId());
-        assertEquals("2:1", result.getCurrentScore());
+        assertEquals(Score.of(2, 1), result.getCurrentScore());
 
         verify(restTemplate, times(1)).getForObject(anyString(), eq(EventApiResponse.class));
     }
@@ -89,4 +97,86 @@ class ExternalApiServiceTest {
         assertEquals("API error", exception.getMessage());
         verify(restTemplate, times(1)).getForObject(anyString(), eq(EventApiResponse.class));
     }
+
+    @Test
+    void fetchEventData_WhenUpstreamKeepsFailing_ShouldOpenCircuitBreakerAndFailFast() {
+        // Arrange
+        ReflectionTestUtils.setField(externalApiService, "breakerFailureThreshold", 2);
+        when(restTemplate.getForObject(anyString(), eq(EventApiResponse.class)))
+                .thenThrow(new RestClientException("API error"));
+
+        // Act
+        assertThrows(RestClientException.class, () -> externalApiService.fetchEventData("event123"));
+        assertThrows(RestClientException.class, () -> externalApiService.fetchEventData("event123"));
+
+        // Assert
+        assertThrows(CircuitBreakerOpenException.class, () -> externalApiService.fetchEventData("event123"));
+        assertEquals(CircuitBreaker.State.OPEN, externalApiService.getCircuitBreakerStates().get("test-api.com"));
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(EventApiResponse.class));
+    }
+
+    @Test
+    void fetchEventData_WhenUpstreamReturnsClientError_ShouldNotOpenCircuitBreaker() {
+        // Arrange
+        ReflectionTestUtils.setField(externalApiService, "breakerFailureThreshold", 1);
+        when(restTemplate.getForObject(anyString(), eq(EventApiResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // Act
+        assertThrows(HttpClientErrorException.class, () -> externalApiService.fetchEventData("event123"));
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, externalApiService.getCircuitBreakerStates().get("test-api.com"));
+    }
+
+    @Test
+    void fetchEventData_WhenCallFailsWithoutUpstreamOutcome_ShouldNotResetFailures() {
+        // Arrange
+        ReflectionTestUtils.setField(externalApiService, "breakerFailureThreshold", 2);
+        when(restTemplate.getForObject(anyString(), eq(EventApiResponse.class)))
+                .thenThrow(new RestClientException("API error"))
+                .thenThrow(new IllegalStateException("Connection pool shut down"))
+                .thenThrow(new RestClientException("API error"));
+
+        // Act
+        assertThrows(RestClientException.class, () -> externalApiService.fetchEventData("event123"));
+        assertThrows(IllegalStateException.class, () -> externalApiService.fetchEventData("event123"));
+        assertThrows(RestClientException.class, () -> externalApiService.fetchEventData("event123"));
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, externalApiService.getCircuitBreakerStates().get("test-api.com"));
+    }
+
+    @Test
+    void fetchEventData_WhenBatchIsRequested_ShouldFetchAllEventsInOneRequest() {
+        // Arrange
+        EventApiResponse[] expectedResponses = {
+                new EventApiResponse("event1", Score.of(1, 0)),
+                new EventApiResponse("event2", Score.of(0, 2))
+        };
+
+        when(restTemplate.getForObject(
+                eq("http://test-api.com/events?ids={eventIds}"),
+                eq(EventApiResponse[].class),
+                eq("event1,event2")))
+                .thenReturn(expectedResponses);
+
+        // Act
+        List<EventApiResponse> result = externalApiService.fetchEventData(List.of("event1", "event2"));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("event1", result.get(0).getEventId());
+        assertEquals(Score.of(0, 2), result.get(1).getCurrentScore());
+    }
+
+    @Test
+    void fetchEventData_WhenBatchIsEmpty_ShouldNotCallApi() {
+        // Act
+        List<EventApiResponse> result = externalApiService.fetchEventData(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
 }
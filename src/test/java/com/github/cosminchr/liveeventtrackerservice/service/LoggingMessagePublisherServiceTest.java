@@ -5,6 +5,7 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
 import com.github.cosminchr.liveeventtrackerservice.service.impl.LoggingMessagePublisherServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,7 +37,7 @@ class LoggingMessagePublisherServiceTest {
         // Arrange
         EventUpdateMessage message = EventUpdateMessage.builder()
                 .eventId("event123")
-                .currentScore("2:1")
+                .currentScore(Score.of(2, 1))
                 .timestamp(LocalDateTime.now())
                 .build();
 
@@ -51,6 +52,6 @@ class LoggingMessagePublisherServiceTest {
         assertTrue(loggingEvent.getFormattedMessage().contains("MOCK PUBLISHING"));
         assertTrue(loggingEvent.getFormattedMessage().contains("event123"));
         // EventUpdateMessage doesn't have an eventName field
-        assertTrue(loggingEvent.getFormattedMessage().contains("2:1"));
+        assertTrue(loggingEvent.getFormattedMessage().contains("currentScore=2:1"));
     }
 }
@@ -0,0 +1,128 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.config.StreamProperties;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ScoreStreamServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreStreamServiceTest {
+
+    private StreamProperties properties;
+    private ScoreStreamServiceImpl scoreStreamService;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StreamProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scoreStreamService != null) {
+            scoreStreamService.close();
+        }
+    }
+
+    @Test
+    void dispatch_ShouldDeliverAndConflateUpdatesOfTheSameEvent() throws InterruptedException {
+        // Arrange
+        createService();
+        assertNotNull(scoreStreamService.subscribe(null, null));
+        scoreStreamService.publish(message("event1", 1, 0));
+        scoreStreamService.publish(message("event1", 2, 0));
+        scoreStreamService.publish(message("event2", 0, 1));
+        scoreStreamService.publish(message("event1", 3, 0));
+        assertEquals(4, scoreStreamService.getMaxLag());
+
+        // Act
+        scoreStreamService.dispatch();
+
+        // Assert
+        awaitNoLag();
+        assertEquals(1, scoreStreamService.getSubscriberCount());
+        assertEquals(2.0, registry.get("event.tracker.stream.conflated").functionCounter().count());
+    }
+
+    @Test
+    void subscribe_WhenMaximumIsReached_ShouldReturnNull() {
+        // Arrange
+        properties.setMaxSubscribers(1);
+        createService();
+
+        // Act & Assert
+        assertNotNull(scoreStreamService.subscribe(List.of("event1"), null));
+        assertNull(scoreStreamService.subscribe(List.of("event2"), null));
+        assertEquals(1.0, registry.get("event.tracker.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void dispatch_WhenSubscriberIsOverrunAndPolicyIsDrop_ShouldDisconnectIt() throws InterruptedException {
+        // Arrange
+        properties.setBufferSize(2);
+        properties.setSlowSubscriberPolicy(StreamProperties.SlowSubscriberPolicy.DROP);
+        createService();
+        scoreStreamService.subscribe(null, null);
+        for (int i = 0; i < 5; i++) {
+            scoreStreamService.publish(message("event1", i, 0));
+        }
+
+        // Act
+        scoreStreamService.dispatch();
+
+        // Assert
+        for (int i = 0; i < 100 && scoreStreamService.getSubscriberCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, scoreStreamService.getSubscriberCount());
+        assertEquals(1.0, registry.get("event.tracker.stream.dropped").functionCounter().count());
+    }
+
+    @Test
+    void dispatch_WhenSubscriberIsOverrunAndPolicyIsConflate_ShouldSkipAhead() throws InterruptedException {
+        // Arrange
+        properties.setBufferSize(2);
+        createService();
+        scoreStreamService.subscribe(null, null);
+        for (int i = 0; i < 5; i++) {
+            scoreStreamService.publish(message("event1", i, 0));
+        }
+
+        // Act
+        scoreStreamService.dispatch();
+
+        // Assert
+        awaitNoLag();
+        assertEquals(1, scoreStreamService.getSubscriberCount());
+        assertEquals(1.0, registry.get("event.tracker.stream.overruns").functionCounter().count());
+    }
+
+    private void createService() {
+        scoreStreamService = new ScoreStreamServiceImpl(properties);
+        scoreStreamService.bindTo(registry);
+    }
+
+    private void awaitNoLag() throws InterruptedException {
+        for (int i = 0; i < 100 && scoreStreamService.getMaxLag() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, scoreStreamService.getMaxLag());
+    }
+
+    private static EventUpdateMessage message(String eventId, int home, int away) {
+        return EventUpdateMessage.builder()
+                .eventId(eventId)
+                .currentScore(Score.of(home, away))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
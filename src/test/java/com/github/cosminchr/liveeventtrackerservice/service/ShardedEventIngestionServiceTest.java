@@ -0,0 +1,130 @@
+package com.github.cosminchr.liveeventtrackerservice.service;
+
+import com.github.cosminchr.liveeventtrackerservice.cluster.EventForwarder;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateRequest;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult;
+import com.github.cosminchr.liveeventtrackerservice.dto.EventStatusUpdateResult.Outcome;
+import com.github.cosminchr.liveeventtrackerservice.model.Event;
+import com.github.cosminchr.liveeventtrackerservice.model.EventStatus;
+import com.github.cosminchr.liveeventtrackerservice.service.impl.ShardedEventIngestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedEventIngestionServiceTest {
+
+    private static final String LOCAL = "http://node-a";
+    private static final String REMOTE = "http://node-b";
+
+    @Mock
+    private EventIngestionService localIngestionService;
+
+    @Mock
+    private ShardingService shardingService;
+
+    @Mock
+    private EventForwarder eventForwarder;
+
+    @InjectMocks
+    private ShardedEventIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        // Events starting with "local" are owned by this instance, all others by the remote one
+        lenient().when(shardingService.getLocalNode()).thenReturn(LOCAL);
+        lenient().when(shardingService.ownerOf(anyString()))
+                .thenAnswer(invocation -> ((String) invocation.getArgument(0)).startsWith("local") ? LOCAL : REMOTE);
+    }
+
+    @Test
+    void apply_WhenEventIsOwnedByAnotherInstance_ShouldForwardToOwner() {
+        // Arrange
+        EventStatusUpdateRequest request = new EventStatusUpdateRequest("remote1", true);
+        Event event = Event.builder().eventId("remote1").status(EventStatus.LIVE).build();
+        when(eventForwarder.forward(REMOTE, request)).thenReturn(event);
+
+        // Act
+        Event result = ingestionService.apply(request);
+
+        // Assert
+        assertSame(event, result);
+        verify(localIngestionService, never()).apply(any());
+    }
+
+    @Test
+    void handOver_WhenEventIsOwnedByAnotherInstance_ShouldHandItOverWithLastUpdate() {
+        // Arrange
+        EventStatusUpdateRequest request = new EventStatusUpdateRequest("remote1", true);
+        LocalDateTime lastUpdated = LocalDateTime.of(2025, 5, 1, 18, 0);
+        Event event = Event.builder().eventId("remote1").status(EventStatus.LIVE).build();
+        when(eventForwarder.handOver(REMOTE, request, lastUpdated)).thenReturn(event);
+
+        // Act
+        Event result = ingestionService.handOver(request, lastUpdated);
+
+        // Assert
+        assertSame(event, result);
+        verify(localIngestionService, never()).handOver(any(), any());
+    }
+
+    @Test
+    void ingest_ShouldSplitBatchByOwnerAndMergeResultsInRequestOrder() {
+        // Arrange
+        List<EventStatusUpdateRequest> requests = List.of(
+                new EventStatusUpdateRequest("remote1", true),
+                new EventStatusUpdateRequest("local1", true),
+                new EventStatusUpdateRequest("remote2", false));
+        when(localIngestionService.ingest(List.of(requests.get(1)), 0)).thenReturn(List.of(
+                EventStatusUpdateResult.applied(0, Event.builder().eventId("local1").status(EventStatus.LIVE).build())));
+        when(eventForwarder.forward(REMOTE, List.of(requests.get(0), requests.get(2)), false)).thenReturn(List.of(
+                EventStatusUpdateResult.applied(0, Event.builder().eventId("remote1").status(EventStatus.LIVE).build()),
+                EventStatusUpdateResult.applied(1, Event.builder().eventId("remote2").status(EventStatus.NOT_LIVE).build())));
+
+        // Act
+        List<EventStatusUpdateResult> results = ingestionService.ingest(requests, 10);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(List.of("remote1", "local1", "remote2"),
+                results.stream().map(EventStatusUpdateResult::getEventId).toList());
+        assertEquals(List.of(10, 11, 12), results.stream().map(EventStatusUpdateResult::getIndex).toList());
+        assertTrue(results.stream().allMatch(result -> result.getOutcome() == Outcome.APPLIED));
+    }
+
+    @Test
+    void enqueue_WhenOwnerIsUnavailable_ShouldRejectItsUpdates() {
+        // Arrange
+        List<EventStatusUpdateRequest> requests = List.of(
+                new EventStatusUpdateRequest("local1", true),
+                new EventStatusUpdateRequest("remote1", true));
+        when(localIngestionService.enqueue(List.of(requests.get(0)), 0))
+                .thenReturn(List.of(EventStatusUpdateResult.accepted(0, "local1")));
+        when(eventForwarder.forward(eq(REMOTE), anyList(), anyBoolean()))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        // Act
+        List<EventStatusUpdateResult> results = ingestionService.enqueue(requests, 0);
+
+        // Assert
+        assertEquals(Outcome.ACCEPTED, results.get(0).getOutcome());
+        assertEquals(Outcome.REJECTED, results.get(1).getOutcome());
+        assertEquals("remote1", results.get(1).getEventId());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals("Owner " + REMOTE + " is unavailable", results.get(1).getError());
+        verify(eventForwarder, times(1)).forward(REMOTE, List.of(requests.get(1)), true);
+    }
+}
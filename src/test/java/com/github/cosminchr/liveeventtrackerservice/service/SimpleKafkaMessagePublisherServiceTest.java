@@ -3,7 +3,10 @@ package com.github.cosminchr.liveeventtrackerservice.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cosminchr.liveeventtrackerservice.dto.EventUpdateMessage;
+import com.github.cosminchr.liveeventtrackerservice.journal.EventJournal;
+import com.github.cosminchr.liveeventtrackerservice.model.Score;
 import com.github.cosminchr.liveeventtrackerservice.service.impl.SimpleKafkaMessagePublisherServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,9 +19,11 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -28,14 +33,20 @@ class SimpleKafkaMessagePublisherServiceTest {
     @Mock
     private KafkaTemplate<String, String> kafkaTemplate;
 
+    @Mock
+    private KafkaTemplate<String, EventUpdateMessage> eventUpdateKafkaTemplate;
+
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private EventJournal eventJournal;
+
     private SimpleKafkaMessagePublisherServiceImpl publisher;
 
     @BeforeEach
     void setUp() {
-        publisher = Mockito.spy(new SimpleKafkaMessagePublisherServiceImpl(kafkaTemplate));
+        publisher = Mockito.spy(new SimpleKafkaMessagePublisherServiceImpl(kafkaTemplate, eventUpdateKafkaTemplate, eventJournal));
 
         // Replace the ObjectMapper with our mock
         ReflectionTestUtils.setField(publisher, "objectMapper", objectMapper);
@@ -49,7 +60,7 @@ class SimpleKafkaMessagePublisherServiceTest {
         // Arrange
         EventUpdateMessage message = EventUpdateMessage.builder()
                 .eventId("event123")
-                .currentScore("2:1")
+                .currentScore(Score.of(2, 1))
                 .timestamp(LocalDateTime.now())
                 .build();
 
@@ -85,7 +96,7 @@ class SimpleKafkaMessagePublisherServiceTest {
         // Arrange
         EventUpdateMessage message = EventUpdateMessage.builder()
                 .eventId("event123")
-                .currentScore("2:1")
+                .currentScore(Score.of(2, 1))
                 .timestamp(LocalDateTime.now())
                 .build();
 
@@ -104,7 +115,7 @@ class SimpleKafkaMessagePublisherServiceTest {
         // Arrange
         EventUpdateMessage message = EventUpdateMessage.builder()
                 .eventId("event123")
-                .currentScore("2:1")
+                .currentScore(Score.of(2, 1))
                 .timestamp(LocalDateTime.now())
                 .build();
 
@@ -122,4 +133,105 @@ class SimpleKafkaMessagePublisherServiceTest {
         verify(objectMapper, times(1)).writeValueAsString(message);
         verify(kafkaTemplate, times(1)).send(anyString(), anyString(), anyString());
     }
+
+    @Test
+    void publishEventUpdates_ShouldSendEveryMessageWithoutBlocking() throws JsonProcessingException {
+        // Arrange
+        EventUpdateMessage first = EventUpdateMessage.builder()
+                .eventId("event1")
+                .currentScore(Score.of(1, 0))
+                .timestamp(LocalDateTime.now())
+                .build();
+        EventUpdateMessage second = EventUpdateMessage.builder()
+                .eventId("event2")
+                .currentScore(Score.of(0, 1))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        when(objectMapper.writeValueAsString(any(EventUpdateMessage.class))).thenReturn("{}");
+
+        // Futures that never complete, as if the broker had not acknowledged yet
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+
+        // Act
+        publisher.publishEventUpdates(List.of(first, second));
+
+        // Assert
+        verify(kafkaTemplate, times(1)).send("test-topic", "event1", "{}");
+        verify(kafkaTemplate, times(1)).send("test-topic", "event2", "{}");
+        assertEquals(0, publisher.getAcknowledgedCount());
+        assertEquals(0, publisher.getFailedCount());
+    }
+
+    @Test
+    void publishEventUpdate_WhenKafkaSendFails_ShouldCountFailureInCallback() throws JsonProcessingException {
+        // Arrange
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        when(objectMapper.writeValueAsString(message)).thenReturn("{}");
+
+        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        publisher.publishEventUpdate(message);
+
+        // Act
+        future.completeExceptionally(new RuntimeException("Kafka error"));
+
+        // Assert
+        assertEquals(1, publisher.getFailedCount());
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void publishEventUpdate_WhenMetersAreBound_ShouldRecordSerializationAndAckTimes() throws JsonProcessingException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        publisher.bindTo(registry);
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        when(objectMapper.writeValueAsString(message)).thenReturn("{}");
+
+        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(future);
+        assertTrue(Double.isNaN(registry.get("event.tracker.publish.buffer.usage").gauge().value()));
+        publisher.publishEventUpdate(message);
+
+        // Act
+        future.completeExceptionally(new RuntimeException("Kafka error"));
+
+        // Assert
+        assertEquals(1, registry.get("event.tracker.publish.serialization").tag("format", "json").timer().count());
+        assertEquals(1, registry.get("event.tracker.publish.ack").tag("outcome", "failure").timer().count());
+        assertEquals(0, registry.get("event.tracker.publish.ack").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void publishEventUpdate_WhenBinaryWireFormat_ShouldSendThroughTypedTemplate() throws JsonProcessingException {
+        // Arrange
+        ReflectionTestUtils.setField(publisher, "wireFormat", "binary");
+        EventUpdateMessage message = EventUpdateMessage.builder()
+                .eventId("event123")
+                .currentScore(Score.of(2, 1))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        CompletableFuture<SendResult<String, EventUpdateMessage>> future = new CompletableFuture<>();
+        when(eventUpdateKafkaTemplate.send("test-topic", "event123", message)).thenReturn(future);
+
+        // Act
+        publisher.publishEventUpdate(message);
+
+        // Assert
+        verify(eventUpdateKafkaTemplate, times(1)).send("test-topic", "event123", message);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
 }
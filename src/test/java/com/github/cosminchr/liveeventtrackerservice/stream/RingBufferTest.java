@@ -0,0 +1,97 @@
+package com.github.cosminchr.liveeventtrackerservice.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        // Act & Assert
+        assertEquals(1, new RingBuffer<String>(1).getCapacity());
+        assertEquals(8, new RingBuffer<String>(5).getCapacity());
+        assertEquals(8, new RingBuffer<String>(8).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(0));
+    }
+
+    @Test
+    void get_ShouldReturnPublishedValuesUntilOverwritten() {
+        // Arrange
+        RingBuffer<String> ringBuffer = new RingBuffer<>(4);
+
+        // Act
+        for (int i = 0; i < 6; i++) {
+            ringBuffer.publish("value" + i);
+        }
+
+        // Assert
+        assertEquals(6, ringBuffer.getNextSequence());
+        assertEquals(2, ringBuffer.getOldestSequence());
+        assertNull(ringBuffer.get(1));
+        assertTrue(ringBuffer.isOverrun(1));
+        assertEquals("value2", ringBuffer.get(2));
+        assertEquals("value5", ringBuffer.get(5));
+        assertFalse(ringBuffer.isOverrun(2));
+        assertNull(ringBuffer.get(6));
+    }
+
+    @Test
+    void publish_WhenCalledConcurrently_ShouldAssignEverySequenceOnce() throws InterruptedException {
+        // Arrange
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(4096);
+        int producers = 4;
+        int valuesPerProducer = 1000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < valuesPerProducer; i++) {
+                    ringBuffer.publish(producer * valuesPerProducer + i);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+
+        // Assert
+        List<Integer> values = new ArrayList<>();
+        for (long sequence = 0; sequence < ringBuffer.getNextSequence(); sequence++) {
+            values.add(ringBuffer.get(sequence));
+        }
+        assertEquals(producers * valuesPerProducer, values.size());
+        assertEquals(producers * valuesPerProducer, values.stream().distinct().count());
+    }
+
+    @Test
+    void publish_WhenProducersLapEachOther_ShouldKeepNewestValueInEverySlot() throws InterruptedException {
+        // Arrange - a tiny buffer, so producers keep claiming sequences that map to the same slots
+        RingBuffer<Long> ringBuffer = new RingBuffer<>(2);
+        int producers = 8;
+        int valuesPerProducer = 20_000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < valuesPerProducer; i++) {
+                    ringBuffer.publish((long) i);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+
+        // Assert - both slots hold the last two sequences, not a value from an earlier lap
+        long next = ringBuffer.getNextSequence();
+        assertEquals(producers * valuesPerProducer, next);
+        assertNotNull(ringBuffer.get(next - 1));
+        assertNotNull(ringBuffer.get(next - 2));
+    }
+}